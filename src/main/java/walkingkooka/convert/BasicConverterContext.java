@@ -34,7 +34,9 @@ import walkingkooka.text.BinaryTextContext;
 import walkingkooka.text.BinaryTextContextDelegator;
 
 import java.math.MathContext;
+import java.util.BitSet;
 import java.util.Currency;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
@@ -77,7 +79,8 @@ final class BasicConverterContext implements ConverterContext,
             binaryTextContext,
             currencyLocaleContext,
             dateTimeContext,
-            decimalNumberContext
+            decimalNumberContext,
+            false // threadSafe
         );
     }
 
@@ -92,7 +95,8 @@ final class BasicConverterContext implements ConverterContext,
                                   final BinaryTextContext binaryTextContext,
                                   final CurrencyLocaleContext currencyLocaleContext,
                                   final DateTimeContext dateTimeContext,
-                                  final DecimalNumberContext decimalNumberContext) {
+                                  final DecimalNumberContext decimalNumberContext,
+                                  final boolean threadSafe) {
         super();
 
         this.canNumbersHaveGroupSeparator = canNumbersHaveGroupSeparator;
@@ -108,6 +112,8 @@ final class BasicConverterContext implements ConverterContext,
         this.currencyLocaleContext = currencyLocaleContext;
         this.dateTimeContext = dateTimeContext;
         this.decimalNumberContext = decimalNumberContext;
+
+        this.threadSafe = threadSafe;
     }
 
     @Override
@@ -117,6 +123,37 @@ final class BasicConverterContext implements ConverterContext,
 
     private final boolean canNumbersHaveGroupSeparator;
 
+    /**
+     * Defaults to false, because the {@link Converter} and given contexts may hold state that is not safe to share.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return this.threadSafe;
+    }
+
+    /**
+     * Returns a copy with the given thread safe flag. No per thread copy of this context is made for parallel
+     * conversions, the state that matters belongs to the {@link Converter}, so the caller must know it is safe.
+     */
+    BasicConverterContext setThreadSafe(final boolean threadSafe) {
+        return this.threadSafe == threadSafe ?
+            this :
+            new BasicConverterContext(
+                this.canNumbersHaveGroupSeparator,
+                this.dateOffset,
+                this.valueSeparator,
+                this.converter,
+                this.multiplier,
+                this.binaryTextContext,
+                this.currencyLocaleContext,
+                this.dateTimeContext,
+                this.decimalNumberContext,
+                threadSafe
+            );
+    }
+
+    private final boolean threadSafe;
+
     @Override
     public long dateOffset() {
         return this.dateOffset;
@@ -136,6 +173,63 @@ final class BasicConverterContext implements ConverterContext,
         return this.converter.convert(value, target, this);
     }
 
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final ConverterFailure failure) {
+        return this.converter.convertBoolean(value, this, failure);
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final ConverterFailure failure) {
+        return this.converter.convertDouble(value, this, failure);
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final ConverterFailure failure) {
+        return this.converter.convertInt(value, this, failure);
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final ConverterFailure failure) {
+        return this.converter.convertLong(value, this, failure);
+    }
+
+    /**
+     * Resolves the {@link Converter} for the value {@link Class} and target type once, returning a {@link ConverterLike}
+     * that uses it with this context.
+     */
+    @Override
+    public ConverterLike converterFor(final Class<?> valueType,
+                                      final Class<?> type) {
+        final Converter<ConverterContext> converter = this.converter.converterFor(
+            valueType,
+            type
+        );
+        return this.converter == converter ?
+            this :
+            ConverterLikeConverter.with(
+                converter,
+                this
+            );
+    }
+
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final T[] results,
+                              final BitSet failures) {
+        return this.converter.convertAll(
+            values,
+            type,
+            this,
+            results,
+            failures
+        );
+    }
+
     private final Converter<ConverterContext> converter;
 
     @Override
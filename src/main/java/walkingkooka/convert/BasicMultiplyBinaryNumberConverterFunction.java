@@ -17,6 +17,10 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.math.HasMathContext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
 
 /**
@@ -52,7 +56,7 @@ final class BasicMultiplyBinaryNumberConverterFunction<C extends ConverterContex
         Objects.requireNonNull(context, "context");
 
         return context.convertOrFail(
-            BasicMultiplyBinaryNumberConverterFunctionNumberVisitor.multiply(
+            multiply(
                 context.convertOrFail(
                     left,
                     targetType
@@ -67,6 +71,49 @@ final class BasicMultiplyBinaryNumberConverterFunction<C extends ConverterContex
         );
     }
 
+    /**
+     * Multiplies two numbers assuming they have both been converted to the same type.
+     */
+    private static Number multiply(final Number left,
+                                   final Number right,
+                                   final HasMathContext hasMathContext) {
+        final Number result;
+
+        switch (ConverterNumberTypes.numberType(right)) {
+            case ConverterNumberTypes.BIG_DECIMAL:
+                result = ((BigDecimal) left).multiply(
+                    (BigDecimal) right,
+                    hasMathContext.mathContext()
+                );
+                break;
+            case ConverterNumberTypes.BIG_INTEGER:
+                result = ((BigInteger) left).multiply((BigInteger) right);
+                break;
+            case ConverterNumberTypes.BYTE:
+                result = left.byteValue() * right.byteValue();
+                break;
+            case ConverterNumberTypes.DOUBLE:
+                result = left.doubleValue() * right.doubleValue();
+                break;
+            case ConverterNumberTypes.FLOAT:
+                result = left.floatValue() * right.floatValue();
+                break;
+            case ConverterNumberTypes.INTEGER:
+                result = left.intValue() * right.intValue();
+                break;
+            case ConverterNumberTypes.LONG:
+                result = left.longValue() * right.longValue();
+                break;
+            case ConverterNumberTypes.SHORT:
+                result = left.shortValue() * right.shortValue();
+                break;
+            default:
+                throw new UnsupportedOperationException();
+        }
+
+        return result;
+    }
+
     // Object...........................................................................................................
 
     @Override
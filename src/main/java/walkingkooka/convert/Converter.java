@@ -21,6 +21,9 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.text.CharSequences;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Converts an object instance to a requested target {@link Class class}.
  */
@@ -58,6 +61,14 @@ public interface Converter<C extends ConverterContext> {
         return can;
     }
 
+    /**
+     * Declares the source and target types this {@link Converter} may convert, allowing composites to skip it without
+     * calling {@link #canConvert(Object, Class, ConverterContext)} or {@link #convert(Object, Class, ConverterContext)}.
+     */
+    default ConverterCapabilities capabilities() {
+        return ConverterCapabilities.UNKNOWN;
+    }
+
     /**
      * Converts the given value to the requested type returning an {@link Either} with {@link Either#leftValue()} holding
      * the result or {@link Either#rightValue()} holding an failure message.
@@ -66,6 +77,22 @@ public interface Converter<C extends ConverterContext> {
                                   final Class<T> type,
                                   final C context);
 
+    /**
+     * A single pass alternative to {@link #convert(Object, Class, ConverterContext)} which returns the shared
+     * {@link #notSupported()} result when this {@link Converter} does not support the value or target type, instead of
+     * testing {@link #canConvert(Object, Class, ConverterContext)} first and then building a failure message. Composites
+     * should prefer this method when trying several {@link Converter converters}.
+     */
+    default <T> Either<T, String> tryConvert(final Object value,
+                                             final Class<T> type,
+                                             final C context) {
+        return this.convert(
+            value,
+            type,
+            context
+        );
+    }
+
     /**
      * Converts the given value to the {@link Class target type} or throws a {@link ConverterException}
      */
@@ -84,6 +111,112 @@ public interface Converter<C extends ConverterContext> {
         return converted.leftValue();
     }
 
+    // primitives.......................................................................................................
+
+    /**
+     * Converts the value to a <code>boolean</code> without an {@link Either} or boxing, returning false and recording
+     * any failure in the {@link ConverterFailure}. The default unboxes the result of
+     * {@link #tryConvert(Object, Class, ConverterContext)}, sub classes should override with an unboxed implementation.
+     */
+    default boolean convertBoolean(final Object value,
+                                   final C context,
+                                   final ConverterFailure failure) {
+        return failure.booleanValue(
+            value,
+            this.tryConvert(
+                value,
+                Boolean.class,
+                context
+            )
+        );
+    }
+
+    /**
+     * Converts the value to a <code>double</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default double convertDouble(final Object value,
+                                 final C context,
+                                 final ConverterFailure failure) {
+        return failure.doubleValue(
+            value,
+            this.tryConvert(
+                value,
+                Double.class,
+                context
+            )
+        );
+    }
+
+    /**
+     * Converts the value to an <code>int</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default int convertInt(final Object value,
+                           final C context,
+                           final ConverterFailure failure) {
+        return failure.intValue(
+            value,
+            this.tryConvert(
+                value,
+                Integer.class,
+                context
+            )
+        );
+    }
+
+    /**
+     * Converts the value to a <code>long</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default long convertLong(final Object value,
+                             final C context,
+                             final ConverterFailure failure) {
+        return failure.longValue(
+            value,
+            this.tryConvert(
+                value,
+                Long.class,
+                context
+            )
+        );
+    }
+
+    // converterFor.....................................................................................................
+
+    /**
+     * Returns the {@link Converter} that would be used to convert values of the given {@link Class} to the target
+     * type, allowing a caller converting many values of the same {@link Class} to resolve the {@link Converter} once.
+     * Composites such as {@link Converters#collection(List)} return only the members whose {@link ConverterCapabilities}
+     * may convert the value {@link Class}, the default returns this.
+     */
+    default Converter<C> converterFor(final Class<?> valueType,
+                                      final Class<?> type) {
+        return this;
+    }
+
+    // batch............................................................................................................
+
+    /**
+     * Converts all values to the same target type, writing each result to the same index in results and setting the
+     * bit of each value that failed in failures, returning the number of failures. A failed value has a null result,
+     * the failure message may be retrieved by converting that value with {@link #convert(Object, Class, ConverterContext)}.
+     * <br>
+     * The default converts one value at a time, composites override this to resolve the members that may convert each
+     * distinct value {@link Class} once per batch.
+     */
+    default <T> int convertAll(final List<?> values,
+                               final Class<T> type,
+                               final C context,
+                               final T[] results,
+                               final BitSet failures) {
+        return ConverterBatch.convertEach(
+            this,
+            values,
+            type,
+            context,
+            results,
+            failures
+        );
+    }
+
     /**
      * Type safe helper without any casts that wraps a successful conversion value.
      */
@@ -92,6 +225,24 @@ public interface Converter<C extends ConverterContext> {
         return Either.left((T) value);
     }
 
+    /**
+     * The shared result returned by {@link #tryConvert(Object, Class, ConverterContext)} when a value or target type is
+     * not supported. It has no message of its own, {@link #convert(Object, Class, ConverterContext)} replaces it with
+     * {@link #failConversion(Object, Class)} so the message is only built when it is actually returned. A value of a
+     * supported type that cannot be converted must return a failure message instead, so composites can tell the two
+     * apart.
+     */
+    default <T> Either<T, String> notSupported() {
+        return FailConversion.notSupported();
+    }
+
+    /**
+     * Tests if the given result is the shared {@link #notSupported()} result.
+     */
+    default boolean isNotSupported(final Either<?, String> result) {
+        return FailConversion.isNotSupported(result);
+    }
+
     /**
      * Useful to report a failed conversion with a standard error message.
      */
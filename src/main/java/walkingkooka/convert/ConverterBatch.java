@@ -0,0 +1,298 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers that convert a batch of values to one target type, used by the default
+ * {@link Converter#convertAll(List, Class, ConverterContext, Object[], BitSet)} and by composites which resolve the
+ * members that may convert each distinct value {@link Class} once per batch rather than once per value.
+ */
+final class ConverterBatch {
+
+    /**
+     * Converts each value using {@link Converter#tryConvert(Object, Class, ConverterContext)}, writing successful
+     * results and clearing the failure bit, or writing null and setting the failure bit, returning the number of failures.
+     */
+    static <C extends ConverterContext, T> int convertEach(final Converter<C> converter,
+                                                           final List<?> values,
+                                                           final Class<T> type,
+                                                           final C context,
+                                                           final T[] results,
+                                                           final BitSet failures) {
+        final int count = values.size();
+        checkResults(
+            count,
+            results
+        );
+
+        int failed = 0;
+
+        for (int i = 0; i < count; i++) {
+            final Either<T, String> result = converter.tryConvert(
+                values.get(i),
+                type,
+                context
+            );
+            if (result.isLeft()) {
+                results[i] = result.leftValue();
+                failures.clear(i);
+            } else {
+                results[i] = null;
+                failures.set(i);
+                failed++;
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * Converts a batch by grouping values by {@link Class}, resolving the members whose {@link ConverterCapabilities}
+     * may convert each group once, and then passing each group to the first of those members as a sub batch. Values
+     * that member fails to convert are passed to the next member and so on, which gives the same results as trying
+     * the members in order for each value.
+     */
+    static <C extends ConverterContext, T> int convertAll(final List<Converter<C>> members,
+                                                          final ConverterCapabilities[] memberCapabilities,
+                                                          final List<?> values,
+                                                          final Class<T> type,
+                                                          final C context,
+                                                          final T[] results,
+                                                          final BitSet failures) {
+        final int count = values.size();
+        checkResults(
+            count,
+            results
+        );
+
+        int failed = 0;
+
+        if (count > 0) {
+            final Class<?> first = valueType(values.get(0));
+            int i = 1;
+            while (i < count && first == valueType(values.get(i))) {
+                i++;
+            }
+
+            if (count == i) {
+                // the common case of a column of values that are all the same class.
+                failed = convertGroup(
+                    members,
+                    plan(
+                        memberCapabilities,
+                        first,
+                        type
+                    ),
+                    values,
+                    null, // all values
+                    type,
+                    context,
+                    results,
+                    failures
+                );
+            } else {
+                final Map<Class<?>, ConverterBatchGroup> groups = new HashMap<>();
+                for (int j = 0; j < count; j++) {
+                    final Class<?> valueType = valueType(values.get(j));
+                    ConverterBatchGroup group = groups.get(valueType);
+                    if (null == group) {
+                        group = ConverterBatchGroup.empty();
+                        groups.put(
+                            valueType,
+                            group
+                        );
+                    }
+                    group.add(j);
+                }
+
+                for (final Map.Entry<Class<?>, ConverterBatchGroup> entry : groups.entrySet()) {
+                    failed += convertGroup(
+                        members,
+                        plan(
+                            memberCapabilities,
+                            entry.getKey(),
+                            type
+                        ),
+                        values,
+                        entry.getValue()
+                            .indices(),
+                        type,
+                        context,
+                        results,
+                        failures
+                    );
+                }
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * Converts the values at the given indices, or all values when indices is null, trying each planned member in
+     * turn on the values that remain unconverted.
+     */
+    private static <C extends ConverterContext, T> int convertGroup(final List<Converter<C>> members,
+                                                                    final int[] plan,
+                                                                    final List<?> values,
+                                                                    final int[] indices,
+                                                                    final Class<T> type,
+                                                                    final C context,
+                                                                    final T[] results,
+                                                                    final BitSet failures) {
+        int[] pending = indices;
+        int pendingCount = null == indices ?
+            values.size() :
+            indices.length;
+
+        for (final int member : plan) {
+            final Converter<C> converter = members.get(member);
+
+            if (null == pending) {
+                // the first member converts the whole batch directly into results and failures
+                final int count = values.size();
+                pendingCount = converter.convertAll(
+                    values,
+                    type,
+                    context,
+                    results,
+                    failures
+                );
+
+                final int[] next = new int[pendingCount];
+                int k = 0;
+                for (int i = failures.nextSetBit(0); i >= 0 && i < count; i = failures.nextSetBit(i + 1)) {
+                    next[k++] = i;
+                }
+                pending = next;
+            } else {
+                final Object[] pendingValues = new Object[pendingCount];
+                for (int i = 0; i < pendingCount; i++) {
+                    pendingValues[i] = values.get(pending[i]);
+                }
+
+                final T[] pendingResults = Arrays.copyOf(
+                    results,
+                    pendingCount
+                );
+                final BitSet pendingFailures = new BitSet();
+                final int pendingFailed = converter.convertAll(
+                    Arrays.asList(pendingValues),
+                    type,
+                    context,
+                    pendingResults,
+                    pendingFailures
+                );
+
+                final int[] next = new int[pendingFailed];
+                int k = 0;
+                for (int i = 0; i < pendingCount; i++) {
+                    if (pendingFailures.get(i)) {
+                        next[k++] = pending[i];
+                    } else {
+                        final int index = pending[i];
+                        results[index] = pendingResults[i];
+                        failures.clear(index);
+                    }
+                }
+
+                pending = next;
+                pendingCount = pendingFailed;
+            }
+
+            if (0 == pendingCount) {
+                break;
+            }
+        }
+
+        if (null == pending) {
+            // no member may convert the values
+            final int count = values.size();
+            Arrays.fill(
+                results,
+                0,
+                count,
+                null
+            );
+            failures.set(
+                0,
+                count
+            );
+        } else {
+            for (int i = 0; i < pendingCount; i++) {
+                final int index = pending[i];
+                results[index] = null;
+                failures.set(index);
+            }
+        }
+
+        return pendingCount;
+    }
+
+    /**
+     * Returns the indices of the members whose {@link ConverterCapabilities} may convert the value {@link Class} to
+     * the target type, in order.
+     */
+    static int[] plan(final ConverterCapabilities[] memberCapabilities,
+                      final Class<?> valueType,
+                      final Class<?> type) {
+        final int count = memberCapabilities.length;
+        final int[] indices = new int[count];
+        int planCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (memberCapabilities[i].mayConvert(valueType, type)) {
+                indices[planCount] = i;
+                planCount++;
+            }
+        }
+
+        return Arrays.copyOf(
+            indices,
+            planCount
+        );
+    }
+
+    private static Class<?> valueType(final Object value) {
+        return null == value ?
+            null :
+            value.getClass();
+    }
+
+    private static void checkResults(final int count,
+                                     final Object[] results) {
+        if (results.length < count) {
+            throw new IllegalArgumentException("Results length " + results.length + " < " + count + " values");
+        }
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterBatch() {
+        throw new UnsupportedOperationException();
+    }
+}
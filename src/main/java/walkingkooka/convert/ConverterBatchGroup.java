@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.util.Arrays;
+
+/**
+ * The indices of the values in a batch that share the same {@link Class}, used by {@link ConverterBatch}.
+ */
+final class ConverterBatchGroup {
+
+    static ConverterBatchGroup empty() {
+        return new ConverterBatchGroup();
+    }
+
+    private ConverterBatchGroup() {
+        super();
+    }
+
+    void add(final int index) {
+        int[] indices = this.indices;
+        final int count = this.count;
+        if (count == indices.length) {
+            indices = Arrays.copyOf(
+                indices,
+                count * 2
+            );
+            this.indices = indices;
+        }
+        indices[count] = index;
+        this.count = count + 1;
+    }
+
+    /**
+     * Returns the indices in the order they were added.
+     */
+    int[] indices() {
+        return Arrays.copyOf(
+            this.indices,
+            this.count
+        );
+    }
+
+    private int[] indices = new int[8];
+
+    private int count;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return Arrays.toString(
+            this.indices()
+        );
+    }
+}
@@ -63,6 +63,16 @@ final class ConverterBinaryToString<C extends ConverterContext> implements Tryin
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasBinary.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
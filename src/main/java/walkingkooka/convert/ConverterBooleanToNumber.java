@@ -63,6 +63,57 @@ final class ConverterBooleanToNumber<C extends ConverterContext> implements Tryi
             null;
     }
 
+    // primitives.......................................................................................................
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return value instanceof Boolean ?
+            (Boolean) value ? 1 : 0 :
+            TryingShortCircuitingConverter.super.convertDouble(
+                value,
+                context,
+                failure
+            );
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        return value instanceof Boolean ?
+            (Boolean) value ? 1 : 0 :
+            TryingShortCircuitingConverter.super.convertInt(
+                value,
+                context,
+                failure
+            );
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return value instanceof Boolean ?
+            (Boolean) value ? 1 : 0 :
+            TryingShortCircuitingConverter.super.convertLong(
+                value,
+                context,
+                failure
+            );
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Boolean.class),
+        ConverterCapabilities.NUMBER
+    );
+
     @Override
     public String toString() {
         return "Boolean to Number";
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.set.Sets;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Declares the source and target {@link Class types} a {@link Converter} may convert, without requiring a value or
+ * {@link ConverterContext}. A {@link Converter} will never successfully convert a non null value whose {@link Class}
+ * is not one of the source types or a sub class of one, or to a target {@link Class type} that is not one of the
+ * target types. An empty {@link Optional} means the types are unknown or dynamic, and any {@link Class} may convert.
+ * <br>
+ * Source types that are interfaces can only be matched by a value itself, therefore a {@link Class} that does not
+ * match any source class is still considered convertible when an interface is present.
+ * <br>
+ * Null values are never rejected because many converters accept null for any target type.
+ */
+public final class ConverterCapabilities {
+
+    /**
+     * Marker for unknown or dynamic source or target types.
+     */
+    public final static Optional<Set<Class<?>>> ANY = Optional.empty();
+
+    /**
+     * All the JRE {@link Number} types, including {@link Number} itself.
+     */
+    final static Optional<Set<Class<?>>> NUMBER = types(
+        Number.class,
+        BigDecimal.class,
+        BigInteger.class,
+        Byte.class,
+        Double.class,
+        Float.class,
+        Integer.class,
+        Long.class,
+        Short.class
+    );
+
+    /**
+     * Capabilities of a {@link Converter} which has not declared any types.
+     */
+    public final static ConverterCapabilities UNKNOWN = new ConverterCapabilities(
+        ANY,
+        ANY
+    );
+
+    /**
+     * Capabilities of a {@link Converter} which never converts anything.
+     */
+    public final static ConverterCapabilities NONE = new ConverterCapabilities(
+        types(),
+        types()
+    );
+
+    /**
+     * Helper that creates a known set of source or target types.
+     */
+    public static Optional<Set<Class<?>>> types(final Class<?>... types) {
+        return Optional.of(
+            Sets.of(types)
+        );
+    }
+
+    /**
+     * Factory that creates a new {@link ConverterCapabilities}.
+     */
+    public static ConverterCapabilities with(final Optional<Set<Class<?>>> sourceTypes,
+                                             final Optional<Set<Class<?>>> targetTypes) {
+        Objects.requireNonNull(sourceTypes, "sourceTypes");
+        Objects.requireNonNull(targetTypes, "targetTypes");
+
+        return sourceTypes.equals(ANY) && targetTypes.equals(ANY) ?
+            UNKNOWN :
+            new ConverterCapabilities(
+                sourceTypes.map(Sets::immutable),
+                targetTypes.map(Sets::immutable)
+            );
+    }
+
+    private ConverterCapabilities(final Optional<Set<Class<?>>> sourceTypes,
+                                  final Optional<Set<Class<?>>> targetTypes) {
+        super();
+        this.sourceTypes = sourceTypes;
+        this.targetTypes = targetTypes;
+    }
+
+    /**
+     * The source types, or {@link #ANY} when unknown.
+     */
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.sourceTypes;
+    }
+
+    private final Optional<Set<Class<?>>> sourceTypes;
+
+    /**
+     * The target types, or {@link #ANY} when unknown.
+     */
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.targetTypes;
+    }
+
+    private final Optional<Set<Class<?>>> targetTypes;
+
+    /**
+     * Returns true if both the source and target types are unknown.
+     */
+    public boolean isUnknown() {
+        return false == this.sourceTypes.isPresent() &&
+            false == this.targetTypes.isPresent();
+    }
+
+    /**
+     * Returns false only when these capabilities prove that a value of the given {@link Class} cannot be converted to
+     * the target {@link Class type}. A null value type means the value is null.
+     */
+    public boolean mayConvert(final Class<?> valueType,
+                              final Class<?> type) {
+        return null == valueType ||
+            (this.isTargetType(type) && this.isSourceType(valueType));
+    }
+
+    private boolean isTargetType(final Class<?> type) {
+        final Set<Class<?>> types = this.targetTypes.orElse(null);
+        return null == types ||
+            types.contains(type);
+    }
+
+    /**
+     * Because Class#isAssignableFrom is not supported by J2CL, super classes are walked and compared, and any declared
+     * interface makes the answer unknown.
+     */
+    private boolean isSourceType(final Class<?> valueType) {
+        final Set<Class<?>> types = this.sourceTypes.orElse(null);
+
+        boolean isSourceType = null == types;
+        if (false == isSourceType) {
+            Class<?> type = valueType;
+            do {
+                isSourceType = types.contains(type);
+                if (isSourceType) {
+                    break;
+                }
+                type = type.getSuperclass();
+            } while (null != type);
+
+            if (false == isSourceType) {
+                for (final Class<?> possible : types) {
+                    if (possible.isInterface()) {
+                        isSourceType = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return isSourceType;
+    }
+
+    /**
+     * Returns capabilities that include both this and the given, useful for a composite that tries several
+     * {@link Converter converters}.
+     */
+    public ConverterCapabilities or(final ConverterCapabilities other) {
+        Objects.requireNonNull(other, "other");
+
+        return this.equals(other) ?
+            this :
+            with(
+                or(
+                    this.sourceTypes,
+                    other.sourceTypes
+                ),
+                or(
+                    this.targetTypes,
+                    other.targetTypes
+                )
+            );
+    }
+
+    private static Optional<Set<Class<?>>> or(final Optional<Set<Class<?>>> left,
+                                              final Optional<Set<Class<?>>> right) {
+        Optional<Set<Class<?>>> or = ANY;
+
+        if (left.isPresent() && right.isPresent()) {
+            final Set<Class<?>> union = new HashSet<>(left.get());
+            union.addAll(right.get());
+            or = Optional.of(union);
+        }
+
+        return or;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.sourceTypes,
+            this.targetTypes
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterCapabilities && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterCapabilities other) {
+        return this.sourceTypes.equals(other.sourceTypes) &&
+            this.targetTypes.equals(other.targetTypes);
+    }
+
+    @Override
+    public String toString() {
+        return toString(this.sourceTypes) +
+            " to " +
+            toString(this.targetTypes);
+    }
+
+    private static String toString(final Optional<Set<Class<?>>> types) {
+        return types.map(
+            t -> t.stream()
+                .map(Class::getSimpleName)
+                .sorted()
+                .collect(Collectors.joining(", "))
+        ).orElse("*");
+    }
+}
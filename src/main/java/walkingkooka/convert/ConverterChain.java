@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -63,7 +66,7 @@ final class ConverterChain<C extends ConverterContext> implements Converter<C> {
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
-        return this.convert(
+        return this.tryConvert(
             value,
             type,
             context
@@ -74,15 +77,37 @@ final class ConverterChain<C extends ConverterContext> implements Converter<C> {
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
                                          final C context) {
+        final Either<T, String> result = this.tryConvert(
+            value,
+            type,
+            context
+        );
+
+        return this.isNotSupported(result) ?
+            this.failConversion(
+                value,
+                type
+            ) :
+            result;
+    }
+
+    /**
+     * Returns {@link #notSupported()} if the first {@link Converter} does not support the value, any other failure of
+     * either {@link Converter} is reported with the standard failure message of the chain.
+     */
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
         Either<T, String> result;
 
-        final Either<?, String> intermediateResult = this.first.convert(
+        final Either<?, String> intermediateResult = this.first.tryConvert(
             value,
             this.intermediateType,
             context
         );
         if (intermediateResult.isLeft()) {
-            result = this.second.convert(
+            result = this.second.tryConvert(
                 intermediateResult.leftValue(),
                 type,
                 context
@@ -95,19 +120,213 @@ final class ConverterChain<C extends ConverterContext> implements Converter<C> {
                 );
             }
         } else {
-            result = this.failConversion(
+            result = this.isNotSupported(intermediateResult) ?
+                this.notSupported() :
+                this.failConversion(
+                    value,
+                    type
+                );
+        }
+
+        return result;
+    }
+
+    // primitives.......................................................................................................
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        return ConverterPrimitives.toBoolean(
+            this.convertPrimitive(
                 value,
-                type
+                context,
+                failure,
+                ConverterPrimitives.BOOLEAN
+            )
+        );
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return ConverterPrimitives.toDouble(
+            this.convertPrimitive(
+                value,
+                context,
+                failure,
+                ConverterPrimitives.DOUBLE
+            )
+        );
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        return ConverterPrimitives.toInt(
+            this.convertPrimitive(
+                value,
+                context,
+                failure,
+                ConverterPrimitives.INT
+            )
+        );
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return this.convertPrimitive(
+            value,
+            context,
+            failure,
+            ConverterPrimitives.LONG
+        );
+    }
+
+    /**
+     * Converts the value to the intermediate type and then passes that to the primitive conversion of the second
+     * {@link Converter}, any failure is reported for the original value.
+     */
+    private long convertPrimitive(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure,
+                                  final int primitive) {
+        long converted = 0;
+
+        final Either<?, String> intermediateResult = this.first.tryConvert(
+            value,
+            this.intermediateType,
+            context
+        );
+        if (intermediateResult.isLeft()) {
+            converted = ConverterPrimitives.convert(
+                this.second,
+                intermediateResult.leftValue(),
+                context,
+                failure,
+                primitive
             );
         }
+        if (intermediateResult.isRight() || failure.isFailed()) {
+            failure.fail(
+                value,
+                ConverterPrimitives.type(primitive)
+            );
+            converted = 0;
+        }
 
-        return result;
+        return converted;
+    }
+
+    // batch............................................................................................................
+
+    /**
+     * Converts the entire batch to the intermediate type using the first {@link Converter}, and then converts the
+     * successful intermediate values using the second {@link Converter} as one batch.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] results,
+                              final BitSet failures) {
+        final int count = values.size();
+        final Object[] intermediates = new Object[count];
+        final int intermediateFailed = this.first.convertAll(
+            values,
+            Cast.to(this.intermediateType),
+            context,
+            intermediates,
+            failures
+        );
+
+        int failed;
+        if (0 == intermediateFailed) {
+            failed = this.second.convertAll(
+                Arrays.asList(intermediates),
+                type,
+                context,
+                results,
+                failures
+            );
+        } else {
+            final int convertedCount = count - intermediateFailed;
+            final Object[] converted = new Object[convertedCount];
+            final int[] indices = new int[convertedCount];
+            int j = 0;
+            for (int i = 0; i < count; i++) {
+                if (failures.get(i)) {
+                    results[i] = null;
+                } else {
+                    converted[j] = intermediates[i];
+                    indices[j] = i;
+                    j++;
+                }
+            }
+
+            final T[] secondResults = Arrays.copyOf(
+                results,
+                convertedCount
+            );
+            final BitSet secondFailures = new BitSet();
+            failed = intermediateFailed + this.second.convertAll(
+                Arrays.asList(converted),
+                type,
+                context,
+                secondResults,
+                secondFailures
+            );
+
+            for (int i = 0; i < convertedCount; i++) {
+                final int index = indices[i];
+                if (secondFailures.get(i)) {
+                    results[index] = null;
+                    failures.set(index);
+                } else {
+                    results[index] = secondResults[i];
+                }
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * The source types of the first {@link Converter} and the target types of the second {@link Converter}.
+     */
+    @Override
+    public ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            this.first.capabilities()
+                .sourceTypes(),
+            this.second.capabilities()
+                .targetTypes()
+        );
+    }
+
+    /**
+     * The stages, used by {@link ConverterOptimizer} to rebuild an optimized chain.
+     */
+    Converter<C> first() {
+        return this.first;
     }
 
     private final Converter<C> first;
 
+    Class<?> intermediateType() {
+        return this.intermediateType;
+    }
+
     private final Class<?> intermediateType;
 
+    Converter<C> second() {
+        return this.second;
+    }
+
     private final Converter<C> second;
 
     // Object...........................................................................................................
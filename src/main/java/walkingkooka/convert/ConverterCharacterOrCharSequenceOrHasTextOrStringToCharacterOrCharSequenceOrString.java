@@ -136,6 +136,16 @@ final class ConverterCharacterOrCharSequenceOrHasTextOrStringToCharacterOrCharSe
         return result;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Character.class, CharSequence.class, HasText.class),
+        ConverterCapabilities.types(Character.class, CharSequence.class, String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -60,6 +60,16 @@ final class ConverterCharacterOrStringToString<C extends ConverterContext> imple
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Character.class, String.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -23,8 +23,13 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
 
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +43,26 @@ final class ConverterCollection<C extends ConverterContext> implements Converter
      * Providing zero will result in an {@link IllegalArgumentException}.
      */
     static <C extends ConverterContext> Converter<C> with(final List<Converter<C>> converters) {
+        return with0(
+            converters,
+            false
+        );
+    }
+
+    /**
+     * Factory that creates a {@link ConverterCollection} that remembers, for each value {@link Class} and target
+     * {@link Class type}, the members whose {@link ConverterCapabilities} may convert the pair. Following requests try
+     * only those members, still in order, so results are the same as {@link #with(List)}.
+     */
+    static <C extends ConverterContext> Converter<C> indexed(final List<Converter<C>> converters) {
+        return with0(
+            converters,
+            true
+        );
+    }
+
+    private static <C extends ConverterContext> Converter<C> with0(final List<Converter<C>> converters,
+                                                                   final boolean indexed) {
         Objects.requireNonNull(converters, "converters");
 
         final List<Converter<C>> copy = Lists.immutable(converters);
@@ -51,52 +76,523 @@ final class ConverterCollection<C extends ConverterContext> implements Converter
                 result = copy.get(0);
                 break;
             default:
-                result = new ConverterCollection<>(copy);
+                result = new ConverterCollection<>(
+                    copy,
+                    indexed
+                );
                 break;
         }
 
         return result;
     }
 
-    private ConverterCollection(final List<Converter<C>> converters) {
+    private ConverterCollection(final List<Converter<C>> converters,
+                                final boolean indexed) {
         this.converters = converters;
+
+        final int count = converters.size();
+        final ConverterCapabilities[] memberCapabilities = new ConverterCapabilities[count];
+        ConverterCapabilities capabilities = null;
+
+        for (int i = 0; i < count; i++) {
+            final ConverterCapabilities member = converters.get(i)
+                .capabilities();
+            memberCapabilities[i] = member;
+            capabilities = null == capabilities ?
+                member :
+                capabilities.or(member);
+        }
+
+        this.memberCapabilities = memberCapabilities;
+        this.capabilities = capabilities;
+
+        this.indexed = indexed;
+        this.index = indexed ?
+            new HashMap<>() :
+            null;
     }
 
     @Override
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
-        return this.converters.stream()
-            .anyMatch(c -> c.canConvert(value, type, context));
+        boolean can = false;
+
+        final ConverterCollectionDispatchKey key = ConverterCollectionDispatchKey.with(
+            value,
+            type
+        );
+
+        if (false == this.unsupported.contains(key)) {
+            final List<Converter<C>> converters = this.converters;
+
+            if (this.indexed) {
+                for (final int i : this.plan(key)) {
+                    can = converters.get(i)
+                        .canConvert(
+                            value,
+                            type,
+                            context
+                        );
+                    if (can) {
+                        break;
+                    }
+                }
+            } else {
+                final Class<?> valueType = key.valueType;
+                final int count = converters.size();
+
+                for (int i = 0; i < count; i++) {
+                    if (this.memberCapabilities[i].mayConvert(valueType, type)) {
+                        can = converters.get(i)
+                            .canConvert(
+                                value,
+                                type,
+                                context
+                            );
+                        if (can) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        return can;
     }
 
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
                                          final C context) {
+        final Either<T, String> result = this.tryConvert(
+            value,
+            type,
+            context
+        );
+
+        return this.isNotSupported(result) ?
+            this.failConversion(
+                value,
+                type
+            ) :
+            result;
+    }
+
+    /**
+     * Tries each member using {@link Converter#tryConvert(Object, Class, ConverterContext)}, returning
+     * {@link #notSupported()} only if no member supported the value and target type, so a member that failed to
+     * convert the value is never reported as not supported. Pairs remembered in
+     * {@link #unsupported} return {@link #notSupported()} without trying any member.
+     */
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        final ConverterCollectionDispatchKey key = ConverterCollectionDispatchKey.with(
+            value,
+            type
+        );
+
+        return this.unsupported.contains(key) ?
+            this.notSupported() :
+            this.indexed ?
+                this.tryConvertIndexed(
+                    value,
+                    type,
+                    context,
+                    key
+                ) :
+                this.tryConvertAll(
+                    value,
+                    type,
+                    context,
+                    key
+                );
+    }
+
+    /**
+     * Tries the members remembered for the value {@link Class} and target type in order, returning the first
+     * successful result or the result of the last member tried.
+     */
+    private <T> Either<T, String> tryConvertIndexed(final Object value,
+                                                    final Class<T> type,
+                                                    final C context,
+                                                    final ConverterCollectionDispatchKey key) {
         Either<T, String> result = null;
+        boolean failed = false;
+
+        final List<Converter<C>> converters = this.converters;
 
-        for (final Converter<C> possible : this.converters) {
-            result = possible.convert(value, type, context);
+        for (final int i : this.plan(key)) {
+            result = converters.get(i)
+                .tryConvert(
+                    value,
+                    type,
+                    context
+                );
             if (result.isLeft()) {
                 break;
             }
+            failed |= false == this.isNotSupported(result);
+            // try again.
+        }
+
+        return this.result(
+            result,
+            failed,
+            value,
+            type
+        );
+    }
+
+    /**
+     * Tries each member in order except for members whose {@link ConverterCapabilities} reject the value
+     * {@link Class} and target type, returning the first successful result.
+     * <br>
+     * If all members fail, the result of the last member is returned, which is only {@link #notSupported()} if every
+     * member tried returned {@link #notSupported()}, leaving {@link #convert(Object, Class, ConverterContext)} to
+     * build the failure message. The pair is remembered as
+     * unsupported only if no member {@link ConverterCapabilities} may convert it, as members also return
+     * {@link #notSupported()} for values they cannot parse.
+     */
+    private <T> Either<T, String> tryConvertAll(final Object value,
+                                                final Class<T> type,
+                                                final C context,
+                                                final ConverterCollectionDispatchKey key) {
+        Either<T, String> result = null;
+        boolean failed = false;
+
+        final Class<?> valueType = key.valueType;
+        final ConverterCapabilities[] memberCapabilities = this.memberCapabilities;
+        final List<Converter<C>> converters = this.converters;
+        final int count = converters.size();
+
+        for (int i = 0; i < count; i++) {
+            if (false == memberCapabilities[i].mayConvert(valueType, type)) {
+                continue;
+            }
+            result = converters.get(i)
+                .tryConvert(
+                    value,
+                    type,
+                    context
+                );
+            if (result.isLeft()) {
+                break;
+            }
+            failed |= false == this.isNotSupported(result);
             // try again.
         }
 
         if (null == result) {
-            result = this.failConversion(value, type);
+            this.rememberUnsupported(key);
         }
-        return result;
+
+        return this.result(
+            result,
+            failed,
+            value,
+            type
+        );
+    }
+
+    /**
+     * Returns {@link #notSupported()} if no member was tried, and the standard failure if the last member returned
+     * {@link #notSupported()} after an earlier member failed to convert the value. The message is the same one
+     * {@link #convert(Object, Class, ConverterContext)} would build, but callers such as {@link ConverterPlanner} can
+     * tell that a member handled the value and failed.
+     */
+    private <T> Either<T, String> result(final Either<T, String> result,
+                                         final boolean failed,
+                                         final Object value,
+                                         final Class<T> type) {
+        return null == result ?
+            this.notSupported() :
+            failed && this.isNotSupported(result) ?
+                this.failConversion(
+                    value,
+                    type
+                ) :
+                result;
+    }
+
+    /**
+     * Records a value {@link Class} and target type that no member supports, using the same copy on write as
+     * {@link #plan(ConverterCollectionDispatchKey)}.
+     */
+    private void rememberUnsupported(final ConverterCollectionDispatchKey key) {
+        final Set<ConverterCollectionDispatchKey> unsupported = new HashSet<>(this.unsupported);
+        unsupported.add(key);
+        this.unsupported = unsupported;
+    }
+
+    /**
+     * Returns the indices of the members whose {@link ConverterCapabilities} may convert the
+     * {@link ConverterCollectionDispatchKey}, computing and remembering them the first time the pair is seen. The map
+     * is never modified after it is published, a copy with the new entry replaces it, so concurrent readers never see
+     * a partially updated map, at worst a racing update is lost and recomputed later.
+     */
+    private int[] plan(final ConverterCollectionDispatchKey key) {
+        int[] plan = this.index.get(key);
+        if (null == plan) {
+            plan = ConverterBatch.plan(
+                this.memberCapabilities,
+                key.valueType,
+                key.type
+            );
+
+            final Map<ConverterCollectionDispatchKey, int[]> index = new HashMap<>(this.index);
+            index.put(
+                key,
+                plan
+            );
+            this.index = index;
+        }
+        return plan;
+    }
+
+    // primitives.......................................................................................................
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        return ConverterPrimitives.toBoolean(
+            this.convertPrimitive(
+                value,
+                context,
+                failure,
+                ConverterPrimitives.BOOLEAN
+            )
+        );
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return ConverterPrimitives.toDouble(
+            this.convertPrimitive(
+                value,
+                context,
+                failure,
+                ConverterPrimitives.DOUBLE
+            )
+        );
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        return ConverterPrimitives.toInt(
+            this.convertPrimitive(
+                value,
+                context,
+                failure,
+                ConverterPrimitives.INT
+            )
+        );
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return this.convertPrimitive(
+            value,
+            context,
+            failure,
+            ConverterPrimitives.LONG
+        );
+    }
+
+    /**
+     * Tries each member whose {@link ConverterCapabilities} may convert to the primitive type in order, the failure
+     * of the last member tried is left in the {@link ConverterFailure} if all fail.
+     */
+    private long convertPrimitive(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure,
+                                  final int primitive) {
+        long converted = 0;
+
+        final Class<?> valueType = null == value ?
+            null :
+            value.getClass();
+        final Class<?> type = ConverterPrimitives.type(primitive);
+
+        int i = this.nextMember(
+            valueType,
+            type,
+            0
+        );
+        if (-1 == i) {
+            failure.fail(
+                value,
+                type
+            );
+        }
+        while (-1 != i) {
+            converted = ConverterPrimitives.convert(
+                this.converters.get(i),
+                value,
+                context,
+                failure,
+                primitive
+            );
+            i = failure.isFailed() ?
+                this.nextMember(
+                    valueType,
+                    type,
+                    i + 1
+                ) :
+                -1;
+            if (-1 != i) {
+                failure.clear();
+            }
+        }
+
+        return converted;
+    }
+
+    // converterFor.....................................................................................................
+
+    /**
+     * Returns a new {@link ConverterCollection} holding only the members whose {@link ConverterCapabilities} may convert
+     * the value {@link Class} to the target type, in order. If no member or every member may convert, this is returned.
+     * A single member is also kept in a {@link ConverterCollection}, so failures are still reported by
+     * {@link #convert(Object, Class, ConverterContext)} with the same message.
+     */
+    @Override
+    public Converter<C> converterFor(final Class<?> valueType,
+                                     final Class<?> type) {
+        final int[] plan = ConverterBatch.plan(
+            this.memberCapabilities,
+            valueType,
+            type
+        );
+        final List<Converter<C>> converters = this.converters;
+
+        final Converter<C> converter;
+        if (0 == plan.length || converters.size() == plan.length) {
+            converter = this;
+        } else {
+            final List<Converter<C>> members = Lists.array();
+            for (final int i : plan) {
+                members.add(
+                    converters.get(i)
+                );
+            }
+            converter = new ConverterCollection<>(
+                Lists.immutable(members),
+                false // indexed
+            );
+        }
+
+        return converter;
+    }
+
+    // batch............................................................................................................
+
+    /**
+     * Resolves the members that may convert each distinct value {@link Class} once for the entire batch, and passes
+     * each group of values to those members as a sub batch.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] results,
+                              final BitSet failures) {
+        return ConverterBatch.convertAll(
+            this.converters,
+            this.memberCapabilities,
+            values,
+            type,
+            context,
+            results,
+            failures
+        );
+    }
+
+    /**
+     * Returns the index of the next member starting at the given index whose {@link ConverterCapabilities} may convert
+     * the value {@link Class} to the target type, or -1 if none remain. Primitive conversions try members in order,
+     * the failure of the last member tried is left in the {@link ConverterFailure} if all fail.
+     */
+    private int nextMember(final Class<?> valueType,
+                           final Class<?> type,
+                           final int start) {
+        final ConverterCapabilities[] memberCapabilities = this.memberCapabilities;
+        final int count = memberCapabilities.length;
+
+        int next = -1;
+        for (int i = start; i < count; i++) {
+            if (memberCapabilities[i].mayConvert(valueType, type)) {
+                next = i;
+                break;
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * The members in order, used by {@link ConverterOptimizer} to flatten nested collections.
+     */
+    List<Converter<C>> converters() {
+        return this.converters;
     }
 
     private final List<Converter<C>> converters;
 
+    /**
+     * The combined {@link ConverterCapabilities} of all members.
+     */
+    @Override
+    public ConverterCapabilities capabilities() {
+        return this.capabilities;
+    }
+
+    private final ConverterCapabilities capabilities;
+
+    /**
+     * The {@link ConverterCapabilities} of each member, in the same order as {@link #converters}.
+     */
+    private final ConverterCapabilities[] memberCapabilities;
+
+    /**
+     * When true the members that may convert each value {@link Class} and target type are remembered in
+     * {@link #index}.
+     */
+    boolean isIndexed() {
+        return this.indexed;
+    }
+
+    private final boolean indexed;
+
+    /**
+     * Holds the indices of the members whose {@link ConverterCapabilities} may convert a
+     * {@link ConverterCollectionDispatchKey}.
+     */
+    private volatile Map<ConverterCollectionDispatchKey, int[]> index;
+
+    /**
+     * Value {@link Class} and target type pairs that the {@link ConverterCapabilities} of every member reject. A rebuilt
+     * tree has new collections, so this is never stale.
+     */
+    private volatile Set<ConverterCollectionDispatchKey> unsupported = new HashSet<>();
+
     // Object...........................................................................................................
 
     @Override
     public int hashCode() {
-        return this.converters.hashCode();
+        return Objects.hash(
+            this.converters,
+            this.indexed
+        );
     }
 
     @Override
@@ -106,7 +602,8 @@ final class ConverterCollection<C extends ConverterContext> implements Converter
     }
 
     private boolean equals0(final ConverterCollection<?> other) {
-        return this.converters.equals(other.converters);
+        return this.converters.equals(other.converters) &&
+            this.indexed == other.indexed;
     }
 
     @Override
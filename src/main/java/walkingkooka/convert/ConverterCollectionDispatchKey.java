@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+
+/**
+ * The key used by {@link ConverterCollection} to remember which member {@link Converter converters} may convert a value
+ * of a particular {@link Class} to a target {@link Class type}. Classes are compared by identity, a null value has a
+ * null value type.
+ */
+final class ConverterCollectionDispatchKey {
+
+    static ConverterCollectionDispatchKey with(final Object value,
+                                               final Class<?> type) {
+        return new ConverterCollectionDispatchKey(
+            null == value ?
+                null :
+                value.getClass(),
+            type
+        );
+    }
+
+    static ConverterCollectionDispatchKey types(final Class<?> valueType,
+                                                final Class<?> type) {
+        return new ConverterCollectionDispatchKey(
+            valueType,
+            type
+        );
+    }
+
+    private ConverterCollectionDispatchKey(final Class<?> valueType,
+                                           final Class<?> type) {
+        super();
+        this.valueType = valueType;
+        this.type = type;
+    }
+
+    /**
+     * The {@link Class} of the value being converted, or null if the value was null.
+     */
+    final Class<?> valueType;
+
+    /**
+     * The target {@link Class type}.
+     */
+    final Class<?> type;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.valueType) * 31 + Objects.hashCode(this.type);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterCollectionDispatchKey && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterCollectionDispatchKey other) {
+        return this.valueType == other.valueType &&
+            this.type == other.type;
+    }
+
+    @Override
+    public String toString() {
+        return (null == this.valueType ? "null" : this.valueType.getName()) +
+            " to " +
+            (null == this.type ? "null" : this.type.getName());
+    }
+}
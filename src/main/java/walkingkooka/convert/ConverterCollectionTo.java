@@ -73,6 +73,16 @@ final class ConverterCollectionTo<C extends ConverterContext> implements ShortCi
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Collection.class),
+        ConverterCapabilities.ANY
+    );
+
     // Object...........................................................................................................
 
     @Override
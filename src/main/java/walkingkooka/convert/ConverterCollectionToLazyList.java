@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Converter} that converts a {@link Collection} to a {@link List} view, where each element is converted to
+ * the element type using the {@link ConverterContext} the first time it is read and then remembered. This is an opt-in
+ * alternative to {@link ConverterCollectionToList} for large collections where only some elements are read.
+ * Failures are reported when the element is read, rather than by this converter. Only a {@link List} target is
+ * supported, typed lists such as {@link walkingkooka.math.NumberList} are left to {@link ConverterCollectionToList}.
+ */
+final class ConverterCollectionToLazyList<C extends ConverterContext> implements ShortCircuitingConverter<C> {
+
+    static <C extends ConverterContext> ConverterCollectionToLazyList<C> with(final Class<?> elementType) {
+        return new ConverterCollectionToLazyList<>(
+            Objects.requireNonNull(elementType, "elementType")
+        );
+    }
+
+    private ConverterCollectionToLazyList(final Class<?> elementType) {
+        super();
+        this.elementType = elementType;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return (null == value || value instanceof Collection) &&
+            List.class == type;
+    }
+
+    @Override
+    public <T> Either<T, String> doConvert(final Object value,
+                                           final Class<T> type,
+                                           final C context) {
+        return this.successfulConversion(
+            null == value ?
+                null :
+                ConverterCollectionToLazyListView.with(
+                    (Collection<?>) value,
+                    this.elementType,
+                    context
+                ),
+            type
+        );
+    }
+
+    private final Class<?> elementType;
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Collection.class),
+        ConverterCapabilities.types(List.class)
+    );
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.elementType.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterCollectionToLazyList &&
+                this.elementType.equals(((ConverterCollectionToLazyList<?>) other).elementType);
+    }
+
+    @Override
+    public String toString() {
+        return "Collection to lazy List<" + this.elementType.getSimpleName() + ">";
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * The read only {@link List} returned by {@link ConverterCollectionToLazyList}. The source {@link Collection} is copied
+ * to an array once, so later changes to it are not seen, but no element is converted until it is read. Converted
+ * elements, including nulls, are remembered so each element is converted at most once.
+ */
+final class ConverterCollectionToLazyListView<E> extends AbstractList<E> implements RandomAccess {
+
+    static <E> ConverterCollectionToLazyListView<E> with(final Collection<?> source,
+                                                         final Class<E> elementType,
+                                                         final ConverterContext context) {
+        return new ConverterCollectionToLazyListView<>(
+            source.toArray(),
+            elementType,
+            context
+        );
+    }
+
+    private ConverterCollectionToLazyListView(final Object[] source,
+                                              final Class<E> elementType,
+                                              final ConverterContext context) {
+        super();
+        this.source = source;
+        this.elementType = elementType;
+        this.context = context;
+
+        this.converted = new Optional<?>[source.length];
+    }
+
+    /**
+     * Reads the remembered element without locking, only converting under a lock the first time an element is read.
+     * {@link Optional} only has a final field, so a reference read without the lock always sees a complete value.
+     */
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(
+            index,
+            this.source.length
+        );
+
+        Optional<?> element = this.converted[index];
+        if (null == element) {
+            synchronized (this.converted) {
+                element = this.converted[index];
+                if (null == element) {
+                    element = Optional.ofNullable(
+                        this.context.convertOrFail(
+                            this.source[index],
+                            this.elementType
+                        )
+                    );
+                    this.converted[index] = element;
+                }
+            }
+        }
+
+        return Cast.to(
+            element.orElse(null)
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.source.length;
+    }
+
+    private final Object[] source;
+
+    private final Class<E> elementType;
+
+    private final ConverterContext context;
+
+    /**
+     * Holds each converted element, null until the element is converted, and guards conversions.
+     */
+    private final Optional<?>[] converted;
+}
@@ -22,6 +22,7 @@ import walkingkooka.Either;
 import walkingkooka.collect.list.BooleanList;
 import walkingkooka.collect.list.CsvStringList;
 import walkingkooka.collect.list.ImmutableList;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.list.StringList;
 import walkingkooka.datetime.LocalDateList;
 import walkingkooka.datetime.LocalDateTimeList;
@@ -36,6 +37,7 @@ import java.util.List;
 
 /**
  * A Converter that tries to convert {@link List} to other {@link java.util.List} types such as {@link walkingkooka.collect.list.StringList}.
+ * All elements are converted immediately, {@link ConverterCollectionToLazyList} converts elements as they are read.
  */
 final class ConverterCollectionToList<C extends ConverterContext> implements ShortCircuitingConverter<C> {
 
@@ -86,7 +88,7 @@ final class ConverterCollectionToList<C extends ConverterContext> implements Sho
             if (List.class == type || type == collection.getClass()) {
                 result = collection;
             } else {
-                ImmutableList<?> empty;
+                final ImmutableList<?> empty;
                 final Class<?> elementType;
 
                 if (BooleanList.class == type) {
@@ -126,18 +128,19 @@ final class ConverterCollectionToList<C extends ConverterContext> implements Sho
                     }
                 }
 
+                final List<Object> elements = Lists.array();
                 for (final Object element : (Collection<?>) collection) {
-                    empty = empty.concat(
-                        Cast.to(
-                            context.convertOrFail(
-                                element,
-                                elementType
-                            )
+                    elements.add(
+                        context.convertOrFail(
+                            element,
+                            elementType
                         )
                     );
                 }
 
-                result = empty;
+                result = empty.setElements(
+                    Cast.to(elements)
+                );
             }
         }
 
@@ -147,6 +150,16 @@ final class ConverterCollectionToList<C extends ConverterContext> implements Sho
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Collection.class),
+        ConverterCapabilities.types(List.class, BooleanList.class, LocalDateList.class, LocalDateTimeList.class, LocalTimeList.class, NumberList.class, StringList.class, CsvStringList.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -57,6 +57,16 @@ public interface ConverterContext extends ConverterLike,
      */
     long dateOffset();
 
+    /**
+     * Returns true if this context may be used by several threads at the same time, such as by a batch conversion
+     * split across threads by {@link Converters#parallel(Converter, int)}. The default is false, contexts that are not
+     * known to be thread safe are only used by the calling thread. The threadSafe parameter of
+     * {@link ConverterContexts} basic creates a context that is thread safe.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Multiplies two {@link Number} giving the result of the requested {@link Number} type.
      */
@@ -55,6 +55,12 @@ public interface ConverterContextDelegator extends ConverterContext,
             .canNumbersHaveGroupSeparator();
     }
 
+    @Override
+    default boolean isThreadSafe() {
+        return this.converterContext()
+            .isThreadSafe();
+    }
+
     @Override
     default Charset charset() {
         return this.converterContext()
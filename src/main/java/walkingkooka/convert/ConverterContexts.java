@@ -53,6 +53,35 @@ public final class ConverterContexts implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see BasicConverterContext}
+     * <br>
+     * The returned context reports the given {@link ConverterContext#isThreadSafe()}, which should only be true when
+     * the {@link Converter} and all given contexts are safe to share between threads.
+     */
+    public static ConverterContext basic(final boolean canNumbersHaveGroupSeparator,
+                                         final long dateOffset,
+                                         final char valueSeparator,
+                                         final Converter<ConverterContext> converter,
+                                         final BinaryNumberConverterFunction<ConverterContext> multiplier,
+                                         final BinaryTextContext binaryTextContext,
+                                         final CurrencyLocaleContext currencyLocaleContext,
+                                         final DateTimeContext dateTimeContext,
+                                         final DecimalNumberContext decimalNumberContext,
+                                         final boolean threadSafe) {
+        return BasicConverterContext.with(
+            canNumbersHaveGroupSeparator,
+            dateOffset,
+            valueSeparator,
+            converter,
+            multiplier,
+            binaryTextContext,
+            currencyLocaleContext,
+            dateTimeContext,
+            decimalNumberContext
+        ).setThreadSafe(threadSafe);
+    }
+
     /**
      * {@see FakeConverterContext}
      */
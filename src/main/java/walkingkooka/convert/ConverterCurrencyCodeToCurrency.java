@@ -70,6 +70,16 @@ final class ConverterCurrencyCodeToCurrency<C extends ConverterContext> implemen
             );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(CurrencyCode.class),
+        ConverterCapabilities.types(Currency.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -60,6 +60,16 @@ final class ConverterCurrencyValueTo<C extends ConverterContext> implements Shor
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(CurrencyValue.class),
+        ConverterCapabilities.ANY
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -113,6 +113,16 @@ final class ConverterCurrencyValueToNumber<C extends ConverterContext> implement
         return result;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(CurrencyValue.class),
+        ConverterCapabilities.ANY
+    );
+
     // Object...........................................................................................................
 
     @Override
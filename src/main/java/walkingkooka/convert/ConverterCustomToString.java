@@ -23,6 +23,8 @@ import walkingkooka.text.Whitespace;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -77,6 +79,67 @@ final class ConverterCustomToString<C extends ConverterContext> implements Conve
         return this.converter.convert(value, type, context);
     }
 
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        return this.converter.tryConvert(value, type, context);
+    }
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        return this.converter.convertBoolean(value, context, failure);
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return this.converter.convertDouble(value, context, failure);
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        return this.converter.convertInt(value, context, failure);
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return this.converter.convertLong(value, context, failure);
+    }
+
+    @Override
+    public Converter<C> converterFor(final Class<?> valueType,
+                                     final Class<?> type) {
+        return this.converter.converterFor(valueType, type);
+    }
+
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] results,
+                              final BitSet failures) {
+        return this.converter.convertAll(
+            values,
+            type,
+            context,
+            results,
+            failures
+        );
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return this.converter.capabilities();
+    }
+
     // @VisibleForTesting
     final Converter<C> converter;
 
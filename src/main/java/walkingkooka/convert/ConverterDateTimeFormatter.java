@@ -17,11 +17,15 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Either;
 import walkingkooka.datetime.DateTimeContext;
 
+import java.text.Format;
+import java.text.ParsePosition;
 import java.time.DateTimeException;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DecimalStyle;
+import java.time.temporal.TemporalQuery;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Function;
@@ -63,62 +67,226 @@ abstract class ConverterDateTimeFormatter<S, D, C extends ConverterContext> impl
 
     abstract boolean canConvertType(final Class<?> type);
 
+    /**
+     * Text is first given to the {@link ConverterDateTimeFormatterFastParser} if the {@link DateTimeFormatter} has a
+     * fixed width numeric layout. Text the fast parser rejects is parsed once by {@link #parse(String, Format, DateTimeFormatter, Class)},
+     * so malformed text fails without creating and throwing a {@link java.time.format.DateTimeParseException}.
+     */
     @Override
-    public Object tryConvertOrFail(final Object value,
-                                   final Class<?> type,
-                                   final C context) {
-        Object result = null;
-
-        if(null != value) {
-            final Locale locale = context.locale();
-            final int twoDigitYear = context.twoDigitYear();
-
-            ConverterDateTimeFormatterCache cache = this.cache;
-            DateTimeFormatter dateTimeFormatter;
-            if (null == cache) {
-                dateTimeFormatter = this.formatter.apply(context);
-                this.cache = ConverterDateTimeFormatterCache.with(
-                    locale,
-                    twoDigitYear,
-                    dateTimeFormatter
+    public final <T> Either<T, String> doConvert(final Object value,
+                                                 final Class<T> type,
+                                                 final C context) {
+        Either<T, String> result;
+
+        if (null == value) {
+            result = this.successfulConversion(
+                null,
+                type
+            );
+        } else {
+            final ConverterDateTimeFormatterCacheEntry entry = this.cacheEntry(context);
+            final ConverterDateTimeFormatterFastParser fastParser = entry.fastParser;
+            final Format parser = entry.parser;
+            final DateTimeFormatter formatter = entry.formatter;
+            final S source = (S) value;
+
+            final D fastParsed = null != fastParser ?
+                this.fastParse(
+                    source,
+                    fastParser
+                ) :
+                null;
+
+            if (null != fastParsed) {
+                result = this.successfulConversion(
+                    fastParsed,
+                    type
                 );
             } else {
-                if (false == cache.locale.equals(locale) || cache.twoDigitYear != twoDigitYear) {
-                    dateTimeFormatter = this.formatter.apply(context)
-                        .withDecimalStyle(DecimalStyle.of(locale)
-                            .withPositiveSign(context.positiveSign())
-                            .withNegativeSign(context.negativeSign())
-                            .withDecimalSeparator(context.decimalSeparator()));
-                    cache = ConverterDateTimeFormatterCache.with(
-                        locale,
-                        twoDigitYear,
-                        dateTimeFormatter
+                result = null != parser ?
+                    this.parse(
+                        (String) source,
+                        parser,
+                        formatter,
+                        type
+                    ) :
+                    this.parseOrFormatOrFail(
+                        source,
+                        formatter,
+                        type
                     );
-                    this.cache = cache;
-                }
-
-                dateTimeFormatter = cache.formatter;
             }
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses the text once using the {@link DateTimeFormatter} as a {@link Format}, which reports errors using a
+     * {@link ParsePosition} rather than throwing. Failures have the same message as the
+     * {@link java.time.format.DateTimeParseException} thrown by {@link #parseOrFormat(Object, DateTimeFormatter)}.
+     */
+    private <T> Either<T, String> parse(final String text,
+                                        final Format parser,
+                                        final DateTimeFormatter formatter,
+                                        final Class<T> type) {
+        final Either<T, String> result;
 
-            result = this.parseOrFormat(
-                (S)value,
-                dateTimeFormatter
+        final ParsePosition position = new ParsePosition(0);
+        final Object parsed = parser.parseObject(
+            text,
+            position
+        );
+
+        if (null != parsed) {
+            result = text.length() == position.getIndex() ?
+                this.successfulConversion(
+                    parsed,
+                    type
+                ) :
+                Either.right(
+                    parseFailure(
+                        text,
+                        ", unparsed text found at index " + position.getIndex()
+                    )
+                );
+        } else {
+            result = 0 == position.getIndex() ?
+                Either.right(
+                    parseFailure(
+                        text,
+                        " at index " + position.getErrorIndex()
+                    )
+                ) :
+                // the text was parsed but the fields are invalid, parse again to get the message of the exception
+                this.parseOrFormatOrFail(
+                    (S) text,
+                    formatter,
+                    type
+                );
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds the same message as {@link java.time.format.DateTimeParseException} for text that could not be parsed.
+     */
+    private static String parseFailure(final String text,
+                                       final String position) {
+        return "Text '" +
+            (text.length() > 64 ? text.substring(0, 64) + "..." : text) +
+            "' could not be parsed" +
+            position;
+    }
+
+    /**
+     * Calls {@link #parseOrFormat(Object, DateTimeFormatter)} returning the message of any exception thrown as the failure.
+     */
+    private <T> Either<T, String> parseOrFormatOrFail(final S value,
+                                                      final DateTimeFormatter formatter,
+                                                      final Class<T> type) {
+        Either<T, String> result;
+
+        try {
+            result = this.successfulConversion(
+                this.parseOrFormat(
+                    value,
+                    formatter
+                ),
+                type
             );
+        } catch (final UnsupportedOperationException cause) {
+            throw cause;
+        } catch (final RuntimeException cause) {
+            result = Either.right(cause.getMessage());
         }
 
         return result;
     }
 
+    @Override
+    public final Object tryConvertOrFail(final Object value,
+                                         final Class<?> type,
+                                         final C context) {
+        return null == value ?
+            null :
+            this.parseOrFormat(
+                (S) value,
+                this.cacheEntry(context)
+                    .formatter
+            );
+    }
+
+    /**
+     * Returns the cached {@link DateTimeFormatter} for the {@link Locale}, two digit year and decimal style symbols of
+     * the given {@link ConverterContext}, creating and caching a new {@link DateTimeFormatter} if necessary.
+     */
+    private ConverterDateTimeFormatterCacheEntry cacheEntry(final C context) {
+        final ConverterDateTimeFormatterCacheKey key = ConverterDateTimeFormatterCacheKey.with(
+            context.locale(),
+            context.twoDigitYear(),
+            context.positiveSign(),
+            context.negativeSign(),
+            context.decimalSeparator()
+        );
+
+        final ConverterDateTimeFormatterCache cache = this.cache;
+
+        ConverterDateTimeFormatterCacheEntry entry = cache.get(key);
+        if (null == entry) {
+            entry = ConverterDateTimeFormatterCacheEntry.with(
+                this.formatter.apply(context)
+                    .withDecimalStyle(
+                        DecimalStyle.of(key.locale)
+                            .withPositiveSign(key.positiveSign)
+                            .withNegativeSign(key.negativeSign)
+                            .withDecimalSeparator(key.decimalSeparator)
+                    ),
+                this.parseQuery()
+            );
+            cache.put(
+                key,
+                entry
+            );
+        }
+
+        return entry;
+    }
+
     /**
      * A factory which returns a {@link DateTimeFormatter} on demand using the {@link DateTimeContext}.
      */
     final Function<DateTimeContext, DateTimeFormatter> formatter;
 
-    private transient ConverterDateTimeFormatterCache cache;
+    /**
+     * The maximum number of {@link DateTimeFormatter} kept by each {@link ConverterDateTimeFormatter}.
+     */
+    private final static int CACHE_SIZE = 16;
+
+    // @VisibleForTesting
+    final ConverterDateTimeFormatterCache cache = ConverterDateTimeFormatterCache.with(CACHE_SIZE);
 
     /**
      * Sub classes should parse or format the value using the {@link DateTimeContext} aware {@link DateTimeFormatter}.
      */
     abstract D parseOrFormat(final S value,
                              final DateTimeFormatter formatter) throws IllegalArgumentException, DateTimeException;
+
+    /**
+     * Sub classes that parse should override and return the value parsed by the {@link ConverterDateTimeFormatterFastParser},
+     * null means the text should be parsed by the {@link DateTimeFormatter}.
+     */
+    D fastParse(final S value,
+                final ConverterDateTimeFormatterFastParser parser) {
+        return null;
+    }
+
+    /**
+     * Sub classes that parse should override and return the {@link TemporalQuery} that creates the parsed value,
+     * formatting returns null.
+     */
+    TemporalQuery<D> parseQuery() {
+        return null;
+    }
 }
@@ -18,35 +18,84 @@
 package walkingkooka.convert;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Locale;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Holds the {@link Locale} and {@link int twoDigitYear} that were used to build the {@link DateTimeFormatter}.
+ * A bounded cache of {@link DateTimeFormatter} and their {@link ConverterDateTimeFormatterFastParser} keyed by {@link ConverterDateTimeFormatterCacheKey}, which evicts the
+ * least recently used entry when full. All access is synchronized as a {@link ConverterDateTimeFormatter} is shared
+ * by many threads. Formatters are created outside the lock, at worst two threads build the same formatter and the
+ * last one put is kept.
  */
 final class ConverterDateTimeFormatterCache {
 
-    static ConverterDateTimeFormatterCache with(final Locale locale,
-                                                final int twoDigitYear,
-                                                final DateTimeFormatter formatter) {
-        return new ConverterDateTimeFormatterCache(locale, twoDigitYear, formatter);
+    static ConverterDateTimeFormatterCache with(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid maxSize " + maxSize + " <= 0");
+        }
+        return new ConverterDateTimeFormatterCache(maxSize);
     }
 
-    private ConverterDateTimeFormatterCache(final Locale locale,
-                                            final int twoDigitYear,
-                                            final DateTimeFormatter formatter) {
+    private ConverterDateTimeFormatterCache(final int maxSize) {
         super();
 
-        this.locale = locale;
-        this.twoDigitYear = twoDigitYear;
-        this.formatter = formatter;
+        this.maxSize = maxSize;
+        this.formatters = new LinkedHashMap<ConverterDateTimeFormatterCacheKey, ConverterDateTimeFormatterCacheEntry>(
+            16,
+            0.75f,
+            true // access order
+        ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ConverterDateTimeFormatterCacheKey, ConverterDateTimeFormatterCacheEntry> eldest) {
+                return this.size() > ConverterDateTimeFormatterCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@link ConverterDateTimeFormatterCacheEntry} or null.
+     */
+    ConverterDateTimeFormatterCacheEntry get(final ConverterDateTimeFormatterCacheKey key) {
+        synchronized (this.formatters) {
+            return this.formatters.get(key);
+        }
+    }
+
+    /**
+     * Adds a new {@link ConverterDateTimeFormatterCacheEntry} possibly evicting the least recently used.
+     */
+    void put(final ConverterDateTimeFormatterCacheKey key,
+             final ConverterDateTimeFormatterCacheEntry entry) {
+        synchronized (this.formatters) {
+            this.formatters.put(
+                key,
+                entry
+            );
+        }
     }
 
-    final Locale locale;
-    final int twoDigitYear;
-    final DateTimeFormatter formatter;
+    /**
+     * The number of cached entries.
+     */
+    int size() {
+        synchronized (this.formatters) {
+            return this.formatters.size();
+        }
+    }
+
+    private final int maxSize;
+
+    private final Map<ConverterDateTimeFormatterCacheKey, ConverterDateTimeFormatterCacheEntry> formatters;
+
+    // Object...........................................................................................................
 
     @Override
     public String toString() {
-        return this.locale + " " + this.twoDigitYear + " " + this.formatter;
+        synchronized (this.formatters) {
+            return this.formatters.keySet()
+                .toString();
+        }
     }
 }
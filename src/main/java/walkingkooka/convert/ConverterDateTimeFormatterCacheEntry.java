@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.text.Format;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * A value held by {@link ConverterDateTimeFormatterCache}, holding the {@link DateTimeFormatter}, its optional
+ * {@link ConverterDateTimeFormatterFastParser} and the {@link Format} used to parse text without throwing.
+ */
+final class ConverterDateTimeFormatterCacheEntry {
+
+    /**
+     * The query should be null when the {@link DateTimeFormatter} is only used to format.
+     */
+    static ConverterDateTimeFormatterCacheEntry with(final DateTimeFormatter formatter,
+                                                     final TemporalQuery<?> query) {
+        return new ConverterDateTimeFormatterCacheEntry(
+            formatter,
+            ConverterDateTimeFormatterFastParser.tryWith(formatter),
+            null == query ?
+                null :
+                formatter.toFormat(query)
+        );
+    }
+
+    private ConverterDateTimeFormatterCacheEntry(final DateTimeFormatter formatter,
+                                                 final ConverterDateTimeFormatterFastParser fastParser,
+                                                 final Format parser) {
+        super();
+        this.formatter = formatter;
+        this.fastParser = fastParser;
+        this.parser = parser;
+    }
+
+    final DateTimeFormatter formatter;
+
+    /**
+     * When null the {@link DateTimeFormatter} layout is not supported and all parsing uses the {@link #formatter}.
+     */
+    final ConverterDateTimeFormatterFastParser fastParser;
+
+    /**
+     * The {@link DateTimeFormatter} as a {@link Format} which reports parse errors using a
+     * {@link java.text.ParsePosition}, null when formatting.
+     */
+    final Format parser;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return null == this.fastParser ?
+            this.formatter.toString() :
+            this.formatter + " " + this.fastParser;
+    }
+}
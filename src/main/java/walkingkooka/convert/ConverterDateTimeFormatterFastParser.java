@@ -0,0 +1,407 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * A hand written parser for {@link DateTimeFormatter} that are fixed width and numeric, such as <code>yyyy-MM-dd</code>,
+ * <code>dd/MM/yyyy</code> or <code>HH:mm:ss</code>. The layout is discovered by formatting a sample
+ * {@link LocalDateTime} and locating the digits of each field, any other characters are literals that must match
+ * exactly. The layout is then verified by parsing text for several more samples with the {@link DateTimeFormatter}.
+ * Text that does not match the layout, or holds field values that {@link DateTimeFormatter} may resolve
+ * differently, returns null so the caller can fall back to the {@link DateTimeFormatter}.
+ * <br>
+ * Instances are immutable and may be shared by many threads.
+ */
+final class ConverterDateTimeFormatterFastParser {
+
+    private final static int YEAR = 0;
+    private final static int MONTH = 1;
+    private final static int DAY = 2;
+    private final static int HOUR = 3;
+    private final static int MINUTE = 4;
+    private final static int SECOND = 5;
+    private final static int NANO = 6;
+
+    private final static int FIELD_COUNT = 7;
+
+    /**
+     * The sample used to discover the layout, each field has a distinct value.
+     */
+    private final static LocalDateTime SAMPLE = LocalDateTime.of(2345, 11, 22, 13, 44, 55, 123456789);
+
+    /**
+     * Samples used to verify the layout, the last is on a week based year boundary.
+     */
+    private final static LocalDateTime[] VERIFY = new LocalDateTime[]{
+        LocalDateTime.of(1987, 3, 4, 5, 6, 7, 987654321),
+        LocalDateTime.of(2018, 12, 31, 23, 59, 58, 500000000)
+    };
+
+    /**
+     * The {@link ChronoField} for each field.
+     */
+    private final static ChronoField[] FIELDS = new ChronoField[]{
+        ChronoField.YEAR,
+        ChronoField.MONTH_OF_YEAR,
+        ChronoField.DAY_OF_MONTH,
+        ChronoField.HOUR_OF_DAY,
+        ChronoField.MINUTE_OF_HOUR,
+        ChronoField.SECOND_OF_MINUTE,
+        ChronoField.NANO_OF_SECOND
+    };
+
+    /**
+     * Returns a {@link ConverterDateTimeFormatterFastParser} if the {@link DateTimeFormatter} has a supported layout,
+     * otherwise returns null. The layout is verified by parsing text for several samples with the
+     * {@link DateTimeFormatter}, which must produce the same field values.
+     */
+    static ConverterDateTimeFormatterFastParser tryWith(final DateTimeFormatter formatter) {
+        ConverterDateTimeFormatterFastParser parser = null;
+
+        if (null == formatter.getZone() &&
+            (null == formatter.getChronology() || IsoChronology.INSTANCE.equals(formatter.getChronology()))) {
+            try {
+                parser = layout(
+                    formatter.format(SAMPLE)
+                );
+
+                if (null != parser) {
+                    for (final LocalDateTime verify : VERIFY) {
+                        if (false == parser.verify(verify, formatter)) {
+                            parser = null;
+                            break;
+                        }
+                    }
+                }
+            } catch (final DateTimeException ignore) {
+                parser = null;
+            }
+        }
+
+        return parser;
+    }
+
+    /**
+     * Locates the digits of each field within the formatted {@link #SAMPLE}.
+     */
+    private static ConverterDateTimeFormatterFastParser layout(final String text) {
+        final int length = text.length();
+        final int[] starts = new int[FIELD_COUNT];
+        final int[] widths = new int[FIELD_COUNT];
+        final boolean[] literal = new boolean[length];
+
+        int i = 0;
+        boolean failed = false;
+
+        while (false == failed && i < length) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int field = -1;
+                int width = 0;
+
+                if (text.startsWith("2345", i)) {
+                    field = YEAR;
+                    width = 4;
+                } else if (text.startsWith("11", i)) {
+                    field = MONTH;
+                    width = 2;
+                } else if (text.startsWith("22", i)) {
+                    field = DAY;
+                    width = 2;
+                } else if (text.startsWith("13", i)) {
+                    field = HOUR;
+                    width = 2;
+                } else if (text.startsWith("44", i)) {
+                    field = MINUTE;
+                    width = 2;
+                } else if (text.startsWith("55", i)) {
+                    field = SECOND;
+                    width = 2;
+                } else {
+                    // fraction of a second, the longest run of 123456789
+                    final String nanos = "123456789";
+                    while (width < nanos.length() && i + width < length && nanos.charAt(width) == text.charAt(i + width)) {
+                        width++;
+                    }
+                    if (width > 0) {
+                        field = NANO;
+                    }
+                }
+
+                if (-1 == field || widths[field] > 0) {
+                    failed = true;
+                } else {
+                    starts[field] = i;
+                    widths[field] = width;
+                    i += width;
+                }
+            } else {
+                literal[i] = true;
+                i++;
+            }
+        }
+
+        return failed ?
+            null :
+            new ConverterDateTimeFormatterFastParser(
+                text,
+                literal,
+                starts,
+                widths
+            );
+    }
+
+    private ConverterDateTimeFormatterFastParser(final String sample,
+                                                 final boolean[] literal,
+                                                 final int[] starts,
+                                                 final int[] widths) {
+        super();
+        this.sample = sample;
+        this.literal = literal;
+        this.starts = starts;
+        this.widths = widths;
+    }
+
+    // parse............................................................................................................
+
+    /**
+     * Parses the text into a {@link LocalDate} or returns null.
+     */
+    LocalDate parseLocalDate(final CharSequence text) {
+        final int[] values = this.parse(text);
+
+        return null != values && this.has(YEAR) && this.has(MONTH) && this.has(DAY) ?
+            LocalDate.of(
+                values[YEAR],
+                values[MONTH],
+                values[DAY]
+            ) :
+            null;
+    }
+
+    /**
+     * Parses the text into a {@link LocalDateTime} or returns null.
+     */
+    LocalDateTime parseLocalDateTime(final CharSequence text) {
+        final int[] values = this.parse(text);
+
+        return null != values && this.has(YEAR) && this.has(MONTH) && this.has(DAY) && this.has(HOUR) && this.has(MINUTE) ?
+            LocalDateTime.of(
+                values[YEAR],
+                values[MONTH],
+                values[DAY],
+                values[HOUR],
+                values[MINUTE],
+                values[SECOND],
+                values[NANO]
+            ) :
+            null;
+    }
+
+    /**
+     * Parses the text into a {@link LocalTime} or returns null.
+     */
+    LocalTime parseLocalTime(final CharSequence text) {
+        final int[] values = this.parse(text);
+
+        return null != values && this.has(HOUR) && this.has(MINUTE) ?
+            LocalTime.of(
+                values[HOUR],
+                values[MINUTE],
+                values[SECOND],
+                values[NANO]
+            ) :
+            null;
+    }
+
+    private boolean has(final int field) {
+        return this.widths[field] > 0;
+    }
+
+    /**
+     * Returns the value of each field, or null if the text does not match the layout or a value is out of range.
+     */
+    private int[] parse(final CharSequence text) {
+        final String sample = this.sample;
+        final int length = sample.length();
+        final boolean[] literal = this.literal;
+
+        boolean failed = text.length() != length;
+
+        for (int i = 0; false == failed && i < length; i++) {
+            final char c = text.charAt(i);
+            failed = literal[i] ?
+                sample.charAt(i) != c :
+                c < '0' || c > '9';
+        }
+
+        int[] values = null;
+        if (false == failed) {
+            values = new int[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                values[field] = this.value(
+                    text,
+                    field
+                );
+            }
+
+            // fields that are absent are defaulted to valid values
+            final int year = this.has(YEAR) ? values[YEAR] : 2000;
+            final int month = this.has(MONTH) ? values[MONTH] : 1;
+            final int day = this.has(DAY) ? values[DAY] : 1;
+
+            if (year < 1 ||
+                month < 1 ||
+                month > 12 ||
+                day < 1 ||
+                day > 28 && day > LocalDate.of(year, month, 1).lengthOfMonth() ||
+                values[HOUR] > 23 ||
+                values[MINUTE] > 59 ||
+                values[SECOND] > 59) {
+                values = null;
+            }
+        }
+
+        return values;
+    }
+
+    private int value(final CharSequence text,
+                      final int field) {
+        final int start = this.starts[field];
+        final int width = this.widths[field];
+
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            value = value * 10 + text.charAt(start + i) - '0';
+        }
+
+        // fraction digits are scaled to nanos
+        if (NANO == field) {
+            for (int i = width; i < 9; i++) {
+                value = value * 10;
+            }
+        }
+
+        return value;
+    }
+
+    // verify.........................................................................................................
+
+    /**
+     * Formats the {@link LocalDateTime} using the layout, and then tests the {@link DateTimeFormatter} parses the
+     * text to the same field values.
+     */
+    private boolean verify(final LocalDateTime dateTime,
+                           final DateTimeFormatter formatter) throws DateTimeException {
+        final char[] chars = this.sample.toCharArray();
+
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (this.has(field)) {
+                this.format(
+                    field,
+                    this.fieldValue(
+                        dateTime,
+                        field
+                    ),
+                    chars
+                );
+            }
+        }
+
+        final TemporalAccessor parsed = formatter.parse(
+            new String(chars)
+        );
+
+        boolean verified = true;
+        for (int field = 0; verified && field < FIELD_COUNT; field++) {
+            if (this.has(field)) {
+                long value = parsed.getLong(FIELDS[field]);
+                if (NANO == field) {
+                    for (int i = this.widths[NANO]; i < 9; i++) {
+                        value = value / 10;
+                    }
+                }
+                verified = this.fieldValue(dateTime, field) == value;
+            }
+        }
+
+        return verified;
+    }
+
+    /**
+     * Returns the value of the field, with nanos truncated to the width of the field.
+     */
+    private int fieldValue(final LocalDateTime dateTime,
+                           final int field) {
+        int value = dateTime.get(FIELDS[field]);
+        if (NANO == field) {
+            for (int i = this.widths[NANO]; i < 9; i++) {
+                value = value / 10;
+            }
+        }
+        return value;
+    }
+
+    private void format(final int field,
+                        final int value,
+                        final char[] chars) {
+        final int start = this.starts[field];
+        int remaining = value;
+
+        for (int i = this.widths[field] - 1; i >= 0; i--) {
+            chars[start + i] = (char) ('0' + remaining % 10);
+            remaining = remaining / 10;
+        }
+    }
+
+    /**
+     * The formatted {@link #SAMPLE}, which also holds the literals.
+     */
+    private final String sample;
+
+    /**
+     * True for each character that is a literal.
+     */
+    private final boolean[] literal;
+
+    /**
+     * The start of each field, only meaningful when the width is greater than zero.
+     */
+    private final int[] starts;
+
+    /**
+     * The number of digits of each field, or zero if the field is absent.
+     */
+    private final int[] widths;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.sample;
+    }
+}
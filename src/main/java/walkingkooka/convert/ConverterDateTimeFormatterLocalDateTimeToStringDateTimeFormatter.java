@@ -54,6 +54,16 @@ final class ConverterDateTimeFormatterLocalDateTimeToStringDateTimeFormatter<C e
         return value.format(formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(LocalDateTime.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -54,6 +54,16 @@ final class ConverterDateTimeFormatterLocalDateToStringDateTimeFormatter<C exten
         return value.format(formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(LocalDate.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
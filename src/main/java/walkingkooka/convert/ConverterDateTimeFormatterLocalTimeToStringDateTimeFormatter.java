@@ -54,6 +54,16 @@ final class ConverterDateTimeFormatterLocalTimeToStringDateTimeFormatter<C exten
         return value.format(formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(LocalTime.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
 import java.util.function.Function;
 
 /**
@@ -53,12 +54,33 @@ final class ConverterDateTimeFormatterStringToLocalDateDateTimeFormatter<C exten
         return LocalDate.class == type;
     }
 
+    @Override
+    LocalDate fastParse(final String text,
+                        final ConverterDateTimeFormatterFastParser parser) {
+        return parser.parseLocalDate(text);
+    }
+
+    @Override
+    TemporalQuery<LocalDate> parseQuery() {
+        return LocalDate::from;
+    }
+
     @Override
     LocalDate parseOrFormat(final String text,
                             final DateTimeFormatter formatter) throws DateTimeParseException {
         return LocalDate.parse(text, formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(String.class),
+        ConverterCapabilities.types(LocalDate.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
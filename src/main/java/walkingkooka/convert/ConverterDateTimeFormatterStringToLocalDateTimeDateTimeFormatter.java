@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
 import java.util.function.Function;
 
 /**
@@ -53,12 +54,33 @@ final class ConverterDateTimeFormatterStringToLocalDateTimeDateTimeFormatter<C e
         return LocalDateTime.class == type;
     }
 
+    @Override
+    LocalDateTime fastParse(final String text,
+                            final ConverterDateTimeFormatterFastParser parser) {
+        return parser.parseLocalDateTime(text);
+    }
+
+    @Override
+    TemporalQuery<LocalDateTime> parseQuery() {
+        return LocalDateTime::from;
+    }
+
     @Override
     LocalDateTime parseOrFormat(final String text,
                                 final DateTimeFormatter formatter) throws DateTimeParseException {
         return LocalDateTime.parse(text, formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(String.class),
+        ConverterCapabilities.types(LocalDateTime.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -22,6 +22,7 @@ import walkingkooka.datetime.DateTimeContext;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
 import java.util.function.Function;
 
 /**
@@ -52,12 +53,33 @@ final class ConverterDateTimeFormatterStringToLocalTimeDateTimeFormatter<C exten
         return LocalTime.class == type;
     }
 
+    @Override
+    LocalTime fastParse(final String text,
+                        final ConverterDateTimeFormatterFastParser parser) {
+        return parser.parseLocalTime(text);
+    }
+
+    @Override
+    TemporalQuery<LocalTime> parseQuery() {
+        return LocalTime::from;
+    }
+
     @Override
     LocalTime parseOrFormat(final String text,
                             final DateTimeFormatter formatter) throws DateTimeParseException {
         return LocalTime.parse(text, formatter);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(String.class),
+        ConverterCapabilities.types(LocalTime.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -23,9 +23,7 @@ import walkingkooka.text.CharSequences;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -58,58 +56,62 @@ abstract class ConverterDecimalFormat<C extends ConverterContext> implements Sho
             );
     }
 
+    /**
+     * Converts using the {@link ConverterDecimalFormatEngine} for the symbols of the {@link ConverterContext} if one is
+     * available. Otherwise checks out a {@link DecimalFormat} from the {@link #pool}, creating one if none is available,
+     * and returns it once the conversion completes. Pooled {@link DecimalFormat} are shared by contexts with the same
+     * {@link ConverterDecimalFormatPoolKey}, so the factory {@link #decimalFormat} is assumed to only use the inputs
+     * captured by that key.
+     */
     private <T> Either<T, String> convertNonNull(final Object value,
                                                  final Class<T> type,
                                                  final C context) {
         Either<T, String> result;
         try {
-            final ThreadLocal<Map<ConverterContext, DecimalFormat>> cache = this.cache;
-
-            Map<ConverterContext, DecimalFormat> map = cache.get();
-            if (null == map) {
-                map = new HashMap<>();
-                this.cache.set(map);
-            }
-
-            DecimalFormat format = map.get(context);
-            if (null == format) {
-                format = this.decimalFormat.apply(context);
-                format.setParseBigDecimal(true);
-
-                final Locale locale = context.locale();
-                try {
-                    format.setCurrency(
-                        context.currencyForLocale(locale)
-                            .orElseThrow(() -> new IllegalArgumentException("Missing currency for locale " + locale))
-                    );
-                } catch (final IllegalArgumentException cause) {
-                    throw new ConverterException(
-                        "Unable to set currency, probably an invalid locale " + CharSequences.quoteAndEscape(locale.toLanguageTag()),
+            final ConverterDecimalFormatPoolKey key = this.poolKey(context);
+            final ConverterDecimalFormatPool pool = this.pool;
+
+            final ConverterDecimalFormatEngine engine = pool.engine(key);
+            result = null == engine ?
+                null :
+                this.convertWithEngine(
+                    engine,
+                    value,
+                    type,
+                    context
+                );
+
+            if (null == result) {
+                DecimalFormat format = pool.checkout(key);
+                if (null == format) {
+                    format = this.createDecimalFormat(
+                        key,
                         value,
                         type,
-                        cause
+                        context
                     );
-                }
-
-                final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-                symbols.setCurrencySymbol(context.currencySymbol());
-                symbols.setDecimalSeparator(context.decimalSeparator());
-                symbols.setExponentSeparator(String.valueOf(context.exponentSymbol()));
-                symbols.setGroupingSeparator(context.groupSeparator());
-                symbols.setMinusSign(context.negativeSign());
-                symbols.setPercent(context.percentSymbol());
 
-                format.setDecimalFormatSymbols(symbols);
+                    final ConverterDecimalFormatEngine created = ConverterDecimalFormatEngine.tryWith(format);
+                    if (null != created) {
+                        pool.setEngine(
+                            key,
+                            created
+                        );
+                    }
+                }
 
-                map.put(context, format);
+                result = this.convertWithDecimalFormat(
+                    format,
+                    value,
+                    type,
+                    context
+                );
+
+                pool.checkin(
+                    key,
+                    format
+                );
             }
-
-            result = this.convertWithDecimalFormat(
-                format,
-                value,
-                type,
-                context
-            );
         } catch (final UnsupportedOperationException cause) {
             throw cause;
         } catch (final RuntimeException cause) {
@@ -118,10 +120,87 @@ abstract class ConverterDecimalFormat<C extends ConverterContext> implements Sho
         return result;
     }
 
-    private final ThreadLocal<Map<ConverterContext, DecimalFormat>> cache = new ThreadLocal<>();
+    /**
+     * Returns the {@link ConverterDecimalFormatPoolKey} for the {@link ConverterContext}, reusing the last key if the
+     * context has the same inputs, so converting many values with one context does not create a key for each value.
+     */
+    // @VisibleForTesting
+    ConverterDecimalFormatPoolKey poolKey(final C context) {
+        ConverterDecimalFormatPoolKey key = this.poolKey;
+        if (null == key || false == key.isSame(context)) {
+            key = ConverterDecimalFormatPoolKey.with(
+                context,
+                this.decimalFormat
+            );
+            this.poolKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * The last key returned by {@link #poolKey(ConverterContext)}, keys are immutable so a racing update is harmless.
+     */
+    private volatile ConverterDecimalFormatPoolKey poolKey;
+
+    private DecimalFormat createDecimalFormat(final ConverterDecimalFormatPoolKey key,
+                                              final Object value,
+                                              final Class<?> type,
+                                              final C context) {
+        final DecimalFormat format = this.decimalFormat.apply(context);
+        format.setParseBigDecimal(true);
+
+        final Locale locale = key.locale;
+        if (null == key.currency) {
+            throw new ConverterException(
+                "Unable to set currency, probably an invalid locale " + CharSequences.quoteAndEscape(locale.toLanguageTag()),
+                value,
+                type,
+                new IllegalArgumentException("Missing currency for locale " + locale)
+            );
+        }
+        format.setCurrency(key.currency);
+
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+        symbols.setCurrencySymbol(key.currencySymbol);
+        symbols.setDecimalSeparator(key.decimalSeparator);
+        symbols.setExponentSeparator(key.exponentSymbol);
+        symbols.setGroupingSeparator(key.groupSeparator);
+        symbols.setMinusSign(key.negativeSign);
+        symbols.setPercent(key.percentSymbol);
+
+        format.setDecimalFormatSymbols(symbols);
+
+        return format;
+    }
+
+    /**
+     * The maximum number of distinct {@link ConverterDecimalFormatPoolKey} that are pooled.
+     */
+    private final static int POOL_MAX_KEYS = 16;
+
+    /**
+     * The maximum number of {@link DecimalFormat} pooled for each {@link ConverterDecimalFormatPoolKey}, typically the
+     * number of threads converting at the same time.
+     */
+    private final static int POOL_MAX_PER_KEY = 8;
+
+    // @VisibleForTesting
+    final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(
+        POOL_MAX_KEYS,
+        POOL_MAX_PER_KEY
+    );
 
     private final Function<DecimalNumberContext, DecimalFormat> decimalFormat;
 
+    /**
+     * Converts using the {@link ConverterDecimalFormatEngine}, returning null if the value is not supported by the
+     * engine, which will then be converted using {@link #convertWithDecimalFormat(DecimalFormat, Object, Class, ConverterContext)}.
+     */
+    abstract <T> Either<T, String> convertWithEngine(final ConverterDecimalFormatEngine engine,
+                                                     final Object value,
+                                                     final Class<T> type,
+                                                     final ConverterContext context);
+
     abstract <T> Either<T, String> convertWithDecimalFormat(final DecimalFormat decimalFormat,
                                                             final Object value,
                                                             final Class<T> type,
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Parses and formats numbers for a subset of {@link DecimalFormat} patterns without using {@link DecimalFormat}
+ * itself: grouping, minimum and maximum integer and fraction digits, prefixes and suffixes including currency and
+ * percent. Patterns outside this subset, such as exponents, are rejected by {@link #tryWith(DecimalFormat)}, while
+ * {@link #format(Number)} and {@link #parse(CharSequence)} return null for values or text they cannot handle exactly
+ * like {@link DecimalFormat}, leaving the caller to fall back to {@link DecimalFormat}.
+ * <br>
+ * Instances are immutable and may be shared by many threads.
+ */
+final class ConverterDecimalFormatEngine {
+
+    /**
+     * Maximum integer digits below this would truncate high order digits, which is not supported.
+     */
+    private final static int MIN_MAXIMUM_INTEGER_DIGITS = 309;
+
+    private final static char CURRENCY_SIGN = '\u00A4';
+
+    /**
+     * Returns a {@link ConverterDecimalFormatEngine} for the given {@link DecimalFormat} or null if its pattern is not
+     * supported.
+     */
+    static ConverterDecimalFormatEngine tryWith(final DecimalFormat format) {
+        final String pattern = format.toPattern();
+        final int multiplier = format.getMultiplier();
+        final boolean currency = pattern.indexOf(CURRENCY_SIGN) >= 0;
+        final boolean grouping = format.isGroupingUsed() && format.getGroupingSize() > 0;
+
+        return pattern.indexOf('E') >= 0 ||
+            pattern.indexOf('@') >= 0 ||
+            (1 != multiplier && 100 != multiplier) ||
+            RoundingMode.HALF_EVEN != format.getRoundingMode() ||
+            format.getMaximumIntegerDigits() < MIN_MAXIMUM_INTEGER_DIGITS ||
+            format.isParseIntegerOnly() ||
+            false == format.isParseBigDecimal() ||
+            (currency && grouping) ?
+            null :
+            new ConverterDecimalFormatEngine(
+                format,
+                currency,
+                grouping
+            );
+    }
+
+    private ConverterDecimalFormatEngine(final DecimalFormat format,
+                                         final boolean currency,
+                                         final boolean grouping) {
+        super();
+
+        final DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = currency ?
+            symbols.getMonetaryDecimalSeparator() :
+            symbols.getDecimalSeparator();
+        this.decimalSeparatorAlwaysShown = format.isDecimalSeparatorAlwaysShown();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.groupingSize = grouping ?
+            format.getGroupingSize() :
+            0;
+
+        this.minimumIntegerDigits = format.getMinimumIntegerDigits();
+        this.minimumFractionDigits = format.getMinimumFractionDigits();
+        this.maximumFractionDigits = format.getMaximumFractionDigits();
+
+        this.multiplier = format.getMultiplier();
+
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+    }
+
+    // format...........................................................................................................
+
+    /**
+     * Formats the given {@link Number} or returns null if it is not supported, such as NaN or infinity.
+     */
+    String format(final Number number) {
+        final String formatted;
+
+        if (number instanceof Double || number instanceof Float) {
+            formatted = this.formatDouble(number.doubleValue());
+        } else {
+            if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
+                formatted = this.formatBigDecimal(
+                    BigDecimal.valueOf(number.longValue())
+                );
+            } else {
+                if (number instanceof BigInteger) {
+                    formatted = this.formatBigDecimal(
+                        new BigDecimal((BigInteger) number)
+                    );
+                } else {
+                    formatted = number instanceof BigDecimal ?
+                        this.formatBigDecimal((BigDecimal) number) :
+                        null;
+                }
+            }
+        }
+
+        return formatted;
+    }
+
+    /**
+     * Formats a double, multiplying using double arithmetic and rounding the exact binary value only when the shortest
+     * decimal representation has more fraction digits than allowed, matching {@link DecimalFormat}. Returns null for
+     * NaN, infinity and apparent ties.
+     */
+    private String formatDouble(final double value) {
+        String formatted = null;
+
+        if (false == Double.isNaN(value) && false == Double.isInfinite(value)) {
+            final boolean negative = value < 0.0 || (0.0 == value && 1 / value < 0.0);
+            final double multiplied = Math.abs(value) * this.multiplier;
+
+            if (false == Double.isInfinite(multiplied)) {
+                BigDecimal digits = BigDecimal.valueOf(multiplied)
+                    .stripTrailingZeros();
+                final int scale = digits.scale();
+                final int maximumFractionDigits = this.maximumFractionDigits;
+
+                // shortest digits ending in a 5 exactly one past the last fraction digit look like a tie, which
+                // DecimalFormat resolves using internal details of the double to text conversion.
+                if (scale != maximumFractionDigits + 1 ||
+                    5 != digits.unscaledValue().mod(BigInteger.TEN).intValue()) {
+                    if (scale > maximumFractionDigits) {
+                        digits = new BigDecimal(multiplied)
+                            .setScale(
+                                maximumFractionDigits,
+                                RoundingMode.HALF_EVEN
+                            );
+                    }
+
+                    formatted = this.formatDigits(
+                        negative,
+                        digits
+                    );
+                }
+            }
+        }
+
+        return formatted;
+    }
+
+    private String formatBigDecimal(final BigDecimal value) {
+        BigDecimal digits = value.abs();
+        if (1 != this.multiplier) {
+            digits = digits.multiply(BigDecimal.valueOf(this.multiplier));
+        }
+        if (digits.scale() > this.maximumFractionDigits) {
+            digits = digits.setScale(
+                this.maximumFractionDigits,
+                RoundingMode.HALF_EVEN
+            );
+        }
+
+        return this.formatDigits(
+            value.signum() < 0,
+            digits
+        );
+    }
+
+    /**
+     * Writes the prefix, the integer digits with grouping, the fraction digits and suffix of a non negative and already
+     * rounded value.
+     */
+    private String formatDigits(final boolean negative,
+                                final BigDecimal digits) {
+        final String plain = digits.toPlainString();
+        final int dot = plain.indexOf('.');
+
+        final int integerEnd = -1 == dot ?
+            plain.length() :
+            dot;
+
+        // skip leading zeros, DecimalFormat only shows them when required by the minimum integer digits
+        int integerStart = 0;
+        while (integerStart < integerEnd && '0' == plain.charAt(integerStart)) {
+            integerStart++;
+        }
+
+        // trailing zeros are only shown when required by the minimum fraction digits
+        final int fractionStart = -1 == dot ?
+            plain.length() :
+            dot + 1;
+        int fractionEnd = plain.length();
+        while (fractionEnd > fractionStart && '0' == plain.charAt(fractionEnd - 1)) {
+            fractionEnd--;
+        }
+        final int fractionCount = Math.max(
+            fractionEnd - fractionStart,
+            this.minimumFractionDigits
+        );
+
+        final StringBuilder b = new StringBuilder();
+        b.append(
+            negative ?
+                this.negativePrefix :
+                this.positivePrefix
+        );
+
+        final int significantIntegerCount = integerEnd - integerStart;
+        final int integerCount = Math.max(
+            significantIntegerCount,
+            this.minimumIntegerDigits
+        );
+        final char zeroDigit = this.zeroDigit;
+        final int groupingSize = this.groupingSize;
+
+        for (int i = integerCount - 1; i >= 0; i--) {
+            final int digit = i < significantIntegerCount ?
+                plain.charAt(integerEnd - 1 - i) - '0' :
+                0;
+            b.append((char) (zeroDigit + digit));
+
+            if (groupingSize > 0 && i > 0 && 0 == i % groupingSize) {
+                b.append(this.groupingSeparator);
+            }
+        }
+
+        if (0 == integerCount && 0 == fractionCount) {
+            b.append(zeroDigit);
+        }
+
+        if (fractionCount > 0 || this.decimalSeparatorAlwaysShown) {
+            b.append(this.decimalSeparator);
+        }
+        for (int i = 0; i < fractionCount; i++) {
+            final int digit = fractionStart + i < plain.length() ?
+                plain.charAt(fractionStart + i) - '0' :
+                0;
+            b.append((char) (zeroDigit + digit));
+        }
+
+        b.append(
+            negative ?
+                this.negativeSuffix :
+                this.positiveSuffix
+        );
+
+        return b.toString();
+    }
+
+    // parse............................................................................................................
+
+    /**
+     * Parses the entire text into a {@link BigDecimal}, returning null if the text does not exactly match the
+     * supported form of prefix, digits with optional grouping, optional decimal separator and fraction digits and
+     * suffix.
+     */
+    BigDecimal parse(final CharSequence text) {
+        BigDecimal parsed = null;
+
+        final int length = text.length();
+        final String positivePrefix = this.positivePrefix;
+        final String negativePrefix = this.negativePrefix;
+
+        final boolean positive = startsWith(text, positivePrefix);
+        final boolean negative = startsWith(text, negativePrefix);
+
+        // the longest matching prefix wins
+        if (positive || negative) {
+            final boolean isNegative = negative &&
+                (false == positive || negativePrefix.length() > positivePrefix.length());
+            final String suffix = isNegative ?
+                this.negativeSuffix :
+                this.positiveSuffix;
+            final int end = length - suffix.length();
+
+            if (end >= 0 && endsWith(text, suffix)) {
+                parsed = this.parseDigits(
+                    text,
+                    isNegative ?
+                        negativePrefix.length() :
+                        positivePrefix.length(),
+                    end,
+                    isNegative
+                );
+            }
+        }
+
+        return parsed;
+    }
+
+    private BigDecimal parseDigits(final CharSequence text,
+                                   final int start,
+                                   final int end,
+                                   final boolean negative) {
+        final char zeroDigit = this.zeroDigit;
+        final char groupingSeparator = this.groupingSeparator;
+        final boolean grouping = this.groupingSize > 0;
+
+        long unscaled = 0;
+        int digitCount = 0;
+        int scale = 0;
+        boolean fraction = false;
+        boolean failed = start >= end;
+
+        for (int i = start; false == failed && i < end; i++) {
+            final char c = text.charAt(i);
+            final int digit = c - zeroDigit;
+
+            if (digit >= 0 && digit <= 9) {
+                if (unscaled > 0 || digit > 0) {
+                    digitCount++;
+                }
+                unscaled = unscaled * 10 + digit;
+                if (fraction) {
+                    scale++;
+                }
+                // too many digits for a long, let DecimalFormat handle it
+                failed = digitCount > 18;
+            } else {
+                if (this.decimalSeparator == c && false == fraction) {
+                    // a separator must be followed by at least one digit
+                    fraction = true;
+                    failed = i + 1 >= end || false == isDigit(text.charAt(i + 1), zeroDigit);
+                } else {
+                    // grouping separators are only accepted between integer digits
+                    failed = false == grouping ||
+                        groupingSeparator != c ||
+                        fraction ||
+                        i == start ||
+                        false == isDigit(text.charAt(i - 1), zeroDigit) ||
+                        i + 1 >= end ||
+                        false == isDigit(text.charAt(i + 1), zeroDigit);
+                }
+            }
+        }
+
+        BigDecimal parsed = null;
+        if (false == failed) {
+            parsed = BigDecimal.valueOf(
+                unscaled,
+                scale
+            );
+            if (1 != this.multiplier) {
+                parsed = parsed.divide(BigDecimal.valueOf(this.multiplier));
+            }
+            if (negative) {
+                parsed = parsed.negate();
+            }
+        }
+
+        return parsed;
+    }
+
+    private static boolean isDigit(final char c,
+                                   final char zeroDigit) {
+        final int digit = c - zeroDigit;
+        return digit >= 0 && digit <= 9;
+    }
+
+    private static boolean startsWith(final CharSequence text,
+                                      final String prefix) {
+        final int length = prefix.length();
+        boolean match = text.length() >= length;
+
+        for (int i = 0; match && i < length; i++) {
+            match = text.charAt(i) == prefix.charAt(i);
+        }
+
+        return match;
+    }
+
+    private static boolean endsWith(final CharSequence text,
+                                    final String suffix) {
+        final int length = suffix.length();
+        final int offset = text.length() - length;
+        boolean match = offset >= 0;
+
+        for (int i = 0; match && i < length; i++) {
+            match = text.charAt(offset + i) == suffix.charAt(i);
+        }
+
+        return match;
+    }
+
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final boolean decimalSeparatorAlwaysShown;
+    private final char groupingSeparator;
+
+    /**
+     * Zero when grouping is not used.
+     */
+    private final int groupingSize;
+
+    private final int minimumIntegerDigits;
+    private final int minimumFractionDigits;
+    private final int maximumFractionDigits;
+
+    /**
+     * Either 1 or 100 for percent.
+     */
+    private final int multiplier;
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.positivePrefix + "#" + this.positiveSuffix + ";" + this.negativePrefix + "#" + this.negativeSuffix;
+    }
+}
@@ -45,6 +45,20 @@ final class ConverterDecimalFormatNumberToString<C extends ConverterContext> ext
             String.class == type;
     }
 
+    @Override
+    <T> Either<T, String> convertWithEngine(final ConverterDecimalFormatEngine engine,
+                                            final Object value,
+                                            final Class<T> type,
+                                            final ConverterContext context) {
+        final String formatted = engine.format((Number) value);
+        return null == formatted ?
+            null :
+            this.successfulConversion(
+                formatted,
+                type
+            );
+    }
+
     @Override
     <T> Either<T, String> convertWithDecimalFormat(final DecimalFormat decimalFormat,
                                                    final Object value,
@@ -56,6 +70,16 @@ final class ConverterDecimalFormatNumberToString<C extends ConverterContext> ext
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Number.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     @Override
     public String toString() {
         return "DecimalFormat Number to String";
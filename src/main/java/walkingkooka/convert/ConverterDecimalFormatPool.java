@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.collect.list.Lists;
+
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded pool of {@link DecimalFormat} keyed by {@link ConverterDecimalFormatPoolKey}. {@link DecimalFormat} is not
+ * thread safe, so each instance is checked out for the duration of a single conversion and then returned, rather than
+ * being held per thread. The least recently used key is evicted when there are too many keys, and extra instances
+ * returned for a key are dropped.
+ * <br>
+ * The pool also holds the {@link ConverterDecimalFormatEngine} for each key whose {@link DecimalFormat} pattern is
+ * supported by the engine.
+ */
+final class ConverterDecimalFormatPool {
+
+    static ConverterDecimalFormatPool with(final int maxKeys,
+                                           final int maxPerKey) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("Invalid maxKeys " + maxKeys + " <= 0");
+        }
+        if (maxPerKey <= 0) {
+            throw new IllegalArgumentException("Invalid maxPerKey " + maxPerKey + " <= 0");
+        }
+        return new ConverterDecimalFormatPool(
+            maxKeys,
+            maxPerKey
+        );
+    }
+
+    private ConverterDecimalFormatPool(final int maxKeys,
+                                       final int maxPerKey) {
+        super();
+
+        this.maxKeys = maxKeys;
+        this.maxPerKey = maxPerKey;
+        this.pool = new LinkedHashMap<ConverterDecimalFormatPoolKey, List<DecimalFormat>>(
+            16,
+            0.75f,
+            true // access order
+        ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ConverterDecimalFormatPoolKey, List<DecimalFormat>> eldest) {
+                return this.size() > ConverterDecimalFormatPool.this.maxKeys;
+            }
+        };
+        this.engines = new LinkedHashMap<ConverterDecimalFormatPoolKey, ConverterDecimalFormatEngine>(
+            16,
+            0.75f,
+            true // access order
+        ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ConverterDecimalFormatPoolKey, ConverterDecimalFormatEngine> eldest) {
+                return this.size() > ConverterDecimalFormatPool.this.maxKeys;
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link ConverterDecimalFormatEngine} for the key or null if none is available.
+     */
+    ConverterDecimalFormatEngine engine(final ConverterDecimalFormatPoolKey key) {
+        synchronized (this.pool) {
+            return this.engines.get(key);
+        }
+    }
+
+    /**
+     * Records the {@link ConverterDecimalFormatEngine} for the key.
+     */
+    void setEngine(final ConverterDecimalFormatPoolKey key,
+                   final ConverterDecimalFormatEngine engine) {
+        synchronized (this.pool) {
+            this.engines.put(
+                key,
+                engine
+            );
+        }
+    }
+
+    /**
+     * Removes and returns a pooled {@link DecimalFormat} or null if none is available.
+     */
+    DecimalFormat checkout(final ConverterDecimalFormatPoolKey key) {
+        synchronized (this.pool) {
+            final List<DecimalFormat> formats = this.pool.get(key);
+            return null == formats || formats.isEmpty() ?
+                null :
+                formats.remove(formats.size() - 1);
+        }
+    }
+
+    /**
+     * Returns a {@link DecimalFormat} to the pool, dropping it if the pool for the key is full.
+     */
+    void checkin(final ConverterDecimalFormatPoolKey key,
+                 final DecimalFormat format) {
+        synchronized (this.pool) {
+            List<DecimalFormat> formats = this.pool.get(key);
+            if (null == formats) {
+                formats = Lists.array();
+                this.pool.put(
+                    key,
+                    formats
+                );
+            }
+            if (formats.size() < this.maxPerKey) {
+                formats.add(format);
+            }
+        }
+    }
+
+    /**
+     * The number of pooled {@link DecimalFormat} for the given key.
+     */
+    int size(final ConverterDecimalFormatPoolKey key) {
+        synchronized (this.pool) {
+            final List<DecimalFormat> formats = this.pool.get(key);
+            return null == formats ?
+                0 :
+                formats.size();
+        }
+    }
+
+    private final int maxKeys;
+
+    private final int maxPerKey;
+
+    private final Map<ConverterDecimalFormatPoolKey, List<DecimalFormat>> pool;
+
+    /**
+     * Guarded by the lock of {@link #pool}.
+     */
+    private final Map<ConverterDecimalFormatPoolKey, ConverterDecimalFormatEngine> engines;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        synchronized (this.pool) {
+            return this.pool.keySet()
+                .toString();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.math.DecimalNumberContext;
+
+import java.text.DecimalFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Captures the {@link DecimalFormat} factory and all the {@link ConverterContext} inputs used by
+ * {@link ConverterDecimalFormat} to configure a {@link DecimalFormat}, allowing contexts with the same symbols to share
+ * {@link DecimalFormat} instances. Factories are compared by identity.
+ */
+final class ConverterDecimalFormatPoolKey {
+
+    static ConverterDecimalFormatPoolKey with(final ConverterContext context,
+                                              final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
+        final Locale locale = context.locale();
+
+        return new ConverterDecimalFormatPoolKey(
+            decimalFormat,
+            locale,
+            context.currencyForLocale(locale)
+                .orElse(null),
+            context.currencySymbol(),
+            context.decimalSeparator(),
+            context.exponentSymbol(),
+            context.groupSeparator(),
+            context.negativeSign(),
+            context.percentSymbol()
+        );
+    }
+
+    private ConverterDecimalFormatPoolKey(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                          final Locale locale,
+                                          final Currency currency,
+                                          final String currencySymbol,
+                                          final char decimalSeparator,
+                                          final String exponentSymbol,
+                                          final char groupSeparator,
+                                          final char negativeSign,
+                                          final char percentSymbol) {
+        super();
+        this.decimalFormat = decimalFormat;
+        this.locale = locale;
+        this.currency = currency;
+        this.currencySymbol = currencySymbol;
+        this.decimalSeparator = decimalSeparator;
+        this.exponentSymbol = exponentSymbol;
+        this.groupSeparator = groupSeparator;
+        this.negativeSign = negativeSign;
+        this.percentSymbol = percentSymbol;
+    }
+
+    /**
+     * Tests if the given {@link ConverterContext} has the same inputs as this key, without creating a new key.
+     */
+    boolean isSame(final ConverterContext context) {
+        final Locale locale = context.locale();
+
+        return this.locale.equals(locale) &&
+            Objects.equals(
+                this.currency,
+                context.currencyForLocale(locale)
+                    .orElse(null)
+            ) &&
+            Objects.equals(this.currencySymbol, context.currencySymbol()) &&
+            this.decimalSeparator == context.decimalSeparator() &&
+            this.exponentSymbol.equals(context.exponentSymbol()) &&
+            this.groupSeparator == context.groupSeparator() &&
+            this.negativeSign == context.negativeSign() &&
+            this.percentSymbol == context.percentSymbol();
+    }
+
+    final Function<DecimalNumberContext, DecimalFormat> decimalFormat;
+
+    final Locale locale;
+
+    /**
+     * The {@link Currency} for the {@link Locale} or null if none is available.
+     */
+    final Currency currency;
+
+    final String currencySymbol;
+    final char decimalSeparator;
+    final String exponentSymbol;
+    final char groupSeparator;
+    final char negativeSign;
+    final char percentSymbol;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            System.identityHashCode(this.decimalFormat),
+            this.locale,
+            this.currency,
+            this.currencySymbol,
+            this.decimalSeparator,
+            this.exponentSymbol,
+            this.groupSeparator,
+            this.negativeSign,
+            this.percentSymbol
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterDecimalFormatPoolKey && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterDecimalFormatPoolKey other) {
+        return this.decimalFormat == other.decimalFormat &&
+            this.locale.equals(other.locale) &&
+            Objects.equals(this.currency, other.currency) &&
+            Objects.equals(this.currencySymbol, other.currencySymbol) &&
+            this.decimalSeparator == other.decimalSeparator &&
+            this.exponentSymbol.equals(other.exponentSymbol) &&
+            this.groupSeparator == other.groupSeparator &&
+            this.negativeSign == other.negativeSign &&
+            this.percentSymbol == other.percentSymbol;
+    }
+
+    @Override
+    public String toString() {
+        return this.locale + " " +
+            this.currency + " " +
+            this.currencySymbol + " " +
+            this.decimalSeparator + " " +
+            this.exponentSymbol + " " +
+            this.groupSeparator + " " +
+            this.negativeSign + " " +
+            this.percentSymbol;
+    }
+}
@@ -21,6 +21,7 @@ import walkingkooka.Either;
 import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.math.Maths;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.ParsePosition;
 import java.util.function.Function;
@@ -46,6 +47,21 @@ final class ConverterDecimalFormatStringToNumber<C extends ConverterContext> ext
             (Maths.isNumberClass(type) || type == Number.class);
     }
 
+    @Override
+    <T> Either<T, String> convertWithEngine(final ConverterDecimalFormatEngine engine,
+                                            final Object value,
+                                            final Class<T> type,
+                                            final ConverterContext context) {
+        final BigDecimal parsed = engine.parse((String) value);
+        return null == parsed ?
+            null :
+            this.convertToNumber(
+                parsed,
+                type,
+                context
+            );
+    }
+
     @Override //
     <T> Either<T, String> convertWithDecimalFormat(final DecimalFormat decimalFormat,
                                                    final Object value,
@@ -73,6 +89,16 @@ final class ConverterDecimalFormatStringToNumber<C extends ConverterContext> ext
             );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(String.class),
+        ConverterCapabilities.NUMBER
+    );
+
     @Override
     public String toString() {
         return "DecimalFormat String to Number";
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+
+/**
+ * Receives the failure of a primitive conversion such as {@link Converter#convertLong(Object, ConverterContext, ConverterFailure)},
+ * which returns an unboxed value rather than an {@link Either}. Primitive conversions return zero or false and record
+ * the failure here, callers should test {@link #isFailed()} after each conversion.
+ * <br>
+ * An instance is not thread safe but may be reused by one thread for many conversions, calling {@link #clear()} after
+ * each failure. The standard failure message is only built if {@link #message()} is called.
+ */
+public final class ConverterFailure {
+
+    /**
+     * Creates a new {@link ConverterFailure} that has not failed.
+     */
+    public static ConverterFailure empty() {
+        return new ConverterFailure();
+    }
+
+    private ConverterFailure() {
+        super();
+    }
+
+    /**
+     * Returns true if a conversion has failed since the last {@link #clear()}.
+     */
+    public boolean isFailed() {
+        return null != this.type;
+    }
+
+    /**
+     * Records a failure with the standard failure message.
+     */
+    public void fail(final Object value,
+                     final Class<?> type) {
+        this.fail(
+            value,
+            type,
+            null
+        );
+    }
+
+    /**
+     * Records a failure with the given message, a null message is replaced by the standard failure message.
+     */
+    public void fail(final Object value,
+                     final Class<?> type,
+                     final String message) {
+        this.value = value;
+        this.type = type;
+        this.message = message;
+    }
+
+    /**
+     * Returns the failure message or null if no conversion failed.
+     */
+    public String message() {
+        String message = this.message;
+
+        final Class<?> type = this.type;
+        if (null == message && null != type) {
+            message = FailConversion.handle(
+                this.value,
+                type
+            ).rightValue();
+            this.message = message;
+        }
+
+        return message;
+    }
+
+    /**
+     * Clears any failure so this may be reused for the next conversion.
+     */
+    public void clear() {
+        this.value = null;
+        this.type = null;
+        this.message = null;
+    }
+
+    /**
+     * The value that failed to convert.
+     */
+    private Object value;
+
+    /**
+     * The target type, which is null when no conversion failed.
+     */
+    private Class<?> type;
+
+    /**
+     * The message, built on demand when null.
+     */
+    private String message;
+
+    // primitives.......................................................................................................
+
+    /**
+     * Unboxes the result of a conversion to {@link Boolean} recording a failure and returning false if it failed.
+     */
+    boolean booleanValue(final Object value,
+                         final Either<Boolean, String> result) {
+        final Boolean converted = this.leftValueOrFail(
+            value,
+            Boolean.class,
+            result
+        );
+        return null != converted && converted;
+    }
+
+    /**
+     * Unboxes the result of a conversion to {@link Double} recording a failure and returning zero if it failed.
+     */
+    double doubleValue(final Object value,
+                       final Either<Double, String> result) {
+        final Double converted = this.leftValueOrFail(
+            value,
+            Double.class,
+            result
+        );
+        return null != converted ?
+            converted :
+            0;
+    }
+
+    /**
+     * Unboxes the result of a conversion to {@link Integer} recording a failure and returning zero if it failed.
+     */
+    int intValue(final Object value,
+                 final Either<Integer, String> result) {
+        final Integer converted = this.leftValueOrFail(
+            value,
+            Integer.class,
+            result
+        );
+        return null != converted ?
+            converted :
+            0;
+    }
+
+    /**
+     * Unboxes the result of a conversion to {@link Long} recording a failure and returning zero if it failed.
+     */
+    long longValue(final Object value,
+                   final Either<Long, String> result) {
+        final Long converted = this.leftValueOrFail(
+            value,
+            Long.class,
+            result
+        );
+        return null != converted ?
+            converted :
+            0;
+    }
+
+    /**
+     * Returns the successful value, or records a failure and returns null. A successful null value cannot be
+     * represented as a primitive and is also a failure.
+     */
+    private <T> T leftValueOrFail(final Object value,
+                                  final Class<T> type,
+                                  final Either<T, String> result) {
+        T converted = null;
+
+        if (result.isLeft()) {
+            converted = result.leftValue();
+        }
+        if (null == converted) {
+            this.fail(
+                value,
+                type,
+                result.isRight() && false == FailConversion.isNotSupported(result) ?
+                    result.rightValue() :
+                    null
+            );
+        }
+
+        return converted;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final String message = this.message();
+        return null == message ?
+            "" :
+            message;
+    }
+}
@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Either;
 import walkingkooka.text.CharSequences;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Interface that includes a method to convert a value to a target type.
  */
@@ -73,6 +76,112 @@ public interface ConverterLike {
         return converted.leftValue();
     }
 
+    // primitives.......................................................................................................
+
+    /**
+     * Converts the value to a <code>boolean</code> without an {@link Either} or boxing, returning false and recording
+     * any failure in the {@link ConverterFailure}.
+     */
+    default boolean convertBoolean(final Object value,
+                                   final ConverterFailure failure) {
+        return failure.booleanValue(
+            value,
+            this.convert(
+                value,
+                Boolean.class
+            )
+        );
+    }
+
+    /**
+     * Converts the value to a <code>double</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default double convertDouble(final Object value,
+                                 final ConverterFailure failure) {
+        return failure.doubleValue(
+            value,
+            this.convert(
+                value,
+                Double.class
+            )
+        );
+    }
+
+    /**
+     * Converts the value to an <code>int</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default int convertInt(final Object value,
+                           final ConverterFailure failure) {
+        return failure.intValue(
+            value,
+            this.convert(
+                value,
+                Integer.class
+            )
+        );
+    }
+
+    /**
+     * Converts the value to a <code>long</code>, returning zero and recording any failure in the {@link ConverterFailure}.
+     */
+    default long convertLong(final Object value,
+                             final ConverterFailure failure) {
+        return failure.longValue(
+            value,
+            this.convert(
+                value,
+                Long.class
+            )
+        );
+    }
+
+    // converterFor.....................................................................................................
+
+    /**
+     * Returns a {@link ConverterLike} that gives the same results as this for values of the given {@link Class}
+     * converted to the target type, so a caller converting many values of the same {@link Class} such as the elements
+     * of a list only resolves the {@link Converter} once. The default returns this.
+     */
+    default ConverterLike converterFor(final Class<?> valueType,
+                                       final Class<?> type) {
+        return this;
+    }
+
+    // batch............................................................................................................
+
+    /**
+     * Converts all values to the same target type, writing each result to the same index in results and setting the
+     * bit of each value that failed in failures, returning the number of failures.
+     */
+    default <T> int convertAll(final List<?> values,
+                               final Class<T> type,
+                               final T[] results,
+                               final BitSet failures) {
+        final int count = values.size();
+        if (results.length < count) {
+            throw new IllegalArgumentException("Results length " + results.length + " < " + count + " values");
+        }
+
+        int failed = 0;
+
+        for (int i = 0; i < count; i++) {
+            final Either<T, String> result = this.convert(
+                values.get(i),
+                type
+            );
+            if (result.isLeft()) {
+                results[i] = result.leftValue();
+                failures.clear(i);
+            } else {
+                results[i] = null;
+                failures.set(i);
+                failed++;
+            }
+        }
+
+        return failed;
+    }
+
     /**
      * Type safe helper without any casts that wraps a successful conversion value.
      */
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ConverterLike} that converts using a {@link Converter} resolved by
+ * {@link ConverterLike#converterFor(Class, Class)} and the {@link ConverterContext} that resolved it. Failures are
+ * reported using the {@link ConverterContext#convertThrowable(String, Object, Class)} of the context.
+ */
+final class ConverterLikeConverter<C extends ConverterContext> implements ConverterLike {
+
+    static <C extends ConverterContext> ConverterLikeConverter<C> with(final Converter<C> converter,
+                                                                       final C context) {
+        return new ConverterLikeConverter<>(
+            Objects.requireNonNull(converter, "converter"),
+            Objects.requireNonNull(context, "context")
+        );
+    }
+
+    private ConverterLikeConverter(final Converter<C> converter,
+                                   final C context) {
+        this.converter = converter;
+        this.context = context;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type) {
+        return this.converter.canConvert(
+            value,
+            type,
+            this.context
+        );
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type) {
+        return this.converter.convert(
+            value,
+            type,
+            this.context
+        );
+    }
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final ConverterFailure failure) {
+        return this.converter.convertBoolean(value, this.context, failure);
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final ConverterFailure failure) {
+        return this.converter.convertDouble(value, this.context, failure);
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final ConverterFailure failure) {
+        return this.converter.convertInt(value, this.context, failure);
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final ConverterFailure failure) {
+        return this.converter.convertLong(value, this.context, failure);
+    }
+
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final T[] results,
+                              final BitSet failures) {
+        return this.converter.convertAll(
+            values,
+            type,
+            this.context,
+            results,
+            failures
+        );
+    }
+
+    @Override
+    public RuntimeException convertThrowable(final String message,
+                                             final Object value,
+                                             final Class<?> type) {
+        return this.context.convertThrowable(
+            message,
+            value,
+            type
+        );
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    // @VisibleForTesting
+    final C context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.converter.toString();
+    }
+}
@@ -19,6 +19,9 @@ package walkingkooka.convert;
 
 import walkingkooka.Either;
 
+import java.util.BitSet;
+import java.util.List;
+
 public interface ConverterLikeDelegator extends ConverterLike {
 
     @Override
@@ -40,5 +43,69 @@ public interface ConverterLikeDelegator extends ConverterLike {
         );
     }
 
+    @Override
+    default boolean convertBoolean(final Object value,
+                                   final ConverterFailure failure) {
+        return this.converterLike()
+            .convertBoolean(
+                value,
+                failure
+            );
+    }
+
+    @Override
+    default double convertDouble(final Object value,
+                                 final ConverterFailure failure) {
+        return this.converterLike()
+            .convertDouble(
+                value,
+                failure
+            );
+    }
+
+    @Override
+    default int convertInt(final Object value,
+                           final ConverterFailure failure) {
+        return this.converterLike()
+            .convertInt(
+                value,
+                failure
+            );
+    }
+
+    @Override
+    default long convertLong(final Object value,
+                             final ConverterFailure failure) {
+        return this.converterLike()
+            .convertLong(
+                value,
+                failure
+            );
+    }
+
+    /**
+     * Returns this, so conversions still pass through this delegator. Only a {@link ConverterLike} that knows its
+     * converter and context resolve the same results should return something else.
+     */
+    @Override
+    default ConverterLike converterFor(final Class<?> valueType,
+                                       final Class<?> type) {
+        return this;
+    }
+
+    @Override
+    default <T> int convertAll(final List<?> values,
+                               final Class<T> type,
+                               final T[] results,
+                               final BitSet failures) {
+        return this.converterLike()
+            .convertAll(
+                values,
+                type,
+                results,
+                failures
+            );
+    }
+
     ConverterLike converterLike();
 }
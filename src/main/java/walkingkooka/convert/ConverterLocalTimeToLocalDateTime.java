@@ -62,6 +62,16 @@ final class ConverterLocalTimeToLocalDateTime<C extends ConverterContext> extend
 
     private final static LocalDate DATE = LocalDate.EPOCH;
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(LocalTime.class),
+        ConverterCapabilities.types(LocalDateTime.class)
+    );
+
     @Override
     public String toString() {
         return "LocalTime to LocalDateTime";
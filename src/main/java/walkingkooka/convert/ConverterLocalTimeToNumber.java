@@ -56,12 +56,44 @@ final class ConverterLocalTimeToNumber<C extends ConverterContext> extends Conve
                                       final Class<T> type,
                                       final ConverterContext context) {
         return this.convertToNumber(
-            (double)time.toNanoOfDay() / Converters.NANOS_PER_DAY,
+            days(time),
             Cast.to(type),
             context
         );
     }
 
+    // primitives.......................................................................................................
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return value instanceof LocalTime ?
+            days((LocalTime) value) :
+            super.convertDouble(
+                value,
+                context,
+                failure
+            );
+    }
+
+    /**
+     * The time as a fraction of a day.
+     */
+    private static double days(final LocalTime time) {
+        return (double) time.toNanoOfDay() / Converters.NANOS_PER_DAY;
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(LocalTime.class),
+        ConverterCapabilities.NUMBER
+    );
+
     @Override
     public String toString() {
         return "LocalTime to Number";
@@ -103,6 +103,14 @@ abstract class ConverterLocaleTo<T, C extends ConverterContext> implements Tryin
     abstract T tryConvertNonLocale(final Object value,
                                    final C context);
 
+    @Override
+    public final ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.ANY,
+            ConverterCapabilities.types(this.targetType())
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override
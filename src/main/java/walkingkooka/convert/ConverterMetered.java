@@ -0,0 +1,363 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps another {@link Converter} recording each {@link #convert(Object, Class, ConverterContext)},
+ * {@link #tryConvert(Object, Class, ConverterContext)} and primitive conversion in a {@link ConverterMetrics} under the
+ * {@link Object#toString()} of the wrapped {@link Converter} and the target type, primitive conversions are recorded
+ * under the boxed type. A not supported result from {@link #tryConvert(Object, Class, ConverterContext)} is counted as
+ * unsupported rather than as a failure. Each {@link #convertAll(List, Class, ConverterContext, Object[], BitSet)} is
+ * recorded once as a batch. The {@link Converter} returned by {@link #converterFor(Class, Class)} records into the same
+ * {@link ConverterMetrics}.
+ */
+final class ConverterMetered<C extends ConverterContext> implements Converter<C>,
+    TreePrintable {
+
+    /**
+     * Wraps the given {@link Converter}, re-wrapping the {@link Converter} inside another {@link ConverterMetered}.
+     */
+    static <C extends ConverterContext> ConverterMetered<C> with(final Converter<C> converter,
+                                                               final ConverterMetrics metrics) {
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(metrics, "metrics");
+
+        Converter<C> wrap = converter;
+        if (converter instanceof ConverterMetered) {
+            final ConverterMetered<C> metered = Cast.to(converter);
+            wrap = metered.converter;
+        }
+
+        return new ConverterMetered<>(
+            wrap,
+            metrics
+        );
+    }
+
+    /**
+     * Wraps every node of the tree, the members of each {@link ConverterCollection}, the stages of each
+     * {@link ConverterChain} and the {@link Converter} inside each {@link ConverterCustomToString}, and then the root.
+     */
+    static <C extends ConverterContext> Converter<C> tree(final Converter<C> converter,
+                                                        final ConverterMetrics metrics) {
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(metrics, "metrics");
+
+        return tree0(
+            converter,
+            metrics
+        );
+    }
+
+    private static <C extends ConverterContext> Converter<C> tree0(final Converter<C> converter,
+                                                                 final ConverterMetrics metrics) {
+        final Converter<C> instrumented;
+
+        if (converter instanceof ConverterMetered) {
+            final ConverterMetered<C> metered = Cast.to(converter);
+            instrumented = tree0(
+                metered.converter,
+                metrics
+            );
+        } else {
+            if (converter instanceof ConverterCollection) {
+                final ConverterCollection<C> collection = Cast.to(converter);
+                final List<Converter<C>> members = collection.converters()
+                    .stream()
+                    .map(m -> tree0(m, metrics))
+                    .collect(Collectors.toList());
+                instrumented = with(
+                    collection.isIndexed() ?
+                        ConverterCollection.indexed(members) :
+                        ConverterCollection.with(members),
+                    metrics
+                );
+            } else {
+                if (converter instanceof ConverterChain) {
+                    final ConverterChain<C> chain = Cast.to(converter);
+                    instrumented = with(
+                        ConverterChain.with(
+                            tree0(chain.first(), metrics),
+                            chain.intermediateType(),
+                            tree0(chain.second(), metrics)
+                        ),
+                        metrics
+                    );
+                } else {
+                    if (converter instanceof ConverterCustomToString) {
+                        final ConverterCustomToString<C> custom = Cast.to(converter);
+                        instrumented = with(
+                            ConverterCustomToString.wrap(
+                                tree0(custom.converter, metrics),
+                                custom.toString
+                            ),
+                            metrics
+                        );
+                    } else {
+                        instrumented = with(
+                            converter,
+                            metrics
+                        );
+                    }
+                }
+            }
+        }
+
+        return instrumented;
+    }
+
+    private ConverterMetered(final Converter<C> converter,
+                             final ConverterMetrics metrics) {
+        this.converter = converter;
+        this.metrics = metrics;
+        this.name = converter.toString();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return this.converter.canConvert(value, type, context);
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        final long start = System.nanoTime();
+        final Either<T, String> result = this.converter.convert(value, type, context);
+        this.record(
+            type,
+            result,
+            start
+        );
+        return result;
+    }
+
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        final long start = System.nanoTime();
+        final Either<T, String> result = this.converter.tryConvert(value, type, context);
+        this.record(
+            type,
+            result,
+            start
+        );
+        return result;
+    }
+
+    private void record(final Class<?> type,
+                        final Either<?, String> result,
+                        final long start) {
+        final long nanos = System.nanoTime() - start;
+        final ConverterMetricsRecorder recorder = this.metrics.recorder(
+            this.name,
+            type
+        );
+        if (this.isNotSupported(result)) {
+            recorder.recordUnsupported();
+        } else {
+            recorder.record(
+                result.isLeft(),
+                nanos
+            );
+        }
+    }
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        final long start = System.nanoTime();
+        final boolean result = this.converter.convertBoolean(value, context, failure);
+        this.recordPrimitive(
+            Boolean.class,
+            failure,
+            start
+        );
+        return result;
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        final long start = System.nanoTime();
+        final double result = this.converter.convertDouble(value, context, failure);
+        this.recordPrimitive(
+            Double.class,
+            failure,
+            start
+        );
+        return result;
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        final long start = System.nanoTime();
+        final int result = this.converter.convertInt(value, context, failure);
+        this.recordPrimitive(
+            Integer.class,
+            failure,
+            start
+        );
+        return result;
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        final long start = System.nanoTime();
+        final long result = this.converter.convertLong(value, context, failure);
+        this.recordPrimitive(
+            Long.class,
+            failure,
+            start
+        );
+        return result;
+    }
+
+    /**
+     * A primitive conversion succeeded if the {@link ConverterFailure} has not failed, callers are expected to
+     * {@link ConverterFailure#clear()} after each failure.
+     */
+    private void recordPrimitive(final Class<?> type,
+                                 final ConverterFailure failure,
+                                 final long start) {
+        final long nanos = System.nanoTime() - start;
+        this.metrics.recorder(
+            this.name,
+            type
+        ).record(
+            false == failure.isFailed(),
+            nanos
+        );
+    }
+
+    /**
+     * Wraps the resolved {@link Converter} so conversions through it are still recorded.
+     */
+    @Override
+    public Converter<C> converterFor(final Class<?> valueType,
+                                     final Class<?> type) {
+        final Converter<C> converter = this.converter.converterFor(valueType, type);
+        return this.converter == converter ?
+            this :
+            with(
+                converter,
+                this.metrics
+            );
+    }
+
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] results,
+                              final BitSet failures) {
+        final long start = System.nanoTime();
+        final int failureCount = this.converter.convertAll(
+            values,
+            type,
+            context,
+            results,
+            failures
+        );
+        final long nanos = System.nanoTime() - start;
+        this.metrics.recorder(
+            this.name,
+            type
+        ).recordBatch(
+            values.size(),
+            failureCount,
+            nanos
+        );
+        return failureCount;
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return this.converter.capabilities();
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    private final ConverterMetrics metrics;
+
+    /**
+     * The {@link Object#toString()} of the wrapped {@link Converter}, captured once as some composites build it each time.
+     */
+    private final String name;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.converter,
+            this.metrics
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterMetered && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterMetered<?> other) {
+        return this.converter.equals(other.converter) &&
+            this.metrics == other.metrics;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(this.getClass().getSimpleName());
+        printer.indent();
+        {
+            TreePrintable.printTreeOrToString(
+                this.converter,
+                printer
+            );
+        }
+        printer.outdent();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in process registry of the metrics recorded by {@link Converters#metered(Converter, ConverterMetrics)}, with one
+ * recorder for each {@link Converter} {@link Object#toString()} and target type.
+ */
+public final class ConverterMetrics {
+
+    public static ConverterMetrics empty() {
+        return new ConverterMetrics();
+    }
+
+    private ConverterMetrics() {
+        super();
+    }
+
+    /**
+     * Returns the recorder for the name and type, creating it the first time. Lookups read a map that is never modified
+     * after it is published, only creating a recorder takes a lock.
+     */
+    ConverterMetricsRecorder recorder(final String name,
+                                      final Class<?> type) {
+        Map<Class<?>, ConverterMetricsRecorder> types = this.recorders.get(name);
+        ConverterMetricsRecorder recorder = null == types ?
+            null :
+            types.get(type);
+
+        if (null == recorder) {
+            synchronized (this) {
+                final Map<String, Map<Class<?>, ConverterMetricsRecorder>> recorders = this.recorders;
+                types = recorders.get(name);
+                recorder = null == types ?
+                    null :
+                    types.get(type);
+
+                if (null == recorder) {
+                    recorder = ConverterMetricsRecorder.with(
+                        name,
+                        type
+                    );
+
+                    final Map<Class<?>, ConverterMetricsRecorder> newTypes = null == types ?
+                        new HashMap<>() :
+                        new HashMap<>(types);
+                    newTypes.put(
+                        type,
+                        recorder
+                    );
+
+                    final Map<String, Map<Class<?>, ConverterMetricsRecorder>> newRecorders = new HashMap<>(recorders);
+                    newRecorders.put(
+                        name,
+                        newTypes
+                    );
+                    this.recorders = newRecorders;
+                }
+            }
+        }
+
+        return recorder;
+    }
+
+    private volatile Map<String, Map<Class<?>, ConverterMetricsRecorder>> recorders = new HashMap<>();
+
+    /**
+     * Returns a {@link ConverterMetricsSnapshot} for each name and type that has been recorded, sorted by name and then
+     * type.
+     */
+    public List<ConverterMetricsSnapshot> snapshot() {
+        final List<ConverterMetricsSnapshot> snapshots = Lists.array();
+
+        for (final Map<Class<?>, ConverterMetricsRecorder> types : this.recorders.values()) {
+            for (final ConverterMetricsRecorder recorder : types.values()) {
+                snapshots.add(
+                    recorder.snapshot()
+                );
+            }
+        }
+
+        snapshots.sort(SNAPSHOT_COMPARATOR);
+        return Lists.immutable(snapshots);
+    }
+
+    private final static Comparator<ConverterMetricsSnapshot> SNAPSHOT_COMPARATOR = Comparator.comparing(ConverterMetricsSnapshot::name)
+        .thenComparing(s -> s.type().getName());
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
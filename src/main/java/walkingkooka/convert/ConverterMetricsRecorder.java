@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the calls, successes, failures and latencies for one {@link Converter} name and target type. All counters
+ * are {@link AtomicLong} so recording never takes a lock. Unsupported results are counted apart from calls, and a
+ * batch is recorded once, counting each value as a call that took the mean latency of the batch.
+ * <br>
+ * Latencies are counted in a log-linear histogram in the style of HDR histograms, each power of two range of
+ * nanoseconds is split into {@link #SUB_BUCKETS} equal buckets, giving a relative error of at most 25% with a fixed
+ * number of buckets covering every positive long.
+ */
+final class ConverterMetricsRecorder {
+
+    private final static int SUB_BUCKET_BITS = 2;
+
+    final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    final static int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    static ConverterMetricsRecorder with(final String name,
+                                         final Class<?> type) {
+        return new ConverterMetricsRecorder(
+            name,
+            type
+        );
+    }
+
+    private ConverterMetricsRecorder(final String name,
+                                     final Class<?> type) {
+        super();
+        this.name = name;
+        this.type = type;
+
+        final AtomicLong[] buckets = new AtomicLong[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new AtomicLong();
+        }
+        this.buckets = buckets;
+    }
+
+    void record(final boolean success,
+                final long nanos) {
+        (success ? this.successes : this.failures).incrementAndGet();
+        this.totalNanos.addAndGet(nanos);
+        this.buckets[bucket(nanos)].incrementAndGet();
+    }
+
+    /**
+     * Counts a result that was not supported, which is neither a success nor a failure and has no latency.
+     */
+    void recordUnsupported() {
+        this.unsupported.incrementAndGet();
+    }
+
+    /**
+     * Records a batch of values taking the given nanos, of which failures failed.
+     */
+    void recordBatch(final int values,
+                     final int failures,
+                     final long nanos) {
+        this.batches.incrementAndGet();
+        if (values > 0) {
+            this.successes.addAndGet(values - failures);
+            this.failures.addAndGet(failures);
+            this.totalNanos.addAndGet(nanos);
+            this.buckets[bucket(nanos / values)].addAndGet(values);
+        }
+    }
+
+    /**
+     * Returns the histogram bucket for the given nanos, negative values from a clock adjustment are counted as 0.
+     */
+    static int bucket(final long nanos) {
+        final int bucket;
+
+        if (nanos < SUB_BUCKETS) {
+            bucket = (int) Math.max(nanos, 0);
+        } else {
+            final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+            final int shift = exponent - SUB_BUCKET_BITS;
+            bucket = (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+        }
+
+        return bucket;
+    }
+
+    /**
+     * The smallest nanos counted by the given bucket.
+     */
+    static long lowestNanos(final int bucket) {
+        return bucket < SUB_BUCKETS ?
+            bucket :
+            ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << (bucket / SUB_BUCKETS - 1);
+    }
+
+    /**
+     * The largest nanos counted by the given bucket.
+     */
+    static long highestNanos(final int bucket) {
+        return bucket == BUCKET_COUNT - 1 ?
+            Long.MAX_VALUE :
+            lowestNanos(bucket + 1) - 1;
+    }
+
+    ConverterMetricsSnapshot snapshot() {
+        final AtomicLong[] buckets = this.buckets;
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].get();
+        }
+
+        return ConverterMetricsSnapshot.with(
+            this.name,
+            this.type,
+            this.successes.get(),
+            this.failures.get(),
+            this.unsupported.get(),
+            this.batches.get(),
+            this.totalNanos.get(),
+            counts
+        );
+    }
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final AtomicLong successes = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong unsupported = new AtomicLong();
+
+    private final AtomicLong batches = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private final AtomicLong[] buckets;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A copy of the metrics recorded for one {@link Converter} name and target type, taken by
+ * {@link ConverterMetrics#snapshot()}. Counters are read one at a time while recording may continue, so the counts in a
+ * snapshot may differ slightly from each other.
+ * <br>
+ * {@link #calls()} counts the values converted by {@link Converter#convert(Object, Class, ConverterContext)},
+ * {@link Converter#tryConvert(Object, Class, ConverterContext)}, the primitive methods and each value of
+ * {@link Converter#convertAll(java.util.List, Class, ConverterContext, Object[], java.util.BitSet)}. Results that were
+ * not supported by the {@link Converter} are counted by {@link #unsupported()} and not as calls.
+ */
+public final class ConverterMetricsSnapshot {
+
+    static ConverterMetricsSnapshot with(final String name,
+                                         final Class<?> type,
+                                         final long successes,
+                                         final long failures,
+                                         final long unsupported,
+                                         final long batches,
+                                         final long totalNanos,
+                                         final long[] histogram) {
+        return new ConverterMetricsSnapshot(
+            name,
+            type,
+            successes,
+            failures,
+            unsupported,
+            batches,
+            totalNanos,
+            histogram
+        );
+    }
+
+    private ConverterMetricsSnapshot(final String name,
+                                     final Class<?> type,
+                                     final long successes,
+                                     final long failures,
+                                     final long unsupported,
+                                     final long batches,
+                                     final long totalNanos,
+                                     final long[] histogram) {
+        super();
+        this.name = name;
+        this.type = type;
+        this.successes = successes;
+        this.failures = failures;
+        this.unsupported = unsupported;
+        this.batches = batches;
+        this.totalNanos = totalNanos;
+        this.histogram = histogram;
+    }
+
+    /**
+     * The {@link Object#toString()} of the {@link Converter}.
+     */
+    public String name() {
+        return this.name;
+    }
+
+    private final String name;
+
+    /**
+     * The target type of the conversions.
+     */
+    public Class<?> type() {
+        return this.type;
+    }
+
+    private final Class<?> type;
+
+    public long calls() {
+        return this.successes + this.failures;
+    }
+
+    public long successes() {
+        return this.successes;
+    }
+
+    private final long successes;
+
+    public long failures() {
+        return this.failures;
+    }
+
+    private final long failures;
+
+    /**
+     * The count of results that were not supported, these are not counted as calls and have no latency.
+     */
+    public long unsupported() {
+        return this.unsupported;
+    }
+
+    private final long unsupported;
+
+    /**
+     * The count of {@link Converter#convertAll(java.util.List, Class, ConverterContext, Object[], java.util.BitSet)}
+     * batches, each value of a batch is also counted as a call.
+     */
+    public long batches() {
+        return this.batches;
+    }
+
+    private final long batches;
+
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    private final long totalNanos;
+
+    /**
+     * The mean latency in nanoseconds or 0 if there were no calls.
+     */
+    public long meanNanos() {
+        final long calls = this.calls();
+        return 0 == calls ?
+            0 :
+            this.totalNanos / calls;
+    }
+
+    /**
+     * Returns the latency in nanoseconds at or below which the given percentile of calls completed, as the highest value
+     * of the histogram bucket holding that call, or 0 if there were no calls.
+     */
+    public long percentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Invalid percentile " + percentile + " not between 0 and 100");
+        }
+
+        long nanos = 0;
+
+        final long[] histogram = this.histogram;
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+
+        if (total > 0) {
+            final long rank = Math.max(
+                1,
+                (long) Math.ceil(percentile / 100 * total)
+            );
+
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    nanos = ConverterMetricsRecorder.highestNanos(i);
+                    break;
+                }
+            }
+        }
+
+        return nanos;
+    }
+
+    /**
+     * The count of calls in each latency bucket.
+     */
+    // @VisibleForTesting
+    final long[] histogram;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.name,
+            this.type,
+            this.successes,
+            this.failures,
+            this.unsupported,
+            this.batches,
+            this.totalNanos
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterMetricsSnapshot && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterMetricsSnapshot other) {
+        return this.name.equals(other.name) &&
+            this.type == other.type &&
+            this.successes == other.successes &&
+            this.failures == other.failures &&
+            this.unsupported == other.unsupported &&
+            this.batches == other.batches &&
+            this.totalNanos == other.totalNanos &&
+            Arrays.equals(this.histogram, other.histogram);
+    }
+
+    @Override
+    public String toString() {
+        return this.name +
+            " to " +
+            this.type.getSimpleName() +
+            " calls=" +
+            this.calls() +
+            " successes=" +
+            this.successes +
+            " failures=" +
+            this.failures +
+            " unsupported=" +
+            this.unsupported +
+            " batches=" +
+            this.batches +
+            " mean=" +
+            this.meanNanos() +
+            "ns p99=" +
+            this.percentileNanos(99) +
+            "ns";
+    }
+}
@@ -57,6 +57,11 @@ final class ConverterNever<C extends ConverterContext> implements ShortCircuitin
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return ConverterCapabilities.NONE;
+    }
+
     @Override
     public String toString() {
         return "never";
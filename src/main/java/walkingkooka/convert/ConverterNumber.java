@@ -59,27 +59,69 @@ abstract class ConverterNumber<N, C extends ConverterContext> implements ShortCi
     }
 
     /**
-     * Accepts an assumed {@link Number} and dispatches to one of the sub-classes of {@link Number} which then
-     * call one of four abstract methods.
+     * Accepts an assumed {@link Number} and uses a switch over {@link ConverterNumberTypes} to call one of the four
+     * abstract methods, without creating a visitor for each conversion.
      */
     private <U> Either<U, String> convertNonNull(final Object value,
                                                  final Class<U> type,
                                                  final ConverterContext context) {
         // T and U should be the same...
-        Either<U, String> result;
+        Either<N, String> result;
         try {
-            result = ConverterNumberToNumberVisitor.convert(
-                Cast.to(this),
-                (Number) value,
-                type,
-                context
-            );
+            final Number number = (Number) value;
+
+            switch (ConverterNumberTypes.numberType(number)) {
+                case ConverterNumberTypes.BIG_DECIMAL:
+                    result = this.bigDecimal(
+                        (BigDecimal) number,
+                        context
+                    );
+                    break;
+                case ConverterNumberTypes.BIG_INTEGER:
+                    result = this.bigInteger(
+                        (BigInteger) number,
+                        context
+                    );
+                    break;
+                case ConverterNumberTypes.DOUBLE:
+                    result = this.doubleValue(
+                        (Double) number,
+                        context
+                    );
+                    break;
+                case ConverterNumberTypes.FLOAT:
+                    result = this.floatValue(
+                        (Float) number,
+                        context
+                    );
+                    break;
+                case ConverterNumberTypes.LONG:
+                    result = this.longValue(
+                        (Long) number,
+                        context
+                    );
+                    break;
+                case ConverterNumberTypes.BYTE:
+                case ConverterNumberTypes.INTEGER:
+                case ConverterNumberTypes.SHORT:
+                    result = this.number(
+                        number,
+                        context
+                    );
+                    break;
+                default:
+                    result = this.failConversion(
+                        value,
+                        type
+                    );
+                    break;
+            }
         } catch (final UnsupportedOperationException rethrow) {
             throw rethrow;
         } catch (final RuntimeException cause) {
             result = Either.right(cause.getMessage());
         }
-        return result;
+        return Cast.to(result);
     }
 
     abstract Either<N, String> bigDecimal(final BigDecimal value,
@@ -110,6 +152,14 @@ abstract class ConverterNumber<N, C extends ConverterContext> implements ShortCi
     abstract Either<N, String> longValue(final Long value,
                                          final ConverterContext context);
 
+    @Override
+    public final ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.types(Number.class),
+            ConverterCapabilities.types(this.targetType())
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -76,6 +76,30 @@ final class ConverterNumberToBoolean<C extends ConverterContext> extends Convert
         return this.successfulConversion(0 != value.longValue());
     }
 
+    // primitives.......................................................................................................
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        final boolean converted;
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            converted = 0 != ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            final double doubleValue = ((Number) value).doubleValue();
+            converted = false == Double.isInfinite(doubleValue) && false == Double.isNaN(doubleValue) && 0 != doubleValue;
+        } else {
+            converted = super.convertBoolean(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
     private Either<Boolean, String> successfulConversion(final Object value) {
         return this.successfulConversion(value, Boolean.class);
     }
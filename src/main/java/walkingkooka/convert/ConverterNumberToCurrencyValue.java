@@ -64,6 +64,16 @@ final class ConverterNumberToCurrencyValue<C extends ConverterContext> implement
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Number.class),
+        ConverterCapabilities.types(CurrencyValue.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
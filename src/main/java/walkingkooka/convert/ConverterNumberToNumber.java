@@ -85,15 +85,22 @@ final class ConverterNumberToNumber<C extends ConverterContext> implements Short
                                                    final Class<T> type) {
         Either<T, String> result;
 
-        // attempt to find a visitor for the given type.
-        final ConverterNumberToNumberNumberTypeVisitorNumber<?> visitor = ConverterNumberToNumberNumberTypeVisitor.visitor(type);
-        if (null == visitor) {
-            result = this.failConversion(value, type);
+        // attempt to find a strategy for the given type.
+        final ConverterNumberToNumberStrategy<?> strategy = ConverterNumberToNumberStrategy.strategy(
+            Cast.to(type)
+        );
+        if (null == strategy) {
+            result = this.failConversion(
+                value,
+                type
+            );
         } else {
-            // ask the visitor to convert the given value.
-            final Object converted = visitor.convert(Cast.to(value));
+            final Object converted = strategy.convert((Number) value);
             if (null == converted) {
-                result = this.failConversion(value, type);
+                result = this.failConversion(
+                    value,
+                    type
+                );
             } else {
                 result = this.successfulConversion(
                     converted,
@@ -105,6 +112,95 @@ final class ConverterNumberToNumber<C extends ConverterContext> implements Short
         return result;
     }
 
+    // primitives.......................................................................................................
+
+    /**
+     * Converts the common {@link Number} types without boxing, other types and out of range values use the default
+     * which converts to {@link Double}.
+     */
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        final double converted;
+
+        if (value instanceof Double || value instanceof Integer || value instanceof Float || value instanceof Short) {
+            converted = ((Number) value).doubleValue();
+        } else if (value instanceof Long && (long) ((Long) value).doubleValue() == (Long) value) {
+            converted = ((Long) value).doubleValue();
+        } else {
+            converted = ShortCircuitingConverter.super.convertDouble(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        final int converted;
+
+        if (value instanceof Integer || value instanceof Short) {
+            converted = ((Number) value).intValue();
+        } else if ((value instanceof Long || value instanceof Double || value instanceof Float) &&
+            isIntRange(((Number) value).doubleValue())) {
+            converted = ((Number) value).intValue();
+        } else {
+            converted = ShortCircuitingConverter.super.convertInt(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
+    private static boolean isIntRange(final double value) {
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        final long converted;
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            converted = ((Number) value).longValue();
+        } else if ((value instanceof Double || value instanceof Float) &&
+            isLongRange(((Number) value).doubleValue())) {
+            converted = ((Number) value).longValue();
+        } else {
+            converted = ShortCircuitingConverter.super.convertLong(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
+    private static boolean isLongRange(final double value) {
+        return value >= Long.MIN_VALUE && value <= Long.MAX_VALUE;
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Number.class),
+        ConverterCapabilities.NUMBER
+    );
+
     @Override
     public String toString() {
         return "Number to Number";
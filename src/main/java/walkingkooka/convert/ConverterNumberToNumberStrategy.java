@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A stateless strategy that converts any of the eight known {@link Number} types to one target {@link Number} type.
+ * The strategy for a target and the method for the source are both selected with a <code>switch</code> over
+ * {@link ConverterNumberTypes}, so no visitor or other garbage is created for each conversion.
+ * All methods return null if the value is out of range of the target type.
+ */
+abstract class ConverterNumberToNumberStrategy<N extends Number> {
+
+    /**
+     * Returns the strategy for the given target {@link Number} type or null if the type is unknown.
+     */
+    static <N extends Number> ConverterNumberToNumberStrategy<N> strategy(final Class<N> type) {
+        final ConverterNumberToNumberStrategy<?> strategy;
+
+        switch (ConverterNumberTypes.numberType(type)) {
+            case ConverterNumberTypes.BIG_DECIMAL:
+                strategy = ConverterNumberToNumberStrategyBigDecimal.INSTANCE;
+                break;
+            case ConverterNumberTypes.BIG_INTEGER:
+                strategy = ConverterNumberToNumberStrategyBigInteger.INSTANCE;
+                break;
+            case ConverterNumberTypes.BYTE:
+                strategy = ConverterNumberToNumberStrategyByte.INSTANCE;
+                break;
+            case ConverterNumberTypes.DOUBLE:
+                strategy = ConverterNumberToNumberStrategyDouble.INSTANCE;
+                break;
+            case ConverterNumberTypes.FLOAT:
+                strategy = ConverterNumberToNumberStrategyFloat.INSTANCE;
+                break;
+            case ConverterNumberTypes.INTEGER:
+                strategy = ConverterNumberToNumberStrategyInteger.INSTANCE;
+                break;
+            case ConverterNumberTypes.LONG:
+                strategy = ConverterNumberToNumberStrategyLong.INSTANCE;
+                break;
+            case ConverterNumberTypes.SHORT:
+                strategy = ConverterNumberToNumberStrategyShort.INSTANCE;
+                break;
+            default:
+                strategy = null;
+                break;
+        }
+
+        return Cast.to(strategy);
+    }
+
+    /**
+     * Necessary to support unsigned byte values, when converting a byte to another number type.
+     */
+    static int toUnsignedInt(final byte value) {
+        return 0xff & value;
+    }
+
+    ConverterNumberToNumberStrategy() {
+        super();
+    }
+
+    /**
+     * Converts the given {@link Number} returning null if the value is out of range or the {@link Number} type is unknown.
+     */
+    final N convert(final Number number) {
+        final N converted;
+
+        switch (ConverterNumberTypes.numberType(number)) {
+            case ConverterNumberTypes.BIG_DECIMAL:
+                converted = this.bigDecimal((BigDecimal) number);
+                break;
+            case ConverterNumberTypes.BIG_INTEGER:
+                converted = this.bigInteger((BigInteger) number);
+                break;
+            case ConverterNumberTypes.BYTE:
+                converted = this.byteValue(number.byteValue());
+                break;
+            case ConverterNumberTypes.DOUBLE:
+                converted = this.doubleValue(number.doubleValue());
+                break;
+            case ConverterNumberTypes.FLOAT:
+                converted = this.floatValue(number.floatValue());
+                break;
+            case ConverterNumberTypes.INTEGER:
+                converted = this.intValue(number.intValue());
+                break;
+            case ConverterNumberTypes.LONG:
+                converted = this.longValue(number.longValue());
+                break;
+            case ConverterNumberTypes.SHORT:
+                converted = this.shortValue(number.shortValue());
+                break;
+            default:
+                converted = null;
+                break;
+        }
+
+        return converted;
+    }
+
+    abstract N bigDecimal(final BigDecimal number);
+
+    abstract N bigInteger(final BigInteger number);
+
+    abstract N byteValue(final byte number);
+
+    abstract N doubleValue(final double number);
+
+    abstract N floatValue(final float number);
+
+    abstract N intValue(final int number);
+
+    abstract N longValue(final long number);
+
+    abstract N shortValue(final short number);
+
+    abstract Class<N> targetType();
+
+    // Object...........................................................................................................
+
+    @Override
+    public final String toString() {
+        return Number.class.getSimpleName() + "->" + this.targetType().getSimpleName();
+    }
+}
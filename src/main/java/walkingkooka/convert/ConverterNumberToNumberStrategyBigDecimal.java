@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyBigDecimal extends ConverterNumberToNumberStrategy<BigDecimal> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyBigDecimal INSTANCE = new ConverterNumberToNumberStrategyBigDecimal();
+
+    private ConverterNumberToNumberStrategyBigDecimal() {
+        super();
+    }
+
+    @Override
+    BigDecimal bigDecimal(final BigDecimal number) {
+        return number;
+    }
+
+    @Override
+    BigDecimal bigInteger(final BigInteger number) {
+        return new BigDecimal(number);
+    }
+
+    @Override
+    BigDecimal byteValue(final byte number) {
+        return BigDecimal.valueOf(
+            toUnsignedInt(number)
+        );
+    }
+
+    @Override
+    BigDecimal doubleValue(final double number) {
+        return BigDecimal.valueOf(number);
+    }
+
+    @Override
+    BigDecimal floatValue(final float number) {
+        return BigDecimal.valueOf(number);
+    }
+
+    @Override
+    BigDecimal intValue(final int number) {
+        return BigDecimal.valueOf(number);
+    }
+
+    @Override
+    BigDecimal longValue(final long number) {
+        return BigDecimal.valueOf(number);
+    }
+
+    @Override
+    BigDecimal shortValue(final short number) {
+        return BigDecimal.valueOf(number);
+    }
+
+    @Override
+    Class<BigDecimal> targetType() {
+        return BigDecimal.class;
+    }
+}
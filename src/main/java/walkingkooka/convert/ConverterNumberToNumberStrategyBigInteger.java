@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyBigInteger extends ConverterNumberToNumberStrategy<BigInteger> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyBigInteger INSTANCE = new ConverterNumberToNumberStrategyBigInteger();
+
+    private ConverterNumberToNumberStrategyBigInteger() {
+        super();
+    }
+
+    @Override
+    BigInteger bigDecimal(final BigDecimal number) {
+        return number.toBigIntegerExact();
+    }
+
+    @Override
+    BigInteger bigInteger(final BigInteger number) {
+        return number;
+    }
+
+    @Override
+    BigInteger byteValue(final byte number) {
+        return BigInteger.valueOf(
+            toUnsignedInt(number)
+        );
+    }
+
+    @Override
+    BigInteger doubleValue(final double number) {
+        return new BigDecimal(number).toBigIntegerExact();
+    }
+
+    @Override
+    BigInteger floatValue(final float number) {
+        return new BigDecimal(number).toBigIntegerExact();
+    }
+
+    @Override
+    BigInteger intValue(final int number) {
+        return BigInteger.valueOf(number);
+    }
+
+    @Override
+    BigInteger longValue(final long number) {
+        return BigInteger.valueOf(number);
+    }
+
+    @Override
+    BigInteger shortValue(final short number) {
+        return BigInteger.valueOf(number);
+    }
+
+    @Override
+    Class<BigInteger> targetType() {
+        return BigInteger.class;
+    }
+}
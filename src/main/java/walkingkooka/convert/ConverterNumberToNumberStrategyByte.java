@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyByte extends ConverterNumberToNumberStrategy<Byte> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyByte INSTANCE = new ConverterNumberToNumberStrategyByte();
+
+    private ConverterNumberToNumberStrategyByte() {
+        super();
+    }
+
+    private final static int MIN_VALUE = 0;
+    private final static int MAX_VALUE = 255;
+
+    @Override
+    Byte bigDecimal(final BigDecimal number) {
+        return this.intValue(
+            number.intValueExact()
+        );
+    }
+
+    @Override
+    Byte bigInteger(final BigInteger number) {
+        return this.intValue(
+            number.intValueExact()
+        );
+    }
+
+    @Override
+    Byte byteValue(final byte number) {
+        return number;
+    }
+
+    @Override
+    Byte doubleValue(final double number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE ?
+            (byte) number :
+            null;
+    }
+
+    @Override
+    Byte floatValue(final float number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE ?
+            (byte) number :
+            null;
+    }
+
+    @Override
+    Byte intValue(final int number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE ?
+            (byte) number :
+            null;
+    }
+
+    @Override
+    Byte longValue(final long number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE ?
+            (byte) number :
+            null;
+    }
+
+    @Override
+    Byte shortValue(final short number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE ?
+            (byte) number :
+            null;
+    }
+
+    @Override
+    Class<Byte> targetType() {
+        return Byte.class;
+    }
+}
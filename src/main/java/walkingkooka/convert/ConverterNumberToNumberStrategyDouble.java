@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyDouble extends ConverterNumberToNumberStrategy<Double> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyDouble INSTANCE = new ConverterNumberToNumberStrategyDouble();
+
+    private ConverterNumberToNumberStrategyDouble() {
+        super();
+    }
+
+    @Override
+    Double bigDecimal(final BigDecimal number) {
+        return number.compareTo(BIG_DECIMAL_DOUBLE_MIN) >= 0 && number.compareTo(BIG_DECIMAL_DOUBLE_MAX) <= 0 ?
+            number.doubleValue() :
+            null;
+    }
+
+    private final static BigDecimal BIG_DECIMAL_DOUBLE_MIN = BigDecimal.valueOf(-Double.MAX_VALUE);
+    private final static BigDecimal BIG_DECIMAL_DOUBLE_MAX = BigDecimal.valueOf(Double.MAX_VALUE);
+
+    @Override
+    Double bigInteger(final BigInteger number) {
+        return number.compareTo(BIG_INTEGER_DOUBLE_MIN) >= 0 && number.compareTo(BIG_INTEGER_DOUBLE_MAX) <= 0 ?
+            number.doubleValue() :
+            null;
+    }
+
+    private final static BigInteger BIG_INTEGER_DOUBLE_MIN = BIG_DECIMAL_DOUBLE_MIN.toBigInteger();
+    private final static BigInteger BIG_INTEGER_DOUBLE_MAX = BIG_DECIMAL_DOUBLE_MAX.toBigInteger();
+
+    @Override
+    Double byteValue(final byte number) {
+        return (double) toUnsignedInt(number);
+    }
+
+    @Override
+    Double doubleValue(final double number) {
+        return number;
+    }
+
+    @Override
+    Double floatValue(final float number) {
+        return (double) number;
+    }
+
+    @Override
+    Double intValue(final int number) {
+        return (double) number;
+    }
+
+    @Override
+    Double longValue(final long number) {
+        final double converted = number;
+        return (long) converted == number ?
+            converted :
+            null;
+    }
+
+    @Override
+    Double shortValue(final short number) {
+        return (double) number;
+    }
+
+    @Override
+    Class<Double> targetType() {
+        return Double.class;
+    }
+}
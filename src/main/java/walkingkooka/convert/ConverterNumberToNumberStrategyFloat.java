@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyFloat extends ConverterNumberToNumberStrategy<Float> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyFloat INSTANCE = new ConverterNumberToNumberStrategyFloat();
+
+    private ConverterNumberToNumberStrategyFloat() {
+        super();
+    }
+
+    @Override
+    Float bigDecimal(final BigDecimal number) {
+        return number.compareTo(BIG_DECIMAL_FLOAT_MIN) >= 0 && number.compareTo(BIG_DECIMAL_FLOAT_MAX) <= 0 ?
+            number.floatValue() :
+            null;
+    }
+
+    private final static BigDecimal BIG_DECIMAL_FLOAT_MIN = BigDecimal.valueOf(-Float.MAX_VALUE);
+    private final static BigDecimal BIG_DECIMAL_FLOAT_MAX = BigDecimal.valueOf(Float.MAX_VALUE);
+
+    @Override
+    Float bigInteger(final BigInteger number) {
+        return number.compareTo(BIG_INTEGER_FLOAT_MIN) >= 0 && number.compareTo(BIG_INTEGER_FLOAT_MAX) <= 0 ?
+            number.floatValue() :
+            null;
+    }
+
+    private final static BigInteger BIG_INTEGER_FLOAT_MIN = BIG_DECIMAL_FLOAT_MIN.toBigInteger();
+    private final static BigInteger BIG_INTEGER_FLOAT_MAX = BIG_DECIMAL_FLOAT_MAX.toBigInteger();
+
+    @Override
+    Float byteValue(final byte number) {
+        return (float) toUnsignedInt(number);
+    }
+
+    @Override
+    Float doubleValue(final double number) {
+        return number >= -Float.MAX_VALUE && number <= Float.MAX_VALUE ?
+            (float) number :
+            null;
+    }
+
+    @Override
+    Float floatValue(final float number) {
+        return number;
+    }
+
+    @Override
+    Float intValue(final int number) {
+        return (float) number;
+    }
+
+    @Override
+    Float longValue(final long number) {
+        return (float) number;
+    }
+
+    @Override
+    Float shortValue(final short number) {
+        return (float) number;
+    }
+
+    @Override
+    Class<Float> targetType() {
+        return Float.class;
+    }
+}
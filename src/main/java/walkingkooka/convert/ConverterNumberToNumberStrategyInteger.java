@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyInteger extends ConverterNumberToNumberStrategy<Integer> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyInteger INSTANCE = new ConverterNumberToNumberStrategyInteger();
+
+    private ConverterNumberToNumberStrategyInteger() {
+        super();
+    }
+
+    @Override
+    Integer bigDecimal(final BigDecimal number) {
+        return number.intValueExact();
+    }
+
+    @Override
+    Integer bigInteger(final BigInteger number) {
+        return number.intValueExact();
+    }
+
+    @Override
+    Integer byteValue(final byte number) {
+        return toUnsignedInt(number);
+    }
+
+    @Override
+    Integer doubleValue(final double number) {
+        return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ?
+            (int) number :
+            null;
+    }
+
+    @Override
+    Integer floatValue(final float number) {
+        return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ?
+            (int) number :
+            null;
+    }
+
+    @Override
+    Integer intValue(final int number) {
+        return number;
+    }
+
+    @Override
+    Integer longValue(final long number) {
+        return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ?
+            (int) number :
+            null;
+    }
+
+    @Override
+    Integer shortValue(final short number) {
+        return (int) number;
+    }
+
+    @Override
+    Class<Integer> targetType() {
+        return Integer.class;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyLong extends ConverterNumberToNumberStrategy<Long> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyLong INSTANCE = new ConverterNumberToNumberStrategyLong();
+
+    private ConverterNumberToNumberStrategyLong() {
+        super();
+    }
+
+    @Override
+    Long bigDecimal(final BigDecimal number) {
+        return number.longValueExact();
+    }
+
+    @Override
+    Long bigInteger(final BigInteger number) {
+        return number.longValueExact();
+    }
+
+    @Override
+    Long byteValue(final byte number) {
+        return (long) toUnsignedInt(number);
+    }
+
+    @Override
+    Long doubleValue(final double number) {
+        return number >= Long.MIN_VALUE && number <= Long.MAX_VALUE ?
+            (long) number :
+            null;
+    }
+
+    @Override
+    Long floatValue(final float number) {
+        return number >= Long.MIN_VALUE && number <= Long.MAX_VALUE ?
+            (long) number :
+            null;
+    }
+
+    @Override
+    Long intValue(final int number) {
+        return (long) number;
+    }
+
+    @Override
+    Long longValue(final long number) {
+        return number;
+    }
+
+    @Override
+    Long shortValue(final short number) {
+        return (long) number;
+    }
+
+    @Override
+    Class<Long> targetType() {
+        return Long.class;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class ConverterNumberToNumberStrategyShort extends ConverterNumberToNumberStrategy<Short> {
+
+    /**
+     * Singleton
+     */
+    final static ConverterNumberToNumberStrategyShort INSTANCE = new ConverterNumberToNumberStrategyShort();
+
+    private ConverterNumberToNumberStrategyShort() {
+        super();
+    }
+
+    @Override
+    Short bigDecimal(final BigDecimal number) {
+        return number.shortValueExact();
+    }
+
+    @Override
+    Short bigInteger(final BigInteger number) {
+        return number.shortValueExact();
+    }
+
+    @Override
+    Short byteValue(final byte number) {
+        return (short) toUnsignedInt(number);
+    }
+
+    @Override
+    Short doubleValue(final double number) {
+        return number >= Short.MIN_VALUE && number <= Short.MAX_VALUE ?
+            (short) number :
+            null;
+    }
+
+    @Override
+    Short floatValue(final float number) {
+        return number >= Short.MIN_VALUE && number <= Short.MAX_VALUE ?
+            (short) number :
+            null;
+    }
+
+    @Override
+    Short intValue(final int number) {
+        return number >= Short.MIN_VALUE && number <= Short.MAX_VALUE ?
+            (short) number :
+            null;
+    }
+
+    @Override
+    Short longValue(final long number) {
+        return number >= Short.MIN_VALUE && number <= Short.MAX_VALUE ?
+            (short) number :
+            null;
+    }
+
+    @Override
+    Short shortValue(final short number) {
+        return number;
+    }
+
+    @Override
+    Class<Short> targetType() {
+        return Short.class;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Assigns a small int to each of the eight {@link Number} types supported by {@link walkingkooka.math.Maths}, so
+ * converters can dispatch using a <code>switch</code> or array index rather than allocating a
+ * {@link walkingkooka.math.NumberVisitor} or {@link walkingkooka.math.NumberTypeVisitor} for each conversion.
+ */
+final class ConverterNumberTypes {
+
+    final static int UNKNOWN = -1;
+
+    final static int BIG_DECIMAL = 0;
+
+    final static int BIG_INTEGER = 1;
+
+    final static int BYTE = 2;
+
+    final static int DOUBLE = 3;
+
+    final static int FLOAT = 4;
+
+    final static int INTEGER = 5;
+
+    final static int LONG = 6;
+
+    final static int SHORT = 7;
+
+    /**
+     * The number of known {@link Number} types, useful to size tables.
+     */
+    final static int COUNT = 8;
+
+    /**
+     * Returns the type of the given {@link Number} or {@link #UNKNOWN}, the most common types are tested first.
+     */
+    static int numberType(final Number number) {
+        final int type;
+
+        if (number instanceof Integer) {
+            type = INTEGER;
+        } else if (number instanceof Long) {
+            type = LONG;
+        } else if (number instanceof Double) {
+            type = DOUBLE;
+        } else if (number instanceof BigDecimal) {
+            type = BIG_DECIMAL;
+        } else if (number instanceof BigInteger) {
+            type = BIG_INTEGER;
+        } else if (number instanceof Float) {
+            type = FLOAT;
+        } else if (number instanceof Short) {
+            type = SHORT;
+        } else if (number instanceof Byte) {
+            type = BYTE;
+        } else {
+            type = UNKNOWN;
+        }
+
+        return type;
+    }
+
+    /**
+     * Returns the type of the given {@link Number} {@link Class} or {@link #UNKNOWN}.
+     */
+    static int numberType(final Class<?> type) {
+        final int numberType;
+
+        if (Integer.class == type) {
+            numberType = INTEGER;
+        } else if (Long.class == type) {
+            numberType = LONG;
+        } else if (Double.class == type) {
+            numberType = DOUBLE;
+        } else if (BigDecimal.class == type) {
+            numberType = BIG_DECIMAL;
+        } else if (BigInteger.class == type) {
+            numberType = BIG_INTEGER;
+        } else if (Float.class == type) {
+            numberType = FLOAT;
+        } else if (Short.class == type) {
+            numberType = SHORT;
+        } else if (Byte.class == type) {
+            numberType = BYTE;
+        } else {
+            numberType = UNKNOWN;
+        }
+
+        return numberType;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterNumberTypes() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -54,6 +54,16 @@ final class ConverterObjectToString<C extends ConverterContext> implements Tryin
         return String.valueOf(value);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.ANY,
+        ConverterCapabilities.types(String.class)
+    );
+
     @Override
     public String toString() {
         return "* to String";
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Rewrites a tree of {@link Converter converters} into an equivalent tree with less dispatch:
+ * <ul>
+ * <li>Nested {@link ConverterCollection collections} are flattened into their parent, keeping the first match order,
+ * unless they have a custom {@link Object#toString()}</li>
+ * <li>Members equal to an earlier member are removed, as they can only be tried after an identical member failed</li>
+ * <li>{@link ConverterNever} members are removed</li>
+ * <li>{@link ConverterCustomToString} wrappers are kept around their optimized {@link Converter}, so names still appear
+ * in the {@link Object#toString()} of their parent, which is also kept for the root</li>
+ * <li>The stages of each {@link ConverterChain} are optimized</li>
+ * <li>A {@link ConverterNumberToNumber} first stage with a {@link Number} intermediate type is removed when the second
+ * stage only accepts {@link Number numbers}, as converting a {@link Number} to {@link Number} returns it unchanged</li>
+ * </ul>
+ * {@link #compile(Converter)} also removes nested {@link ConverterCustomToString} wrappers, so every nested collection
+ * is flattened, and makes each remaining {@link ConverterCollection} {@link ConverterCollection#indexed(List)}, so the
+ * members whose {@link ConverterCapabilities} may convert each value {@link Class} and target type are only found once.
+ * Only the {@link Object#toString()} of the root is kept.
+ * <br>
+ * Names are not lifted into separate metadata, a {@link Converter} only has its {@link Object#toString()} to carry one.
+ * So {@link #optimize(Converter)} keeps a named nested collection whole to keep its name, and only
+ * {@link #compile(Converter)} flattens it, keeping the name in the {@link Object#toString()} of the root. Chains of
+ * chains are not collapsed, {@link ConverterChain} only has two stages, so each stage is optimized in place.
+ */
+final class ConverterOptimizer {
+
+    static <C extends ConverterContext> Converter<C> optimize(final Converter<C> converter) {
+        return optimizeOrCompile(
+            converter,
+            false
+        );
+    }
+
+    static <C extends ConverterContext> Converter<C> compile(final Converter<C> converter) {
+        return optimizeOrCompile(
+            converter,
+            true
+        );
+    }
+
+    private static <C extends ConverterContext> Converter<C> optimizeOrCompile(final Converter<C> converter,
+                                                                              final boolean compile) {
+        Objects.requireNonNull(converter, "converter");
+
+        final Converter<C> optimized = optimize0(
+            converter,
+            compile
+        );
+        final String toString = converter.toString();
+
+        return optimized.toString().equals(toString) ?
+            optimized :
+            ConverterCustomToString.wrap(
+                optimized,
+                toString
+            );
+    }
+
+    private static <C extends ConverterContext> Converter<C> optimize0(final Converter<C> converter,
+                                                                       final boolean compile) {
+        final Converter<C> optimized;
+
+        if (converter instanceof ConverterCustomToString) {
+            final ConverterCustomToString<C> custom = Cast.to(converter);
+            final Converter<C> wrapped = optimize0(
+                custom.converter,
+                compile
+            );
+            optimized = compile ?
+                wrapped :
+                ConverterCustomToString.wrap(
+                    wrapped,
+                    custom.toString()
+                );
+        } else {
+            if (converter instanceof ConverterCollection) {
+                optimized = collection(
+                    Cast.to(converter),
+                    compile
+                );
+            } else {
+                optimized = converter instanceof ConverterChain ?
+                    chain(
+                        Cast.to(converter),
+                        compile
+                    ) :
+                    converter;
+            }
+        }
+
+        return optimized;
+    }
+
+    private static <C extends ConverterContext> Converter<C> collection(final ConverterCollection<C> collection,
+                                                                        final boolean compile) {
+        final List<Converter<C>> members = Lists.array();
+        flatten(
+            collection,
+            compile,
+            members
+        );
+
+        final Converter<C> optimized;
+        switch (members.size()) {
+            case 0:
+                optimized = ConverterNever.instance();
+                break;
+            case 1:
+                optimized = members.get(0);
+                break;
+            default:
+                optimized = compile || collection.isIndexed() ?
+                    ConverterCollection.indexed(members) :
+                    ConverterCollection.with(members);
+                break;
+        }
+
+        return optimized;
+    }
+
+    private static <C extends ConverterContext> void flatten(final ConverterCollection<C> collection,
+                                                             final boolean compile,
+                                                             final List<Converter<C>> members) {
+        for (final Converter<C> member : collection.converters()) {
+            final Converter<C> optimized = optimize0(
+                member,
+                compile
+            );
+
+            if (optimized instanceof ConverterCollection) {
+                // already flattened by optimize0, a named collection is a ConverterCustomToString and is kept whole
+                final ConverterCollection<C> nested = Cast.to(optimized);
+                for (final Converter<C> flattened : nested.converters()) {
+                    add(
+                        flattened,
+                        members
+                    );
+                }
+            } else {
+                add(
+                    optimized,
+                    members
+                );
+            }
+        }
+    }
+
+    private static <C extends ConverterContext> void add(final Converter<C> member,
+                                                         final List<Converter<C>> members) {
+        if (false == member instanceof ConverterNever && false == members.contains(member)) {
+            members.add(member);
+        }
+    }
+
+    private static <C extends ConverterContext> Converter<C> chain(final ConverterChain<C> chain,
+                                                                   final boolean compile) {
+        final Converter<C> first = optimize0(
+            chain.first(),
+            compile
+        );
+        final Class<?> intermediateType = chain.intermediateType();
+        final Converter<C> second = optimize0(
+            chain.second(),
+            compile
+        );
+
+        return first instanceof ConverterNumberToNumber && Number.class == intermediateType && isNumberOnly(second) ?
+            second :
+            ConverterChain.with(
+                first,
+                intermediateType,
+                second
+            );
+    }
+
+    /**
+     * Returns true if the {@link Converter} declares it only accepts {@link Number numbers}.
+     */
+    private static boolean isNumberOnly(final Converter<?> converter) {
+        final Set<Class<?>> sourceTypes = converter.capabilities()
+            .sourceTypes()
+            .orElse(null);
+        final Set<Class<?>> numberTypes = ConverterCapabilities.NUMBER.get();
+
+        return null != sourceTypes &&
+            false == sourceTypes.isEmpty() &&
+            numberTypes.containsAll(sourceTypes);
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterOptimizer() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -64,6 +64,16 @@ final class ConverterOptionalTo<C extends ConverterContext> implements ShortCirc
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(Optional.class),
+        ConverterCapabilities.ANY
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Wraps another {@link Converter} splitting batches passed to
+ * {@link #convertAll(List, Class, ConverterContext, Object[], BitSet)} that are larger than the threshold into chunks
+ * which are converted in parallel using a parallel {@link IntStream}, which uses the common fork join pool. Results
+ * and failures are written to the same indices as the values, so order is kept.
+ * <br>
+ * Batches are only split if {@link ConverterContext#isThreadSafe()} is true, otherwise the batch is converted by the
+ * current thread. Contexts are not thread safe by default, callers opt in when
+ * creating the context, for example with the threadSafe parameter of {@link ConverterContexts}. All other methods delegate to the wrapped {@link Converter}.
+ */
+final class ConverterParallel<C extends ConverterContext> implements Converter<C> {
+
+    static <C extends ConverterContext> ConverterParallel<C> with(final Converter<C> converter,
+                                                                  final int threshold) {
+        Objects.requireNonNull(converter, "converter");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " <= 0");
+        }
+
+        return converter instanceof ConverterParallel ?
+            ConverterParallel.<C>cast(converter)
+                .setThreshold(threshold) :
+            new ConverterParallel<>(
+                converter,
+                threshold
+            );
+    }
+
+    private static <C extends ConverterContext> ConverterParallel<C> cast(final Converter<C> converter) {
+        return Cast.to(converter);
+    }
+
+    private ConverterParallel(final Converter<C> converter,
+                              final int threshold) {
+        this.converter = converter;
+        this.threshold = threshold;
+    }
+
+    private ConverterParallel<C> setThreshold(final int threshold) {
+        return this.threshold == threshold ?
+            this :
+            new ConverterParallel<>(
+                this.converter,
+                threshold
+            );
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return this.converter.canConvert(value, type, context);
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        return this.converter.convert(value, type, context);
+    }
+
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        return this.converter.tryConvert(value, type, context);
+    }
+
+    @Override
+    public boolean convertBoolean(final Object value,
+                                  final C context,
+                                  final ConverterFailure failure) {
+        return this.converter.convertBoolean(value, context, failure);
+    }
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return this.converter.convertDouble(value, context, failure);
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        return this.converter.convertInt(value, context, failure);
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return this.converter.convertLong(value, context, failure);
+    }
+
+    @Override
+    public Converter<C> converterFor(final Class<?> valueType,
+                                     final Class<?> type) {
+        return this.converter.converterFor(valueType, type);
+    }
+
+    /**
+     * Batches larger than the threshold are split into chunks of threshold values, each chunk is converted as a batch
+     * by the wrapped {@link Converter} into its own array and {@link BitSet}, which are then copied into the results
+     * and failures.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] results,
+                              final BitSet failures) {
+        final int count = values.size();
+        final int threshold = this.threshold;
+
+        final int failed;
+        if (count <= threshold || false == context.isThreadSafe()) {
+            failed = this.converter.convertAll(
+                values,
+                type,
+                context,
+                results,
+                failures
+            );
+        } else {
+            if (results.length < count) {
+                throw new IllegalArgumentException("Results length " + results.length + " < " + count + " values");
+            }
+
+            final int chunkCount = (count + threshold - 1) / threshold;
+            final BitSet[] chunkFailures = new BitSet[chunkCount];
+
+            IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(
+                    (c) -> {
+                        final int from = c * threshold;
+                        final int to = Math.min(
+                            count,
+                            from + threshold
+                        );
+                        final T[] chunkResults = Arrays.copyOf(
+                            results,
+                            to - from
+                        );
+                        final BitSet chunkFailure = new BitSet();
+
+                        this.converter.convertAll(
+                            values.subList(
+                                from,
+                                to
+                            ),
+                            type,
+                            context,
+                            chunkResults,
+                            chunkFailure
+                        );
+
+                        System.arraycopy(
+                            chunkResults,
+                            0,
+                            results,
+                            from,
+                            to - from
+                        );
+                        chunkFailures[c] = chunkFailure;
+                    }
+                );
+
+            // merge failures after all chunks complete, BitSet is not thread safe.
+            failures.clear(
+                0,
+                count
+            );
+
+            int total = 0;
+            for (int c = 0; c < chunkCount; c++) {
+                final BitSet chunkFailure = chunkFailures[c];
+                final int from = c * threshold;
+                for (int i = chunkFailure.nextSetBit(0); i >= 0; i = chunkFailure.nextSetBit(i + 1)) {
+                    failures.set(from + i);
+                    total++;
+                }
+            }
+            failed = total;
+        }
+
+        return failed;
+    }
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return this.converter.capabilities();
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    /**
+     * Batches with more values than this are split into chunks of this many values.
+     */
+    // @VisibleForTesting
+    final int threshold;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.converter.toString();
+    }
+}
@@ -134,6 +134,14 @@ final class ConverterParser<V, P extends ParserContext, C extends ConverterConte
      */
     private final BiFunction<ParserToken, C, V> parserTokenToValue;
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.ANY,
+            ConverterCapabilities.types(this.parserValueType)
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link Converter} that tries its members in order like {@link ConverterCollection}, and when no member converts a
+ * value {@link Class} to the target type, searches for a path through the members using their
+ * {@link ConverterCapabilities}, where each member is an edge from its source types to each of its target types.
+ * The shortest path is compiled into a {@link ConverterChain}.
+ * <br>
+ * Plans, including the absence of a path, are remembered for each value {@link Class} and target type. A pair that no
+ * member declares it may convert directly skips the members and goes straight to the remembered plan. A path is never
+ * tried when a member tried the value and failed, only when every member that was tried returned
+ * {@link #notSupported()}.
+ * Members with {@link ConverterCapabilities#UNKNOWN} or partially unknown capabilities are still tried directly but are
+ * never part of a path.
+ */
+final class ConverterPlanner<C extends ConverterContext> implements Converter<C>,
+    TreePrintable {
+
+    /**
+     * The default maximum number of members in a planned path.
+     */
+    final static int MAX_HOPS = 3;
+
+    static <C extends ConverterContext> ConverterPlanner<C> with(final List<Converter<C>> converters,
+                                                               final int maxHops) {
+        Objects.requireNonNull(converters, "converters");
+        if (maxHops < 2) {
+            throw new IllegalArgumentException("Invalid maxHops " + maxHops + " < 2");
+        }
+
+        final List<Converter<C>> copy = Lists.immutable(converters);
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least 1 converter but got 0");
+        }
+
+        return new ConverterPlanner<>(
+            copy,
+            maxHops
+        );
+    }
+
+    private ConverterPlanner(final List<Converter<C>> converters,
+                             final int maxHops) {
+        this.converters = converters;
+        this.collection = ConverterCollection.with(converters);
+
+        final int count = converters.size();
+        final ConverterCapabilities[] memberCapabilities = new ConverterCapabilities[count];
+        for (int i = 0; i < count; i++) {
+            memberCapabilities[i] = converters.get(i)
+                .capabilities();
+        }
+        this.memberCapabilities = memberCapabilities;
+
+        this.maxHops = maxHops;
+        this.plans = new HashMap<>();
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        boolean can = this.collection.canConvert(
+            value,
+            type,
+            context
+        );
+
+        if (false == can && null != value) {
+            final Converter<C> plan = this.plan(
+                value.getClass(),
+                type
+            ).orElse(null);
+
+            can = null != plan &&
+                plan.canConvert(
+                    value,
+                    type,
+                    context
+                );
+        }
+
+        return can;
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        final Either<T, String> result = this.tryConvert(
+            value,
+            type,
+            context
+        );
+
+        return this.isNotSupported(result) ?
+            this.failConversion(
+                value,
+                type
+            ) :
+            result;
+    }
+
+    /**
+     * Tries the members as a {@link ConverterCollection}, and only if that returns {@link #notSupported()}, because no
+     * member may convert the value or every member tried does not support it, tries the planned path if one exists.
+     * A member that tried and failed to convert the value is never overridden by a path.
+     */
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        Either<T, String> result = this.collection.tryConvert(
+            value,
+            type,
+            context
+        );
+
+        if (null != value && this.isNotSupported(result)) {
+            final Converter<C> plan = this.plan(
+                value.getClass(),
+                type
+            ).orElse(null);
+
+            if (null != plan) {
+                result = plan.tryConvert(
+                    value,
+                    type,
+                    context
+                );
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the remembered plan for the value {@link Class} and type, searching for one the first time a pair is seen.
+     */
+    // @VisibleForTesting
+    Optional<Converter<C>> plan(final Class<?> valueType,
+                                final Class<?> type) {
+        final ConverterCollectionDispatchKey key = ConverterCollectionDispatchKey.types(
+            valueType,
+            type
+        );
+
+        Optional<Converter<C>> plan = this.plans.get(key);
+        if (null == plan) {
+            plan = this.search(
+                valueType,
+                type
+            );
+
+            // copy on write, readers never see a partially updated map, a racing update is at worst recomputed
+            final Map<ConverterCollectionDispatchKey, Optional<Converter<C>>> plans = new HashMap<>(this.plans);
+            plans.put(
+                key,
+                plan
+            );
+            this.plans = plans;
+        }
+
+        return plan;
+    }
+
+    /**
+     * A breadth first search from the value {@link Class} over the member capabilities, so the first path found has the
+     * fewest hops. A single hop to the type is skipped, as that is the direct conversion that was already tried.
+     */
+    private Optional<Converter<C>> search(final Class<?> valueType,
+                                          final Class<?> type) {
+        final ConverterCapabilities[] memberCapabilities = this.memberCapabilities;
+        final int count = memberCapabilities.length;
+
+        final Map<Class<?>, ConverterPlannerStep> visited = new HashMap<>();
+        final List<ConverterPlannerStep> queue = Lists.array();
+        final ConverterPlannerStep start = ConverterPlannerStep.with(
+            null,
+            -1,
+            valueType
+        );
+        visited.put(
+            valueType,
+            start
+        );
+        queue.add(start);
+
+        ConverterPlannerStep found = null;
+
+        for (int next = 0; null == found && next < queue.size(); next++) {
+            final ConverterPlannerStep from = queue.get(next);
+            if (from.hops == this.maxHops) {
+                break;
+            }
+
+            for (int i = 0; null == found && i < count; i++) {
+                final ConverterCapabilities capabilities = memberCapabilities[i];
+                if (false == capabilities.sourceTypes().isPresent()) {
+                    continue;
+                }
+                final Set<Class<?>> targetTypes = capabilities.targetTypes()
+                    .orElse(null);
+                if (null == targetTypes) {
+                    continue;
+                }
+
+                for (final Class<?> targetType : targetTypes) {
+                    if (visited.containsKey(targetType) || false == capabilities.mayConvert(from.type, targetType)) {
+                        continue;
+                    }
+
+                    final ConverterPlannerStep step = ConverterPlannerStep.with(
+                        from,
+                        i,
+                        targetType
+                    );
+                    if (type == targetType) {
+                        if (step.hops > 1) {
+                            found = step;
+                            break;
+                        }
+                        // direct conversion was already tried, dont mark the type visited
+                        continue;
+                    }
+
+                    visited.put(
+                        targetType,
+                        step
+                    );
+                    queue.add(step);
+                }
+            }
+        }
+
+        return Optional.ofNullable(
+            null == found ?
+                null :
+                this.compile(found)
+        );
+    }
+
+    /**
+     * Compiles the steps into nested {@link ConverterChain chains}, the last step holds the target type.
+     */
+    private Converter<C> compile(final ConverterPlannerStep last) {
+        final Converter<C> member = this.converters.get(last.member);
+        final ConverterPlannerStep previous = last.previous;
+
+        return null == previous.previous ?
+            member :
+            ConverterChain.with(
+                this.compile(previous),
+                previous.type,
+                member
+            );
+    }
+
+    private final List<Converter<C>> converters;
+
+    /**
+     * Used to try the members directly.
+     */
+    private final Converter<C> collection;
+
+    private final ConverterCapabilities[] memberCapabilities;
+
+    private final int maxHops;
+
+    private volatile Map<ConverterCollectionDispatchKey, Optional<Converter<C>>> plans;
+
+    @Override
+    public ConverterCapabilities capabilities() {
+        return this.collection.capabilities();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.converters,
+            this.maxHops
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterPlanner && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterPlanner<?> other) {
+        return this.converters.equals(other.converters) &&
+            this.maxHops == other.maxHops;
+    }
+
+    @Override
+    public String toString() {
+        return this.collection.toString();
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(this.getClass().getSimpleName());
+        printer.indent();
+        {
+            TreePrintable.printTreeOrToString(
+                this.collection,
+                printer
+            );
+        }
+        printer.outdent();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+/**
+ * One hop found by the breadth first search in {@link ConverterPlanner}, recording the member used to reach a type and
+ * the step for the type it was converted from.
+ */
+final class ConverterPlannerStep {
+
+    static ConverterPlannerStep with(final ConverterPlannerStep previous,
+                                     final int member,
+                                     final Class<?> type) {
+        return new ConverterPlannerStep(
+            previous,
+            member,
+            type
+        );
+    }
+
+    private ConverterPlannerStep(final ConverterPlannerStep previous,
+                                 final int member,
+                                 final Class<?> type) {
+        super();
+        this.previous = previous;
+        this.member = member;
+        this.type = type;
+        this.hops = null == previous ?
+            0 :
+            previous.hops + 1;
+    }
+
+    /**
+     * The step for the type this hop started from, or null for the value type.
+     */
+    final ConverterPlannerStep previous;
+
+    /**
+     * The index of the member {@link Converter} that performs this hop.
+     */
+    final int member;
+
+    /**
+     * The type reached by this hop.
+     */
+    final Class<?> type;
+
+    /**
+     * The number of hops from the value type.
+     */
+    final int hops;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return (null == this.previous ?
+            "" :
+            this.previous + " -> ") +
+            this.type.getSimpleName();
+    }
+}
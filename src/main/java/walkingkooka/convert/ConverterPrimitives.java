@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+/**
+ * Assigns a small int to each of the primitive conversions such as
+ * {@link Converter#convertLong(Object, ConverterContext, ConverterFailure)}, so composites can try their members with
+ * one loop for all four. Results are carried as a long, a boolean as 0 or 1, a double as its raw bits, so no value is
+ * boxed.
+ */
+final class ConverterPrimitives {
+
+    final static int BOOLEAN = 0;
+
+    final static int DOUBLE = 1;
+
+    final static int INT = 2;
+
+    final static int LONG = 3;
+
+    /**
+     * Returns the boxed {@link Class} of the primitive, used to test {@link ConverterCapabilities} and report failures.
+     */
+    static Class<?> type(final int primitive) {
+        final Class<?> type;
+
+        switch (primitive) {
+            case BOOLEAN:
+                type = Boolean.class;
+                break;
+            case DOUBLE:
+                type = Double.class;
+                break;
+            case INT:
+                type = Integer.class;
+                break;
+            case LONG:
+                type = Long.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown primitive " + primitive);
+        }
+
+        return type;
+    }
+
+    /**
+     * Calls the primitive conversion method of the {@link Converter} returning the result as a long.
+     */
+    static <C extends ConverterContext> long convert(final Converter<C> converter,
+                                                     final Object value,
+                                                     final C context,
+                                                     final ConverterFailure failure,
+                                                     final int primitive) {
+        final long converted;
+
+        switch (primitive) {
+            case BOOLEAN:
+                converted = converter.convertBoolean(
+                    value,
+                    context,
+                    failure
+                ) ? 1 : 0;
+                break;
+            case DOUBLE:
+                converted = Double.doubleToRawLongBits(
+                    converter.convertDouble(
+                        value,
+                        context,
+                        failure
+                    )
+                );
+                break;
+            case INT:
+                converted = converter.convertInt(
+                    value,
+                    context,
+                    failure
+                );
+                break;
+            case LONG:
+                converted = converter.convertLong(
+                    value,
+                    context,
+                    failure
+                );
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown primitive " + primitive);
+        }
+
+        return converted;
+    }
+
+    static boolean toBoolean(final long converted) {
+        return 0 != converted;
+    }
+
+    static double toDouble(final long converted) {
+        return Double.longBitsToDouble(converted);
+    }
+
+    static int toInt(final long converted) {
+        return (int) converted;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterPrimitives() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -17,6 +17,7 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Either;
 import walkingkooka.props.HasProperties;
 import walkingkooka.props.Properties;
 
@@ -54,10 +55,51 @@ abstract class ConverterPropertiesTo<T extends HasProperties, C extends Converte
         );
     }
 
+    /**
+     * Converts the value to {@link Properties} once, rather than testing and then converting again.
+     */
+    @Override
+    public final <TT> Either<TT, String> tryConvert(final Object value,
+                                                    final Class<TT> type,
+                                                    final C context) {
+        Either<TT, String> result = this.notSupported();
+
+        if (this.type() == type) {
+            final Either<Properties, String> properties = context.convert(
+                value,
+                Properties.class
+            );
+            if (properties.isLeft()) {
+                try {
+                    result = this.successfulConversion(
+                        this.fromProperties(
+                            properties.leftValue()
+                        ),
+                        type
+                    );
+                } catch (final UnsupportedOperationException cause) {
+                    throw cause;
+                } catch (final RuntimeException cause) {
+                    result = Either.right(cause.getMessage());
+                }
+            }
+        }
+
+        return result;
+    }
+
     abstract T fromProperties(final Properties properties);
 
     abstract Class<T> type();
 
+    @Override
+    public final ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.ANY,
+            ConverterCapabilities.types(this.type())
+        );
+    }
+
     @Override
     public String toString() {
         return Properties.class.getSimpleName() + " to " + this.type().getSimpleName();
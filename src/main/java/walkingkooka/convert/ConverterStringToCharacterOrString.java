@@ -74,6 +74,16 @@ final class ConverterStringToCharacterOrString<C extends ConverterContext> imple
             value.toString().charAt(0);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(String.class),
+        ConverterCapabilities.types(Character.class, String.class)
+    );
+
     @Override
     public String toString() {
         return "String to Character or String";
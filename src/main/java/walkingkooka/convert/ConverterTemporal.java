@@ -68,6 +68,16 @@ abstract class ConverterTemporal<S, D, C extends ConverterContext> implements Sh
                                                     final Class<T> type,
                                                     final ConverterContext context);
 
+    @Override
+    public final ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.types(this.sourceType()),
+            Number.class == this.targetType() ?
+                ConverterCapabilities.NUMBER :
+                ConverterCapabilities.types(this.targetType())
+        );
+    }
+
     @Override
     public final String toString() {
         return this.sourceType().getSimpleName() + " to " + this.targetType().getSimpleName();
@@ -55,14 +55,43 @@ final class ConverterTemporalLocalDateTimeToNumber<C extends ConverterContext> e
                                             final Class<T> type,
                                             final ConverterContext context) {
         return this.convertToNumber(
-            dateTime.toLocalDate().toEpochDay() +
-                ((float) dateTime.toLocalTime().toNanoOfDay() / Converters.NANOS_PER_DAY)
-                - context.dateOffset(),
+            days(
+                dateTime,
+                context
+            ),
             type,
             context
         );
     }
 
+    // primitives.......................................................................................................
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        return value instanceof LocalDateTime ?
+            days(
+                (LocalDateTime) value,
+                context
+            ) :
+            super.convertDouble(
+                value,
+                context,
+                failure
+            );
+    }
+
+    /**
+     * The date and time as a fraction of days, note the result is a float.
+     */
+    private static float days(final LocalDateTime dateTime,
+                              final ConverterContext context) {
+        return dateTime.toLocalDate().toEpochDay() +
+            ((float) dateTime.toLocalTime().toNanoOfDay() / Converters.NANOS_PER_DAY)
+            - context.dateOffset();
+    }
+
     @Override
     Class<Number> targetType() {
         return Number.class;
@@ -55,12 +55,96 @@ final class ConverterTemporalLocalDateToNumber<C extends ConverterContext> exten
                                            final Class<T> type,
                                            final ConverterContext context) {
         return this.convertToNumber(
-            date.toEpochDay() - context.dateOffset(),
+            days(
+                date,
+                context
+            ),
             type,
             context
         );
     }
 
+    // primitives.......................................................................................................
+
+    @Override
+    public double convertDouble(final Object value,
+                                final C context,
+                                final ConverterFailure failure) {
+        final double converted;
+
+        if (value instanceof LocalDate) {
+            final long days = days(
+                (LocalDate) value,
+                context
+            );
+            converted = days;
+            if ((long) converted != days) {
+                failure.fail(
+                    value,
+                    Double.class
+                );
+            }
+        } else {
+            converted = super.convertDouble(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
+    @Override
+    public int convertInt(final Object value,
+                          final C context,
+                          final ConverterFailure failure) {
+        final int converted;
+
+        if (value instanceof LocalDate) {
+            final long days = days(
+                (LocalDate) value,
+                context
+            );
+            converted = (int) days;
+            if (converted != days) {
+                failure.fail(
+                    value,
+                    Integer.class
+                );
+            }
+        } else {
+            converted = super.convertInt(
+                value,
+                context,
+                failure
+            );
+        }
+
+        return converted;
+    }
+
+    @Override
+    public long convertLong(final Object value,
+                            final C context,
+                            final ConverterFailure failure) {
+        return value instanceof LocalDate ?
+            days(
+                (LocalDate) value,
+                context
+            ) :
+            super.convertLong(
+                value,
+                context,
+                failure
+            );
+    }
+
+    private static long days(final LocalDate date,
+                             final ConverterContext context) {
+        return date.toEpochDay() - context.dateOffset();
+    }
+
     @Override
     Class<Number> targetType() {
         return Number.class;
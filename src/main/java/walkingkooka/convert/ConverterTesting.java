@@ -66,6 +66,18 @@ public interface ConverterTesting extends TreePrintableTesting {
             " (" + value.getClass().getName() + ")" :
             "";
 
+        this.checkEquals(
+            true,
+            converter.capabilities()
+                .mayConvert(
+                    null != value ?
+                        value.getClass() :
+                        null,
+                    target
+                ),
+            () -> converter + " capabilities " + converter.capabilities() + " reject " + CharSequences.quoteIfChars(value) + className.get() + " to " + target.getName()
+        );
+
         final Either<T, String> result = converter.convert(
             value,
             target,
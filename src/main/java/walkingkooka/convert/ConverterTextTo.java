@@ -35,6 +35,14 @@ abstract class ConverterTextTo<T, C extends ConverterContext> implements TextToT
 
     abstract Class<T> targetType();
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.ANY,
+            ConverterCapabilities.types(this.targetType())
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override
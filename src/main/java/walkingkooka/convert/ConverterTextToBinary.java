@@ -20,6 +20,7 @@ package walkingkooka.convert;
 import walkingkooka.Binary;
 import walkingkooka.CanBinary;
 import walkingkooka.Cast;
+import walkingkooka.Either;
 
 /**
  * A converter that supports converting text into a {@link Binary} using the {@link ConverterContext#charset()},
@@ -51,6 +52,25 @@ final class ConverterTextToBinary<C extends ConverterContext> extends ConverterT
             super.canConvert(value, type, context);
     }
 
+    @Override
+    public <T> Either<T, String> tryConvert(final Object value,
+                                            final Class<T> type,
+                                            final C context) {
+        // special case value instance CanBinary
+        return value instanceof CanBinary && Binary.class == type ?
+            this.doConvert(
+                value,
+                type,
+                context
+            ) :
+            // continue non CanBinary
+            super.tryConvert(
+                value,
+                type,
+                context
+            );
+    }
+
     @Override
     Class<Binary> targetType() {
         return Binary.class;
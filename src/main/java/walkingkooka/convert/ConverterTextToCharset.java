@@ -44,6 +44,38 @@ final class ConverterTextToCharset<C extends ConverterContext> extends Converter
         return Charset.class;
     }
 
+    /**
+     * Rejects illegal and unsupported charset names, which would otherwise throw from {@link Charset#forName(String)}.
+     */
+    @Override
+    public boolean isParsable(final String text,
+                              final Class<?> type,
+                              final C context) {
+        return isLegalName(text) &&
+            Charset.isSupported(text);
+    }
+
+    /**
+     * Tests the name using the rules in {@link Charset}, as {@link Charset#isSupported(String)} throws for illegal names.
+     */
+    private static boolean isLegalName(final String text) {
+        final int length = text.length();
+        boolean legal = length > 0;
+
+        for (int i = 0; legal && i < length; i++) {
+            final char c = text.charAt(i);
+
+            legal = (c >= 'A' && c <= 'Z') ||
+                (c >= 'a' && c <= 'z') ||
+                (c >= '0' && c <= '9') ||
+                (i > 0 &&
+                    ('-' == c || '+' == c || ':' == c || '_' == c || '.' == c)
+                );
+        }
+
+        return legal;
+    }
+
     @Override
     public Charset parseText(final String text,
                              final Class<?> type,
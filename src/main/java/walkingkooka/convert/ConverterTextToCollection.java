@@ -17,9 +17,6 @@
 
 package walkingkooka.convert;
 
-import walkingkooka.InvalidCharacterException;
-import walkingkooka.NeverError;
-
 import java.util.Collection;
 
 /**
@@ -31,167 +28,47 @@ abstract class ConverterTextToCollection<IMMUTABLE_COLLECTION extends Collection
         super();
     }
 
-    final Object parseTextWithValueSeparator(final String text,
+    /**
+     * Splits the text into elements using {@link ConverterContext#valueSeparator()}, converting each element to the
+     * element type. The text is scanned by index and an unquoted element is tracked as a range of the text, which is
+     * trimmed by adjusting the range, so the only copy of an element is the {@link String} given to the element
+     * converter, which is resolved once using {@link ConverterContext#converterFor(Class, Class)}. A
+     * {@link StringBuilder} is only used when quotes or an escape split an element.
+     */
+    final Object parseTextWithValueSeparator(final CharSequence text,
                                              final Class<?> type,
                                              final CONTEXT context) {
-        final int MODE_OUTSIDE_QUOTES = 1;
-        final int MODE_INSIDE_QUOTES = 2;
-        final int MODE_INSIDE_QUOTES_ESCAPE_NEXT = 3;
-        final int MODE_AFTER_QUOTES = 4;
-
-        final char DOUBLE_QUOTES = '"';
-
-        int mode = MODE_OUTSIDE_QUOTES;
-
-        final char separator = context.valueSeparator();
-
         final MUTABLE_COLLECTION mutableCollection = this.mutableCollection();
+        final Class<E> elementType = this.elementType();
 
-        final StringBuilder element = new StringBuilder();
-        int position = 0;
-
-        for (final char c : text.toCharArray()) {
-            switch (mode) {
-                case MODE_OUTSIDE_QUOTES:
-                    switch (c) {
-                        case DOUBLE_QUOTES:
-                            mode = MODE_INSIDE_QUOTES;
-                            break;
-                        default:
-                            if (separator == c) {
-                                this.addElement(
-                                    element,
-                                    mutableCollection,
-                                    context
-                                );
-                                break;
-                            } else {
-                                element.append(c);
-                            }
-                    }
-                    break;
-                case MODE_INSIDE_QUOTES:
-                    switch (c) {
-                        case DOUBLE_QUOTES:
-                            this.addElement(
-                                element,
-                                mutableCollection,
-                                context
-                            );
-                            mode = MODE_AFTER_QUOTES;
-                            break;
-                        case '\\':
-                            // only spaces before quotes are allowed, otherwise ICE
-                            if (false == element.toString()
-                                .trim()
-                                .isEmpty()) {
-                                throw new InvalidCharacterException(
-                                    text,
-                                    position
-                                );
-                            }
-
-                            mode = MODE_INSIDE_QUOTES_ESCAPE_NEXT;
-                            break;
-                        default:
-                            if (separator == c) {
-                                this.addElement(
-                                    element,
-                                    mutableCollection,
-                                    context
-                                );
-                            } else {
-                                element.append(c);
-                            }
-                            break;
-                    }
-                    break;
-                case MODE_INSIDE_QUOTES_ESCAPE_NEXT:
-                    element.append(c);
-                    mode = MODE_INSIDE_QUOTES;
-                    break;
-                case MODE_AFTER_QUOTES:
-                    if (separator == c) {
-                        mode = MODE_OUTSIDE_QUOTES;
-                    } else {
-                        if (false == Character.isWhitespace(c)) {
-                            throw new InvalidCharacterException(
-                                text,
-                                position
-                            );
-                        }
-                    }
-                    break;
-                default:
-                    NeverError.unhandledCase(
-                        mode,
-                        MODE_OUTSIDE_QUOTES,
-                        MODE_INSIDE_QUOTES,
-                        MODE_INSIDE_QUOTES_ESCAPE_NEXT,
-                        MODE_AFTER_QUOTES
-                    );
-                    break;
-            }
-
-            position++;
-        }
+        // every element is a String, resolve the element converter once rather than for each element
+        final ConverterLike elementConverter = context.converterFor(
+            String.class,
+            elementType
+        );
 
-        switch (mode) {
-            case MODE_OUTSIDE_QUOTES:
-                final Class<E> elementType = this.elementType();
-                if (String.class == elementType) {
-                    // skip trailing comma or empty string is empty StringList
-                    if (element.length() != 0) {
-                        this.addElement(
-                            element,
-                            mutableCollection,
-                            context
-                        );
-                    }
-                } else {
-                    this.addElement(
-                        element,
-                        mutableCollection,
-                        context
-                    );
-                }
-                break;
-            case MODE_INSIDE_QUOTES:
-            case MODE_INSIDE_QUOTES_ESCAPE_NEXT:
-                throw new IllegalArgumentException("Unclosed quotes");
-            case MODE_AFTER_QUOTES:
-                break;
-            default:
-                NeverError.unhandledCase(
-                    mode,
-                    MODE_OUTSIDE_QUOTES,
-                    MODE_INSIDE_QUOTES,
-                    MODE_INSIDE_QUOTES_ESCAPE_NEXT,
-                    MODE_AFTER_QUOTES
-                );
-                break;
-        }
+        final ConverterTextToCollectionTokenizer tokenizer = ConverterTextToCollectionTokenizer.with(
+            context.valueSeparator(),
+            String.class == elementType, // skip trailing comma or empty string is empty StringList
+            (e) -> mutableCollection.add(
+                elementConverter.convertOrFail(
+                    e,
+                    elementType
+                )
+            )
+        );
+        tokenizer.accept(
+            text,
+            0,
+            text.length()
+        );
+        tokenizer.end();
 
         return this.toImmutableCollection(mutableCollection);
     }
 
     abstract MUTABLE_COLLECTION mutableCollection();
 
-    private void addElement(final StringBuilder element,
-                            final MUTABLE_COLLECTION mutableCollection,
-                            final CONTEXT context) {
-        mutableCollection.add(
-            context.convertOrFail(
-                element.toString()
-                    .trim(),
-                this.elementType()
-            )
-        );
-
-        element.setLength(0);
-
-    }
-
     abstract Class<E> elementType();
 
     /**
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+/**
+ * Tracks the characters of the element being tokenized by {@link ConverterTextToCollectionTokenizer}. While the
+ * characters are contiguous in the text only a range is recorded, once a quote or escape character is skipped or the
+ * text is replaced by the next chunk the characters are copied to a {@link StringBuilder} which is reused for
+ * following elements.
+ */
+final class ConverterTextToCollectionElement {
+
+    static ConverterTextToCollectionElement with(final CharSequence text) {
+        return new ConverterTextToCollectionElement(text);
+    }
+
+    private ConverterTextToCollectionElement(final CharSequence text) {
+        super();
+        this.text = text;
+        this.clear();
+    }
+
+    /**
+     * Replaces the text, copying the characters of any partial element from the previous text.
+     */
+    void setText(final CharSequence text) {
+        if (this.text != text) {
+            if (false == this.buffered && -1 != this.start) {
+                this.copyRange();
+            }
+            this.text = text;
+        }
+    }
+
+    /**
+     * Adds the character at the given position in the text.
+     */
+    void append(final int position) {
+        if (this.buffered) {
+            this.buffer.append(
+                this.text.charAt(position)
+            );
+        } else {
+            if (-1 == this.start) {
+                this.start = position;
+                this.end = position + 1;
+            } else {
+                if (this.end == position) {
+                    this.end = position + 1;
+                } else {
+                    // characters are no longer contiguous
+                    this.copyRange();
+                    this.buffer.append(
+                        this.text.charAt(position)
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the range of contiguous characters to the {@link #buffer}.
+     */
+    private void copyRange() {
+        StringBuilder buffer = this.buffer;
+        if (null == buffer) {
+            buffer = new StringBuilder();
+            this.buffer = buffer;
+        }
+        buffer.append(
+            this.text,
+            this.start,
+            this.end
+        );
+        this.buffered = true;
+    }
+
+    /**
+     * Returns true if no characters have been added.
+     */
+    boolean isEmpty() {
+        return this.buffered ?
+            0 == this.buffer.length() :
+            -1 == this.start;
+    }
+
+    /**
+     * Returns true if all characters added would be removed by {@link String#trim()}.
+     */
+    boolean isBlank() {
+        final CharSequence chars;
+        final int start;
+        final int end;
+
+        if (this.buffered) {
+            chars = this.buffer;
+            start = 0;
+            end = chars.length();
+        } else {
+            chars = this.text;
+            start = Math.max(this.start, 0);
+            end = Math.max(this.end, 0);
+        }
+
+        return trimStart(chars, start, end) == end;
+    }
+
+    /**
+     * Returns the characters added with leading and trailing characters less than or equal to space removed, the same
+     * as {@link String#trim()}.
+     */
+    String trimmedText() {
+        final CharSequence chars;
+        int start;
+        int end;
+
+        if (this.buffered) {
+            chars = this.buffer;
+            start = 0;
+            end = chars.length();
+        } else {
+            chars = this.text;
+            start = Math.max(this.start, 0);
+            end = Math.max(this.end, 0);
+        }
+
+        start = trimStart(chars, start, end);
+        while (end > start && chars.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return chars.subSequence(
+            start,
+            end
+        ).toString();
+    }
+
+    private static int trimStart(final CharSequence chars,
+                                 final int start,
+                                 final int end) {
+        int i = start;
+        while (i < end && chars.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Clears the element so the next element may be added.
+     */
+    void clear() {
+        this.start = -1;
+        this.end = -1;
+        this.buffered = false;
+        if (null != this.buffer) {
+            this.buffer.setLength(0);
+        }
+    }
+
+    /**
+     * The text or chunk of text being tokenized.
+     */
+    private CharSequence text;
+
+    /**
+     * The start of the range of contiguous characters or -1 if none.
+     */
+    private int start;
+
+    /**
+     * The exclusive end of the range of contiguous characters.
+     */
+    private int end;
+
+    /**
+     * When true the characters have been copied to the {@link #buffer}.
+     */
+    private boolean buffered;
+
+    /**
+     * Lazily created and reused for elements that are not contiguous in the text.
+     */
+    private StringBuilder buffer;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.trimmedText();
+    }
+}
@@ -18,21 +18,35 @@
 package walkingkooka.convert;
 
 import walkingkooka.collect.set.ImmutableSet;
-import walkingkooka.collect.set.SortedSets;
 
 import java.util.Set;
 
 /**
  * Base class that includes the logic for parsing a string with a separator and converting each element to the element type.
  */
-abstract class ConverterTextToCollectionSet<L extends ImmutableSet<E>, E, C extends ConverterContext> extends ConverterTextToCollection<L, Set<E>, E, C> {
+abstract class ConverterTextToCollectionSet<L extends ImmutableSet<E>, E, C extends ConverterContext> extends ConverterTextToCollection<L, ConverterTextToCollectionSetElements<E>, E, C> {
 
     ConverterTextToCollectionSet() {
         super();
     }
 
+    /**
+     * Elements are collected in an array and sorted once, see {@link ConverterTextToCollectionSetElements}.
+     */
     @Override
-    final Set<E> mutableCollection() {
-        return SortedSets.tree();
+    final ConverterTextToCollectionSetElements<E> mutableCollection() {
+        return ConverterTextToCollectionSetElements.empty();
     }
+
+    @Override
+    final L toImmutableCollection(final ConverterTextToCollectionSetElements<E> mutableCollection) {
+        return this.toImmutableSet(
+            mutableCollection.toSet()
+        );
+    }
+
+    /**
+     * Creates the target set from the sorted unique elements.
+     */
+    abstract L toImmutableSet(final Set<E> elements);
 }
@@ -61,7 +61,7 @@ final class ConverterTextToCollectionSetCsvStringSet<C extends ConverterContext>
     }
 
     @Override
-    CsvStringSet toImmutableCollection(final Set<String> mutableCollection) {
+    CsvStringSet toImmutableSet(final Set<String> elements) {
         throw new UnsupportedOperationException();
     }
 }
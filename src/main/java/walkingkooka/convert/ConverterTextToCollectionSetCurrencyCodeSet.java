@@ -66,7 +66,7 @@ final class ConverterTextToCollectionSetCurrencyCodeSet<C extends ConverterConte
     }
 
     @Override
-    CurrencyCodeSet toImmutableCollection(final Set<CurrencyCode> mutableCollection) {
-        return CurrencyCodeSet.EMPTY.setElements(mutableCollection);
+    CurrencyCodeSet toImmutableSet(final Set<CurrencyCode> elements) {
+        return CurrencyCodeSet.EMPTY.setElements(elements);
     }
 }
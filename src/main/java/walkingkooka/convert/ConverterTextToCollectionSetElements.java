@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A staging buffer that collects the elements of a set being parsed in an array, which is only read once by
+ * {@link #toSet()} after parsing. Rather than finding a place for each element in a tree as it is added, elements are
+ * sorted and duplicates removed once, keeping them in their natural order and treating elements that compare as 0 as
+ * duplicates, matching {@link walkingkooka.collect.set.SortedSets#tree()}.
+ * <br>
+ * This is a {@link java.util.Collection} that may hold duplicates rather than a {@link Set}, so {@link #add(Object)}
+ * always returns true.
+ */
+final class ConverterTextToCollectionSetElements<E> extends AbstractCollection<E> {
+
+    static <E> ConverterTextToCollectionSetElements<E> empty() {
+        return new ConverterTextToCollectionSetElements<>();
+    }
+
+    private ConverterTextToCollectionSetElements() {
+        super();
+    }
+
+    @Override
+    public boolean add(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        Object[] elements = this.elements;
+        final int size = this.size;
+        if (size == elements.length) {
+            elements = Arrays.copyOf(
+                elements,
+                size * 2
+            );
+            this.elements = elements;
+        }
+        elements[size] = element;
+        this.size = size + 1;
+        return true;
+    }
+
+    /**
+     * Returns the added elements in order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Cast.to(
+            Arrays.asList(this.elements)
+                .subList(0, this.size)
+                .iterator()
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Sorts the elements and removes neighbouring duplicates in a single pass, returning a read only {@link Set} of
+     * the unique elements in their natural order.
+     */
+    Set<E> toSet() {
+        final Object[] elements = this.elements;
+        final int size = this.size;
+
+        Arrays.sort(
+            elements,
+            0,
+            size
+        );
+
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            final Object element = elements[i];
+            if (0 == unique || 0 != compare(element, elements[unique - 1])) {
+                elements[unique] = element;
+                unique++;
+            }
+        }
+
+        final Object[] set = Arrays.copyOf(
+            elements,
+            unique
+        );
+
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<E> iterator() {
+                return Cast.to(
+                    Collections.unmodifiableList(
+                        Arrays.asList(set)
+                    ).iterator()
+                );
+            }
+
+            @Override
+            public int size() {
+                return set.length;
+            }
+        };
+    }
+
+    private static int compare(final Object left,
+                               final Object right) {
+        final Comparable<Object> comparable = Cast.to(left);
+        return comparable.compareTo(right);
+    }
+
+    private Object[] elements = new Object[8];
+
+    private int size;
+}
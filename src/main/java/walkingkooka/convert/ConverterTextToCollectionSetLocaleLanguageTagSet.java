@@ -66,7 +66,7 @@ final class ConverterTextToCollectionSetLocaleLanguageTagSet<C extends Converter
     }
 
     @Override
-    LocaleLanguageTagSet toImmutableCollection(final Set<LocaleLanguageTag> mutableCollection) {
-        return LocaleLanguageTagSet.EMPTY.setElements(mutableCollection);
+    LocaleLanguageTagSet toImmutableSet(final Set<LocaleLanguageTag> elements) {
+        return LocaleLanguageTagSet.EMPTY.setElements(elements);
     }
 }
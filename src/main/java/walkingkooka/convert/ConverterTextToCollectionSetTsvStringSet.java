@@ -61,7 +61,7 @@ final class ConverterTextToCollectionSetTsvStringSet<C extends ConverterContext>
     }
 
     @Override
-    TsvStringSet toImmutableCollection(final Set<String> mutableCollection) {
+    TsvStringSet toImmutableSet(final Set<String> elements) {
         throw new UnsupportedOperationException();
     }
 }
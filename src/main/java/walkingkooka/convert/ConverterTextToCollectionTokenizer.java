@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.NeverError;
+
+import java.util.function.Consumer;
+
+/**
+ * The quote and escape state machine that splits text into elements using a separator, giving each trimmed element
+ * to a {@link Consumer}. Text may be given all at once or in several chunks, the current mode and partial element are
+ * kept between chunks, so text of any length may be tokenized in constant memory.
+ */
+final class ConverterTextToCollectionTokenizer {
+
+    private final static int MODE_OUTSIDE_QUOTES = 1;
+    private final static int MODE_INSIDE_QUOTES = 2;
+    private final static int MODE_INSIDE_QUOTES_ESCAPE_NEXT = 3;
+    private final static int MODE_AFTER_QUOTES = 4;
+
+    private final static char DOUBLE_QUOTES = '"';
+
+    /**
+     * When skipEmptyLast is true, an empty last element is not given to the {@link Consumer}, so empty text or text
+     * ending with a separator produce no extra element.
+     */
+    static ConverterTextToCollectionTokenizer with(final char separator,
+                                                   final boolean skipEmptyLast,
+                                                   final Consumer<String> elements) {
+        return new ConverterTextToCollectionTokenizer(
+            separator,
+            skipEmptyLast,
+            elements
+        );
+    }
+
+    private ConverterTextToCollectionTokenizer(final char separator,
+                                               final boolean skipEmptyLast,
+                                               final Consumer<String> elements) {
+        super();
+        this.separator = separator;
+        this.skipEmptyLast = skipEmptyLast;
+        this.elements = elements;
+        this.element = ConverterTextToCollectionElement.with("");
+        this.mode = MODE_OUTSIDE_QUOTES;
+    }
+
+    /**
+     * Tokenizes the characters between from and to. Any partial element is copied if the next call gives a different
+     * {@link CharSequence}. Invalid characters are reported with their position in the given text.
+     */
+    void accept(final CharSequence text,
+                final int from,
+                final int to) {
+        final ConverterTextToCollectionElement element = this.element;
+        element.setText(text);
+
+        final char separator = this.separator;
+        int mode = this.mode;
+
+        for (int position = from; position < to; position++) {
+            final char c = text.charAt(position);
+
+            switch (mode) {
+                case MODE_OUTSIDE_QUOTES:
+                    switch (c) {
+                        case DOUBLE_QUOTES:
+                            mode = MODE_INSIDE_QUOTES;
+                            break;
+                        default:
+                            if (separator == c) {
+                                this.addElement();
+                                break;
+                            } else {
+                                element.append(position);
+                            }
+                    }
+                    break;
+                case MODE_INSIDE_QUOTES:
+                    switch (c) {
+                        case DOUBLE_QUOTES:
+                            this.addElement();
+                            mode = MODE_AFTER_QUOTES;
+                            break;
+                        case '\\':
+                            // only spaces before quotes are allowed, otherwise ICE
+                            if (false == element.isBlank()) {
+                                throw new InvalidCharacterException(
+                                    text.toString(),
+                                    position
+                                );
+                            }
+
+                            mode = MODE_INSIDE_QUOTES_ESCAPE_NEXT;
+                            break;
+                        default:
+                            if (separator == c) {
+                                this.addElement();
+                            } else {
+                                element.append(position);
+                            }
+                            break;
+                    }
+                    break;
+                case MODE_INSIDE_QUOTES_ESCAPE_NEXT:
+                    element.append(position);
+                    mode = MODE_INSIDE_QUOTES;
+                    break;
+                case MODE_AFTER_QUOTES:
+                    if (separator == c) {
+                        mode = MODE_OUTSIDE_QUOTES;
+                    } else {
+                        if (false == Character.isWhitespace(c)) {
+                            throw new InvalidCharacterException(
+                                text.toString(),
+                                position
+                            );
+                        }
+                    }
+                    break;
+                default:
+                    NeverError.unhandledCase(
+                        mode,
+                        MODE_OUTSIDE_QUOTES,
+                        MODE_INSIDE_QUOTES,
+                        MODE_INSIDE_QUOTES_ESCAPE_NEXT,
+                        MODE_AFTER_QUOTES
+                    );
+                    break;
+            }
+        }
+
+        this.mode = mode;
+    }
+
+    /**
+     * Must be called after all text has been given, adding the last element or failing if quotes were not closed.
+     */
+    void end() {
+        final int mode = this.mode;
+
+        switch (mode) {
+            case MODE_OUTSIDE_QUOTES:
+                // skip trailing comma or empty string is empty StringList
+                if (false == this.skipEmptyLast || false == this.element.isEmpty()) {
+                    this.addElement();
+                }
+                break;
+            case MODE_INSIDE_QUOTES:
+            case MODE_INSIDE_QUOTES_ESCAPE_NEXT:
+                throw new IllegalArgumentException("Unclosed quotes");
+            case MODE_AFTER_QUOTES:
+                break;
+            default:
+                NeverError.unhandledCase(
+                    mode,
+                    MODE_OUTSIDE_QUOTES,
+                    MODE_INSIDE_QUOTES,
+                    MODE_INSIDE_QUOTES_ESCAPE_NEXT,
+                    MODE_AFTER_QUOTES
+                );
+                break;
+        }
+    }
+
+    private void addElement() {
+        final ConverterTextToCollectionElement element = this.element;
+
+        this.elements.accept(
+            element.trimmedText()
+        );
+        element.clear();
+    }
+
+    private final char separator;
+
+    private final boolean skipEmptyLast;
+
+    private final Consumer<String> elements;
+
+    private final ConverterTextToCollectionElement element;
+
+    private int mode;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "separator " + this.separator;
+    }
+}
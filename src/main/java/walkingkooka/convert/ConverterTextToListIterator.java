@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An {@link Iterator} that tokenizes a {@link CharSequence} such as a {@link String} or CharBuffer in chunks without
+ * copying it, converting each element to the element type as it is reached, using the same quotes, escaping and {@link ConverterContext#valueSeparator()} as the text to list converters such as
+ * {@link Converters#textToNumberList()}. Only one chunk and the elements it completed are held, so very large text
+ * may be converted in constant memory. Elements may be pushed to a consumer using {@link #forEachRemaining(java.util.function.Consumer)}.
+ * <br>
+ * An empty {@link String} element is not returned for empty text or text ending with a separator when the element
+ * type is {@link String}, as is the case for {@link Converters#textToStringList()}.
+ */
+final class ConverterTextToListIterator<E> implements Iterator<E> {
+
+    /**
+     * The number of characters tokenized at a time.
+     */
+    final static int CHUNK = 8192;
+
+    static <E> ConverterTextToListIterator<E> with(final CharSequence text,
+                                                   final Class<E> elementType,
+                                                   final ConverterContext context) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(elementType, "elementType");
+        Objects.requireNonNull(context, "context");
+
+        return new ConverterTextToListIterator<>(
+            text,
+            elementType,
+            context
+        );
+    }
+
+    private ConverterTextToListIterator(final CharSequence text,
+                                        final Class<E> elementType,
+                                        final ConverterContext context) {
+        this.elementType = elementType;
+        this.text = text;
+        this.elements = new ArrayList<>();
+
+        final ConverterLike elementConverter = context.converterFor(
+            String.class,
+            elementType
+        );
+        this.tokenizer = ConverterTextToCollectionTokenizer.with(
+            context.valueSeparator(),
+            String.class == elementType,
+            (e) -> this.elements.add(
+                elementConverter.convertOrFail(
+                    e,
+                    elementType
+                )
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.next == this.elements.size() && false == this.ended) {
+            this.elements.clear();
+            this.next = 0;
+            this.tokenizeNextChunk();
+        }
+        return this.next < this.elements.size();
+    }
+
+    @Override
+    public E next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.elements.get(this.next++);
+    }
+
+    /**
+     * Tokenizes the next chunk of text, which may complete zero or more elements, calling
+     * {@link ConverterTextToCollectionTokenizer#end()} when the text is exhausted.
+     */
+    private void tokenizeNextChunk() {
+        final CharSequence text = this.text;
+        final int length = text.length();
+        final int from = this.position;
+
+        if (from == length) {
+            this.end();
+        } else {
+            final int to = Math.min(
+                length,
+                from + CHUNK
+            );
+            this.tokenizer.accept(
+                text,
+                from,
+                to
+            );
+            this.position = to;
+        }
+    }
+
+    private void end() {
+        this.ended = true;
+        this.tokenizer.end();
+    }
+
+    private final Class<E> elementType;
+
+    private final CharSequence text;
+
+    /**
+     * The position in {@link #text} of the next chunk.
+     */
+    private int position;
+
+    private final ConverterTextToCollectionTokenizer tokenizer;
+
+    /**
+     * Converted elements completed by the last chunk.
+     */
+    private final List<E> elements;
+
+    /**
+     * The index of the next element to return from {@link #elements}.
+     */
+    private int next;
+
+    /**
+     * True once all text has been tokenized.
+     */
+    private boolean ended;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return Converter.TEXT + " to " + this.elementType.getSimpleName() + " elements";
+    }
+}
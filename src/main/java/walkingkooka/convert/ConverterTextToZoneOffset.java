@@ -54,6 +54,16 @@ final class ConverterTextToZoneOffset<C extends ConverterContext> implements Tex
         return ZoneOffset.of(text);
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.ANY,
+        ConverterCapabilities.types(ZoneOffset.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -63,6 +63,16 @@ final class ConverterToBinary<C extends ConverterContext> implements TryingShort
             ((HasBinary) value).binary();
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasBinary.class),
+        ConverterCapabilities.types(Binary.class)
+    );
+
     @Override
     public String toString() {
         // to Binary
@@ -68,6 +68,16 @@ final class ConverterToDateTimeSymbols<C extends ConverterContext> implements Tr
                 null;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasDateTimeSymbols.class, HasOptionalDateTimeSymbols.class),
+        ConverterCapabilities.types(DateTimeSymbols.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
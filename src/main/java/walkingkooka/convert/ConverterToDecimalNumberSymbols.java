@@ -68,6 +68,16 @@ final class ConverterToDecimalNumberSymbols<C extends ConverterContext> implemen
                 null;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasDecimalNumberSymbols.class, HasOptionalDecimalNumberSymbols.class),
+        ConverterCapabilities.types(DecimalNumberSymbols.class)
+    );
+
     // Object...........................................................................................................
 
     @Override
@@ -55,6 +55,16 @@ final class ConverterToObject<C extends ConverterContext> implements TryingShort
         return value;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.ANY,
+        ConverterCapabilities.types(Object.class)
+    );
+
     @Override
     public String toString() {
         return "* to " + Object.class.getSimpleName();
@@ -63,6 +63,16 @@ final class ConverterToProperties<C extends ConverterContext> implements TryingS
             ((HasProperties) value).properties();
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasProperties.class),
+        ConverterCapabilities.types(Properties.class)
+    );
+
     @Override
     public String toString() {
         return "to " + Properties.class.getSimpleName();
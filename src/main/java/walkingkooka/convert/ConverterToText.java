@@ -77,6 +77,16 @@ final class ConverterToText<C extends ConverterContext> implements TryingShortCi
         return text;
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasText.class),
+        ConverterCapabilities.types(String.class)
+    );
+
     @Override
     public String toString() {
         return "toText";
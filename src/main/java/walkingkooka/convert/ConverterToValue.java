@@ -62,6 +62,16 @@ final class ConverterToValue<C extends ConverterContext> implements ShortCircuit
         );
     }
 
+    @Override
+    public ConverterCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    private final static ConverterCapabilities CAPABILITIES = ConverterCapabilities.with(
+        ConverterCapabilities.types(HasValue.class),
+        ConverterCapabilities.ANY
+    );
+
     // Object...........................................................................................................
 
     @Override
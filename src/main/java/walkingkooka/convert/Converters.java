@@ -27,6 +27,7 @@ import walkingkooka.text.cursor.parser.ParserToken;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -139,6 +140,23 @@ public final class Converters implements PublicStaticHelper {
         return ConverterCollection.with(converters);
     }
 
+    /**
+     * {@see ConverterCollectionToLazyList}
+     * <br>
+     * The returned {@link List} keeps a reference to the {@link ConverterContext} and a copy of the source elements
+     * for as long as it is reachable. Elements are converted when first read, so a conversion failure is thrown by
+     * {@link List#get(int)} as a {@link ConverterException} rather than returned by this {@link Converter}.
+     * {@link Object#equals(Object)}, {@link Object#hashCode()} and {@link Object#toString()} read and so convert every
+     * element.
+     * <br>
+     * Only a plain {@link List} target is lazy, typed lists such as {@link walkingkooka.collect.list.BooleanList},
+     * {@link walkingkooka.math.NumberList} and {@link walkingkooka.datetime.LocalDateList} are not supported and are
+     * still converted eagerly by their own {@link Converter}.
+     */
+    public static <C extends ConverterContext> Converter<C> collectionToLazyList(final Class<?> elementType) {
+        return ConverterCollectionToLazyList.with(elementType);
+    }
+
     /**
      * {@see ConverterCollectionToList}
      */
@@ -153,6 +171,13 @@ public final class Converters implements PublicStaticHelper {
         return ConverterCollectionTo.instance();
     }
 
+    /**
+     * {@see ConverterOptimizer}
+     */
+    public static <C extends ConverterContext> Converter<C> compile(final Converter<C> converter) {
+        return ConverterOptimizer.compile(converter);
+    }
+
     /**
      * {@see ConverterCurrencyCodeToCurrency}
      */
@@ -189,6 +214,17 @@ public final class Converters implements PublicStaticHelper {
         return new FakeConverter<>();
     }
 
+    /**
+     * {@see ConverterCollection}
+     * <br>
+     * The indexed mode only caches, for each value {@link Class} and target type, the members whose
+     * {@link ConverterCapabilities} allow the pair. It never remembers or prefers the member that last succeeded, so
+     * every request still tries those members in order and gives the same results as {@link #collection(List)}.
+     */
+    public static <C extends ConverterContext> Converter<C> indexedCollection(final List<Converter<C>> converters) {
+        return ConverterCollection.indexed(converters);
+    }
+
     /**
      * {@see ConverterTemporalLocalDateToLocalDateTime}
      */
@@ -289,6 +325,33 @@ public final class Converters implements PublicStaticHelper {
         return ConverterPredicatedMapper.with(source, target, converter);
     }
 
+    /**
+     * {@see ConverterMetered}
+     * <br>
+     * Only {@link Converter#convert(Object, Class, ConverterContext)} and
+     * {@link Converter#tryConvert(Object, Class, ConverterContext)} are recorded. Batches passed to
+     * {@link Converter#convertAll(List, Class, ConverterContext, Object[], java.util.BitSet)} and the primitive methods
+     * such as {@link Converter#convertInt(Object, ConverterContext, ConverterFailure)} are not recorded.
+     */
+    public static <C extends ConverterContext> Converter<C> metered(final Converter<C> converter,
+                                                                    final ConverterMetrics metrics) {
+        return ConverterMetered.with(
+            converter,
+            metrics
+        );
+    }
+
+    /**
+     * {@see ConverterMetered}
+     */
+    public static <C extends ConverterContext> Converter<C> meteredTree(final Converter<C> converter,
+                                                                        final ConverterMetrics metrics) {
+        return ConverterMetered.tree(
+            converter,
+            metrics
+        );
+    }
+
     /**
      * {@see ConverterNever}
      */
@@ -359,6 +422,13 @@ public final class Converters implements PublicStaticHelper {
         return ConverterObjectToString.instance();
     }
 
+    /**
+     * {@see ConverterOptimizer}
+     */
+    public static <C extends ConverterContext> Converter<C> optimize(final Converter<C> converter) {
+        return ConverterOptimizer.optimize(converter);
+    }
+
     /**
      * {@see ConverterOptionalTo}
      */
@@ -366,6 +436,17 @@ public final class Converters implements PublicStaticHelper {
         return ConverterOptionalTo.instance();
     }
 
+    /**
+     * {@see ConverterParallel}
+     */
+    public static <C extends ConverterContext> Converter<C> parallel(final Converter<C> converter,
+                                                                     final int threshold) {
+        return ConverterParallel.with(
+            converter,
+            threshold
+        );
+    }
+
     /**
      * {@see ConverterParser}
      */
@@ -383,6 +464,27 @@ public final class Converters implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see ConverterPlanner}
+     */
+    public static <C extends ConverterContext> Converter<C> planner(final List<Converter<C>> converters) {
+        return planner(
+            converters,
+            ConverterPlanner.MAX_HOPS
+        );
+    }
+
+    /**
+     * {@see ConverterPlanner}
+     */
+    public static <C extends ConverterContext> Converter<C> planner(final List<Converter<C>> converters,
+                                                                    final int maxHops) {
+        return ConverterPlanner.with(
+            converters,
+            maxHops
+        );
+    }
+
     /**
      * {@see ConverterPropertiesToDateTimeSymbols}
      */
@@ -488,6 +590,19 @@ public final class Converters implements PublicStaticHelper {
         return ConverterTextToLineEnding.instance();
     }
 
+    /**
+     * {@see ConverterTextToListIterator}
+     */
+    public static <E> Iterator<E> textToListIterator(final CharSequence text,
+                                                     final Class<E> elementType,
+                                                     final ConverterContext context) {
+        return ConverterTextToListIterator.with(
+            text,
+            elementType,
+            context
+        );
+    }
+
     /**
      * {@see ConverterDateTimeFormatterStringToLocalDateDateTimeFormatter}
      */
@@ -17,6 +17,7 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.reflect.StaticHelper;
 import walkingkooka.text.CharSequences;
@@ -44,6 +45,25 @@ final class FailConversion implements StaticHelper {
         return handle0(value, target, (CharSequences.isNullOrEmpty(message) ? cause.getClass().getName() : cause.getMessage()));
     }
 
+    /**
+     * Returns the shared not supported result, this is never shown to a user and only identity should be tested.
+     * Converters return this flyweight from {@link Converter#tryConvert(Object, Class, ConverterContext)} only for a
+     * value or target type they do not handle, leaving {@link Converter#convert(Object, Class, ConverterContext)}
+     * to build the standard message only when the failure is returned to the caller.
+     */
+    static <T> Either<T, String> notSupported() {
+        return Cast.to(NOT_SUPPORTED);
+    }
+
+    /**
+     * Tests if the given result is the shared {@link #NOT_SUPPORTED}.
+     */
+    static boolean isNotSupported(final Either<?, String> result) {
+        return NOT_SUPPORTED == result;
+    }
+
+    private final static Either<?, String> NOT_SUPPORTED = Either.right("Not supported");
+
     private static <T> Either<T, String> handle0(final Object value,
                                                  final Class<T> target,
                                                  final String message) {
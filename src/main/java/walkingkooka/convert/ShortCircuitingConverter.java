@@ -33,6 +33,30 @@ public interface ShortCircuitingConverter<C extends ConverterContext> extends Co
         Objects.requireNonNull(type, "type");
         Objects.requireNonNull(context, "context");
 
+        final Either<T, String> result = this.tryConvert(
+            value,
+            type,
+            context
+        );
+
+        return this.isNotSupported(result) ?
+            this.failConversion(
+                value,
+                type
+            ) :
+            result;
+    }
+
+    /**
+     * Only calls {@link #doConvert(Object, Class, ConverterContext)} if {@link #canConvert(Object, Class, ConverterContext)}
+     * is true, otherwise returns {@link #notSupported()}. Sub classes whose {@link #canConvert(Object, Class, ConverterContext)}
+     * repeats work done by {@link #doConvert(Object, Class, ConverterContext)} should override this method and do both
+     * in a single pass.
+     */
+    @Override
+    default <T> Either<T, String> tryConvert(final Object value,
+                                             final Class<T> type,
+                                             final C context) {
         return this.canConvert(
             value,
             type,
@@ -43,10 +67,7 @@ public interface ShortCircuitingConverter<C extends ConverterContext> extends Co
                 type,
                 context
             ) :
-            this.failConversion(
-                value,
-                type
-            );
+            this.notSupported();
     }
 
     <T> Either<T, String> doConvert(final Object value,
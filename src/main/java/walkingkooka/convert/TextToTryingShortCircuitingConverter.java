@@ -17,6 +17,8 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Either;
+
 /**
  * A {@link TryingShortCircuitingConverter} that automatically converts {@link Character}, {@link CharSequence}, {@link walkingkooka.text.HasText} or {@link String}
  * to an intermediate {@link String} and then invoking a {@link #parseText(String, Class, ConverterContext)} to complete
@@ -40,6 +42,61 @@ public interface TextToTryingShortCircuitingConverter<C extends ConverterContext
             );
     }
 
+    /**
+     * Converts the value to {@link String} once and then parses, rather than testing with
+     * {@link ConverterContext#canConvert(Object, Class)} and then converting again. If the value cannot be converted to
+     * {@link String} {@link #notSupported()} is returned.
+     */
+    @Override
+    default <T> Either<T, String> tryConvert(final Object value,
+                                             final Class<T> type,
+                                             final C context) {
+        Either<T, String> result;
+
+        if (this.isTargetType(
+            value,
+            type,
+            context
+        )) {
+            final Either<String, String> text = context.convert(
+                value,
+                String.class
+            );
+            if (text.isLeft()) {
+                final String string = text.leftValue();
+
+                if (this.isParsable(
+                    string,
+                    type,
+                    context
+                )) {
+                    try {
+                        result = this.successfulConversion(
+                            this.parseText(
+                                string,
+                                type,
+                                context
+                            ),
+                            type
+                        );
+                    } catch (final UnsupportedOperationException cause) {
+                        throw cause;
+                    } catch (final RuntimeException cause) {
+                        result = Either.right(cause.getMessage());
+                    }
+                } else {
+                    result = this.notSupported();
+                }
+            } else {
+                result = this.notSupported();
+            }
+        } else {
+            result = this.notSupported();
+        }
+
+        return result;
+    }
+
     boolean isTargetType(final Object value,
                          final Class<?> type,
                          final C context);
@@ -58,6 +115,17 @@ public interface TextToTryingShortCircuitingConverter<C extends ConverterContext
         );
     }
 
+    /**
+     * Cheaply tests if the text can be parsed, allowing {@link #tryConvert(Object, Class, ConverterContext)} to fail
+     * without {@link #parseText(String, Class, ConverterContext)} creating and throwing an exception for malformed text.
+     * The default accepts all text.
+     */
+    default boolean isParsable(final String text,
+                               final Class<?> type,
+                               final C context) {
+        return true;
+    }
+
     Object parseText(final String value,
                      final Class<?> type,
                      final C context);
@@ -18,6 +18,8 @@
 package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.set.Sets;
 import walkingkooka.currency.CurrencyCode;
 import walkingkooka.currency.CurrencyExchange;
@@ -39,6 +41,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class BasicConverterContextTest implements ClassTesting2<BasicConverterContext>,
@@ -261,7 +265,145 @@ public final class BasicConverterContextTest implements ClassTesting2<BasicConve
     }
 
     @Test
-    public void testCurrencyCode() {
+    public void testIsThreadSafe() {
+        this.checkEquals(
+            false,
+            this.createContext()
+                .isThreadSafe()
+        );
+    }
+
+    @Test
+    public void testSetThreadSafeSame() {
+        final BasicConverterContext context = this.createContext();
+
+        assertSame(
+            context,
+            context.setThreadSafe(false)
+        );
+    }
+
+    @Test
+    public void testSetThreadSafeDifferent() {
+        final BasicConverterContext context = this.createContext();
+        final BasicConverterContext different = context.setThreadSafe(true);
+
+        assertNotSame(
+            context,
+            different
+        );
+        this.checkEquals(
+            true,
+            different.isThreadSafe()
+        );
+        this.convertAndCheck(
+            different,
+            new StringBuilder("123"),
+            String.class,
+            "123"
+        );
+    }
+
+    @Test
+    public void testConverterForLeafConverter() {
+        final BasicConverterContext context = this.createContext();
+
+        assertSame(
+            context,
+            context.converterFor(
+                Integer.class,
+                String.class
+            )
+        );
+    }
+
+    @Test
+    public void testConverterForCollection() {
+        final Converter<ConverterContext> objectToString = Converters.objectToString();
+
+        final BasicConverterContext context = BasicConverterContext.with(
+            CAN_NUMBERS_HAVE_GROUP_SEPARATOR,
+            NUMBER_TO_DATE_OFFSET,
+            VALUE_SEPARATOR,
+            Converters.collection(
+                Lists.of(
+                    Converters.numberToBoolean(),
+                    objectToString
+                )
+            ),
+            MULTIPLIER,
+            BINARY_TEXT_CONTEXT,
+            CURRENCY_LOCALE_CONTEXT,
+            DATE_TIME_CONTEXT,
+            decimalNumberContext()
+        );
+
+        final ConverterLike converterLike = context.converterFor(
+            Integer.class,
+            String.class
+        );
+        this.checkEquals(
+            ConverterLikeConverter.with(
+                objectToString,
+                context
+            ).toString(),
+            converterLike.toString()
+        );
+        this.checkEquals(
+            "123",
+            converterLike.convertOrFail(
+                123,
+                String.class
+            )
+        );
+    }
+
+    @Test
+    public void testConvertUnsupportedByCapabilities() {
+        final BasicConverterContext context = BasicConverterContext.with(
+            CAN_NUMBERS_HAVE_GROUP_SEPARATOR,
+            NUMBER_TO_DATE_OFFSET,
+            VALUE_SEPARATOR,
+            Converters.collection(
+                Lists.of(
+                    Converters.numberToBoolean(),
+                    Converters.numberToNumber()
+                )
+            ),
+            MULTIPLIER,
+            BINARY_TEXT_CONTEXT,
+            CURRENCY_LOCALE_CONTEXT,
+            DATE_TIME_CONTEXT,
+            decimalNumberContext()
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.checkEquals(
+                false,
+                context.canConvert(
+                    "abc",
+                    Locale.class
+                )
+            );
+            this.checkEquals(
+                Either.right("Failed to convert \"abc\" (java.lang.String) to java.util.Locale"),
+                context.convert(
+                    "abc",
+                    Locale.class
+                )
+            );
+        }
+
+        this.checkEquals(
+            Either.left(1L),
+            context.convert(
+                1,
+                Long.class
+            )
+        );
+    }
+
+
         this.currencyCodeAndCheck(
             this.createContext(),
             CURRENCY_LOCALE_CONTEXT.currencyCode()
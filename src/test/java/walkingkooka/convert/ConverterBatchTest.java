@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.Predicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterBatchTest implements ClassTesting2<ConverterBatch> {
+
+    @Test
+    public void testConvertEach() {
+        this.convertAllAndCheck(
+            Converters.numberToNumber(),
+            Lists.of(1, 2.5, "3"),
+            new Long[]{1L, 2L, null},
+            2
+        );
+    }
+
+    @Test
+    public void testConvertAllSameClass() {
+        this.convertAllAndCheck(
+            this.converter(),
+            Lists.of("1", "2", "x"),
+            new Long[]{1L, 2L, null},
+            2
+        );
+    }
+
+    @Test
+    public void testConvertAllDifferentClasses() {
+        this.convertAllAndCheck(
+            this.converter(),
+            Lists.of(1, "2", 3.5, "x", 4L),
+            new Long[]{1L, 2L, 3L, null, 4L},
+            3
+        );
+    }
+
+    @Test
+    public void testConvertAllNoneSupported() {
+        this.convertAllAndCheck(
+            this.converter(),
+            Lists.of(true, false),
+            new Long[]{null, null},
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testConvertAllEmpty() {
+        this.convertAllAndCheck(
+            this.converter(),
+            Lists.empty(),
+            new Long[0]
+        );
+    }
+
+    @Test
+    public void testConvertAllClearsPreviousFailures() {
+        final BitSet failures = new BitSet();
+        failures.set(0, 3);
+
+        this.checkEquals(
+            0,
+            this.converter()
+                .convertAll(
+                    Lists.of(1, "2", 3L),
+                    Long.class,
+                    ConverterContexts.fake(),
+                    new Long[3],
+                    failures
+                )
+        );
+        this.checkEquals(
+            new BitSet(),
+            failures
+        );
+    }
+
+    @Test
+    public void testConvertAllResultsTooShortFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.converter()
+                .convertAll(
+                    Lists.of(1, 2),
+                    Long.class,
+                    ConverterContexts.fake(),
+                    new Long[1],
+                    new BitSet()
+                )
+        );
+    }
+
+    @Test
+    public void testConvertAllSameAsConvert() {
+        final Converter<ConverterContext> converter = this.converter();
+        final ConverterContext context = ConverterContexts.fake();
+
+        final List<Object> values = Lists.of(1, "2", 3.5, "x", 4L, true, "5", 6, Double.NaN);
+        final Long[] results = new Long[values.size()];
+        final BitSet failures = new BitSet();
+
+        converter.convertAll(
+            values,
+            Long.class,
+            context,
+            results,
+            failures
+        );
+
+        for (int i = 0; i < results.length; i++) {
+            final Object value = values.get(i);
+            final Either<Long, String> converted = converter.convert(
+                value,
+                Long.class,
+                context
+            );
+
+            this.checkEquals(
+                converted.isRight(),
+                failures.get(i),
+                () -> "failure " + value
+            );
+            this.checkEquals(
+                converted.isLeft() ?
+                    converted.leftValue() :
+                    null,
+                results[i],
+                () -> "result " + value
+            );
+        }
+    }
+
+    private Converter<ConverterContext> converter() {
+        return Converters.collection(
+            Lists.of(
+                Converters.<String, Long, ConverterContext>mapper(
+                    t -> t instanceof String && ((String) t).matches("[0-9]+"),
+                    Predicates.is(Long.class),
+                    Long::valueOf
+                ),
+                Converters.numberToNumber()
+            )
+        );
+    }
+
+    private void convertAllAndCheck(final Converter<ConverterContext> converter,
+                                    final List<?> values,
+                                    final Long[] expected,
+                                    final int... failed) {
+        final Long[] results = new Long[values.size()];
+        final BitSet failures = new BitSet();
+
+        this.checkEquals(
+            failed.length,
+            converter.convertAll(
+                values,
+                Long.class,
+                ConverterContexts.fake(),
+                results,
+                failures
+            ),
+            "failure count"
+        );
+        this.checkEquals(
+            Arrays.asList(expected),
+            Arrays.asList(results),
+            "results"
+        );
+
+        final BitSet expectedFailures = new BitSet();
+        for (final int i : failed) {
+            expectedFailures.set(i);
+        }
+        this.checkEquals(
+            expectedFailures,
+            failures,
+            "failures"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterBatch> type() {
+        return ConverterBatch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -169,6 +169,164 @@ public final class ConverterBooleanToNumberTest extends ConverterTestCase2<Conve
         );
     }
 
+    // primitives.......................................................................................................
+
+    @Test
+    public void testConvertDouble() {
+        this.convertDoubleAndCheck(true, 1.0);
+        this.convertDoubleAndCheck(false, 0.0);
+    }
+
+    @Test
+    public void testConvertDoubleFails() {
+        this.convertDoubleFails("true");
+    }
+
+    @Test
+    public void testConvertInt() {
+        this.convertIntAndCheck(true, 1);
+        this.convertIntAndCheck(false, 0);
+    }
+
+    @Test
+    public void testConvertIntFails() {
+        this.convertIntFails("true");
+    }
+
+    @Test
+    public void testConvertLong() {
+        this.convertLongAndCheck(true, 1L);
+        this.convertLongAndCheck(false, 0L);
+    }
+
+    @Test
+    public void testConvertLongFails() {
+        this.convertLongFails(null);
+    }
+
+    private void convertDoubleAndCheck(final Object value,
+                                   final double expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertDouble(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertDouble " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertDoubleFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0.0,
+            this.createConverter()
+                .convertDouble(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertDouble " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertDouble " + value
+        );
+    }
+
+    private void convertIntAndCheck(final Object value,
+                                final int expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertInt(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertInt " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertIntFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0,
+            this.createConverter()
+                .convertInt(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertInt " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertInt " + value
+        );
+    }
+
+    private void convertLongAndCheck(final Object value,
+                                 final long expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertLongFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertLong " + value
+        );
+    }
+
     @Override
     public ConverterBooleanToNumber<ConverterContext> createConverter() {
         return ConverterBooleanToNumber.instance();
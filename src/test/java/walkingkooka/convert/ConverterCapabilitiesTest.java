@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.HasText;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterCapabilitiesTest implements ClassTesting2<ConverterCapabilities>,
+    HashCodeEqualsDefinedTesting2<ConverterCapabilities>,
+    ToStringTesting<ConverterCapabilities> {
+
+    @Test
+    public void testWithNullSourceTypesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterCapabilities.with(
+                null,
+                ConverterCapabilities.ANY
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullTargetTypesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithAnyAny() {
+        assertSame(
+            ConverterCapabilities.UNKNOWN,
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.ANY
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ConverterCapabilities capabilities = this.createObject();
+        this.checkEquals(
+            Optional.of(Sets.of(String.class)),
+            capabilities.sourceTypes(),
+            "sourceTypes"
+        );
+        this.checkEquals(
+            Optional.of(Sets.of(LocalDate.class)),
+            capabilities.targetTypes(),
+            "targetTypes"
+        );
+        this.checkEquals(
+            false,
+            capabilities.isUnknown(),
+            "isUnknown"
+        );
+    }
+
+    @Test
+    public void testUnknownIsUnknown() {
+        this.checkEquals(
+            true,
+            ConverterCapabilities.UNKNOWN.isUnknown()
+        );
+    }
+
+    // mayConvert.......................................................................................................
+
+    @Test
+    public void testMayConvertNullValue() {
+        this.mayConvertAndCheck(
+            this.createObject(),
+            null,
+            Void.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertSourceAndTarget() {
+        this.mayConvertAndCheck(
+            this.createObject(),
+            String.class,
+            LocalDate.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertDifferentSource() {
+        this.mayConvertAndCheck(
+            this.createObject(),
+            Integer.class,
+            LocalDate.class,
+            false
+        );
+    }
+
+    @Test
+    public void testMayConvertDifferentTarget() {
+        this.mayConvertAndCheck(
+            this.createObject(),
+            String.class,
+            Void.class,
+            false
+        );
+    }
+
+    @Test
+    public void testMayConvertSourceSubClass() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(Number.class),
+                ConverterCapabilities.types(String.class)
+            ),
+            Integer.class,
+            String.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertSourceInterface() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(HasText.class),
+                ConverterCapabilities.types(String.class)
+            ),
+            Integer.class,
+            String.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertAnySource() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.types(String.class)
+            ),
+            Integer.class,
+            String.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertAnyTarget() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(String.class),
+                ConverterCapabilities.ANY
+            ),
+            String.class,
+            Void.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertNumber() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(String.class),
+                ConverterCapabilities.NUMBER
+            ),
+            String.class,
+            Long.class,
+            true
+        );
+    }
+
+    @Test
+    public void testMayConvertNone() {
+        this.mayConvertAndCheck(
+            ConverterCapabilities.NONE,
+            String.class,
+            String.class,
+            false
+        );
+    }
+
+    private void mayConvertAndCheck(final ConverterCapabilities capabilities,
+                                    final Class<?> valueType,
+                                    final Class<?> type,
+                                    final boolean expected) {
+        this.checkEquals(
+            expected,
+            capabilities.mayConvert(
+                valueType,
+                type
+            ),
+            () -> capabilities + " mayConvert " + valueType + " to " + type
+        );
+    }
+
+    // or...............................................................................................................
+
+    @Test
+    public void testOrSame() {
+        final ConverterCapabilities capabilities = this.createObject();
+        assertSame(
+            capabilities,
+            capabilities.or(capabilities)
+        );
+    }
+
+    @Test
+    public void testOr() {
+        this.checkEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(String.class, Integer.class),
+                ConverterCapabilities.types(LocalDate.class, String.class)
+            ),
+            this.createObject()
+                .or(
+                    ConverterCapabilities.with(
+                        ConverterCapabilities.types(Integer.class),
+                        ConverterCapabilities.types(String.class)
+                    )
+                )
+        );
+    }
+
+    @Test
+    public void testOrAnySource() {
+        this.checkEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.types(LocalDate.class, String.class)
+            ),
+            this.createObject()
+                .or(
+                    ConverterCapabilities.with(
+                        ConverterCapabilities.ANY,
+                        ConverterCapabilities.types(String.class)
+                    )
+                )
+        );
+    }
+
+    @Test
+    public void testOrUnknown() {
+        assertSame(
+            ConverterCapabilities.UNKNOWN,
+            this.createObject()
+                .or(ConverterCapabilities.UNKNOWN)
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentSourceTypes() {
+        this.checkNotEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(Integer.class),
+                ConverterCapabilities.types(LocalDate.class)
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentTargetTypes() {
+        this.checkNotEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(String.class),
+                ConverterCapabilities.ANY
+            )
+        );
+    }
+
+    @Override
+    public ConverterCapabilities createObject() {
+        return ConverterCapabilities.with(
+            ConverterCapabilities.types(String.class),
+            ConverterCapabilities.types(LocalDate.class)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "String to LocalDate"
+        );
+    }
+
+    @Test
+    public void testToStringAnySource() {
+        this.toStringAndCheck(
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.types(LocalDate.class, String.class)
+            ),
+            "* to LocalDate, String"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterCapabilities> type() {
+        return ConverterCapabilities.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
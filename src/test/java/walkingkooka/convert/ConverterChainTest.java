@@ -20,9 +20,13 @@ package walkingkooka.convert;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.text.HasText;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -120,6 +124,199 @@ public final class ConverterChainTest extends ConverterTestCase2<ConverterChain<
         );
     }
 
+    @Test
+    public void testTryConvertSecondConverterFails() {
+        final ConverterChain<ConverterContext> converter = ConverterChain.with(
+            Converters.objectToString(),
+            String.class,
+            Converters.stringToCharacterOrString()
+        );
+
+        this.checkEquals(
+            FailConversion.handle(
+                123,
+                Character.class
+            ),
+            converter.tryConvert(
+                123,
+                Character.class,
+                this.createContext()
+            )
+        );
+    }
+
+    @Test
+    public void testConvertSecondConverterFailsMessage() {
+        this.checkEquals(
+            FailConversion.handle(
+                123,
+                Character.class
+            ),
+            ConverterChain.with(
+                Converters.objectToString(),
+                String.class,
+                Converters.stringToCharacterOrString()
+            ).convert(
+                123,
+                Character.class,
+                this.createContext()
+            )
+        );
+    }
+
+    // primitives.......................................................................................................
+
+    @Test
+    public void testConvertInt() {
+        this.convertIntAndCheck(
+            this.numberToLongToNumber(),
+            12.5,
+            12
+        );
+    }
+
+    @Test
+    public void testConvertIntFirstConverterFails() {
+        this.convertIntFails(
+            this.numberToLongToNumber(),
+            "abc"
+        );
+    }
+
+    @Test
+    public void testConvertIntSecondConverterFails() {
+        this.convertIntFails(
+            this.numberToLongToNumber(),
+            Long.MAX_VALUE
+        );
+    }
+
+    @Test
+    public void testConvertDouble() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            12.0,
+            this.numberToLongToNumber()
+                .convertDouble(
+                    12.5,
+                    this.createContext(),
+                    failure
+                )
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+    }
+
+    private ConverterChain<ConverterContext> numberToLongToNumber() {
+        return ConverterChain.with(
+            Converters.numberToNumber(),
+            Long.class,
+            Converters.numberToNumber()
+        );
+    }
+
+    private void convertIntAndCheck(final ConverterChain<ConverterContext> converter,
+                                    final Object value,
+                                    final int expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            converter.convertInt(
+                value,
+                this.createContext(),
+                failure
+            )
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertIntFails(final ConverterChain<ConverterContext> converter,
+                                 final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0,
+            converter.convertInt(
+                value,
+                this.createContext(),
+                failure
+            )
+        );
+        this.checkEquals(
+            FailConversion.handle(
+                value,
+                Integer.class
+            ).rightValue(),
+            failure.message()
+        );
+    }
+
+    // batch............................................................................................................
+
+    @Test
+    public void testConvertAll() {
+        final List<Object> values = Lists.of(1.5, "abc", Long.MAX_VALUE, 2);
+        final Integer[] results = new Integer[values.size()];
+        final BitSet failures = new BitSet();
+
+        this.checkEquals(
+            2,
+            this.numberToLongToNumber()
+                .convertAll(
+                    values,
+                    Integer.class,
+                    this.createContext(),
+                    results,
+                    failures
+                )
+        );
+        this.checkEquals(
+            Arrays.asList(1, null, null, 2),
+            Arrays.asList(results)
+        );
+        this.checkEquals(
+            BitSet.valueOf(new long[]{0b0110}),
+            failures
+        );
+    }
+
+    // capabilities.....................................................................................................
+
+    @Test
+    public void testCapabilities() {
+        this.checkEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.types(HasText.class),
+                ConverterCapabilities.types(Character.class, String.class)
+            ),
+            this.createConverter()
+                .capabilities()
+        );
+    }
+
+    @Test
+    public void testCapabilitiesUnknownFirst() {
+        this.checkEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.types(Character.class, String.class)
+            ),
+            ConverterChain.with(
+                Converters.simple(),
+                String.class,
+                Converters.stringToCharacterOrString()
+            ).capabilities()
+        );
+    }
+
     @Override
     public ConverterChain<ConverterContext> createConverter() {
         return ConverterChain.with(
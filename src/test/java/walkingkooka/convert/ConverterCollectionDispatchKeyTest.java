@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterCollectionDispatchKeyTest implements ClassTesting2<ConverterCollectionDispatchKey>,
+    HashCodeEqualsDefinedTesting2<ConverterCollectionDispatchKey>,
+    ToStringTesting<ConverterCollectionDispatchKey> {
+
+    @Test
+    public void testWith() {
+        final ConverterCollectionDispatchKey key = ConverterCollectionDispatchKey.with(
+            "Hello",
+            Integer.class
+        );
+        this.checkEquals(String.class, key.valueType, "valueType");
+        this.checkEquals(Integer.class, key.type, "type");
+    }
+
+    @Test
+    public void testWithNullValue() {
+        final ConverterCollectionDispatchKey key = ConverterCollectionDispatchKey.with(
+            null,
+            Integer.class
+        );
+        this.checkEquals(null, key.valueType, "valueType");
+        this.checkEquals(Integer.class, key.type, "type");
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentValueSameClass() {
+        this.checkEquals(
+            this.createObject(),
+            ConverterCollectionDispatchKey.with(
+                "Different",
+                Integer.class
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentValueClass() {
+        this.checkNotEquals(
+            ConverterCollectionDispatchKey.with(
+                1L,
+                Integer.class
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsNullValue() {
+        this.checkNotEquals(
+            ConverterCollectionDispatchKey.with(
+                null,
+                Integer.class
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentType() {
+        this.checkNotEquals(
+            ConverterCollectionDispatchKey.with(
+                "Hello",
+                Long.class
+            )
+        );
+    }
+
+    @Override
+    public ConverterCollectionDispatchKey createObject() {
+        return ConverterCollectionDispatchKey.with(
+            "Hello",
+            Integer.class
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "java.lang.String to java.lang.Integer"
+        );
+    }
+
+    @Test
+    public void testToStringNullValue() {
+        this.toStringAndCheck(
+            ConverterCollectionDispatchKey.with(
+                null,
+                Integer.class
+            ),
+            "null to java.lang.Integer"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterCollectionDispatchKey> type() {
+        return ConverterCollectionDispatchKey.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -24,6 +24,8 @@ import walkingkooka.HashCodeEqualsDefinedTesting2;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.predicate.Predicates;
 
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -116,6 +118,745 @@ public final class ConverterCollectionTest extends ConverterTestCase2<ConverterC
         );
     }
 
+    @Test
+    public void testConvertSkipsConverterWithCapabilitiesRejecting() {
+        this.convertAndCheck(
+            ConverterCollection.with(
+                Lists.of(
+                    new FakeConverter<>() {
+                        @Override
+                        public ConverterCapabilities capabilities() {
+                            return ConverterCapabilities.with(
+                                ConverterCapabilities.types(String.class),
+                                ConverterCapabilities.types(Boolean.class)
+                            );
+                        }
+                    },
+                    Converters.numberToBoolean()
+                )
+            ),
+            1,
+            Boolean.class,
+            true
+        );
+    }
+
+    @Test
+    public void testTryConvertNoneSupportedNotSupported() {
+        final ConverterCollection<ConverterContext> converter = this.createConverter();
+
+        this.checkEquals(
+            true,
+            converter.isNotSupported(
+                converter.tryConvert(
+                    1,
+                    Void.class,
+                    this.createContext()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testTryConvertMemberFailure() {
+        final ConverterCollection<ConverterContext> converter = this.createConverter();
+        final Either<Long, String> result = converter.tryConvert(
+            Double.NaN,
+            Long.class,
+            this.createContext()
+        );
+
+        this.checkEquals(
+            true,
+            result.isRight(),
+            () -> "" + result
+        );
+        this.checkEquals(
+            false,
+            converter.isNotSupported(result),
+            () -> "" + result
+        );
+    }
+
+    @Test
+    public void testTryConvertMemberFailureThenNotSupported() {
+        final Converter<ConverterContext> converter = ConverterCollection.with(
+            Lists.of(
+                Converters.numberToNumber(),
+                new ShortCircuitingConverter<>() {
+                    @Override
+                    public boolean canConvert(final Object value,
+                                              final Class<?> type,
+                                              final ConverterContext context) {
+                        return false;
+                    }
+
+                    @Override
+                    public <T> Either<T, String> doConvert(final Object value,
+                                                           final Class<T> type,
+                                                           final ConverterContext context) {
+                        throw new UnsupportedOperationException();
+                    }
+                }
+            )
+        );
+
+        this.checkEquals(
+            FailConversion.handle(
+                Double.NaN,
+                Long.class
+            ),
+            converter.tryConvert(
+                Double.NaN,
+                Long.class,
+                this.createContext()
+            )
+        );
+    }
+
+    @Test
+    public void testConvertMemberFailureMessage() {
+        this.checkEquals(
+            FailConversion.handle(
+                Double.NaN,
+                Long.class
+            ),
+            this.createConverter()
+                .convert(
+                    Double.NaN,
+                    Long.class,
+                    this.createContext()
+                )
+        );
+    }
+
+    // primitives.......................................................................................................
+
+    @Test
+    public void testConvertBooleanFirstConverter() {
+        this.convertBooleanAndCheck(
+            "true",
+            true
+        );
+    }
+
+    @Test
+    public void testConvertLongSecondConverter() {
+        this.convertLongAndCheck(
+            123,
+            123L
+        );
+    }
+
+    @Test
+    public void testConvertLongFails() {
+        this.convertLongFails("abc");
+    }
+
+    @Test
+    public void testConvertLongFailsMessage() {
+        final ConverterFailure failure = ConverterFailure.empty();
+        this.createConverter()
+            .convertLong(
+                "abc",
+                this.createContext(),
+                failure
+            );
+
+        this.checkEquals(
+            this.createConverter()
+                .convert(
+                    "abc",
+                    Long.class,
+                    this.createContext()
+                ).rightValue(),
+            failure.message()
+        );
+    }
+
+    private void convertBooleanAndCheck(final Object value,
+                                    final boolean expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertBoolean(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertBoolean " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertBooleanFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            false,
+            this.createConverter()
+                .convertBoolean(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertBoolean " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertBoolean " + value
+        );
+    }
+
+    private void convertLongAndCheck(final Object value,
+                                 final long expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertLongFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertLong " + value
+        );
+    }
+
+    // converterFor.....................................................................................................
+
+    @Test
+    public void testConverterForOneMember() {
+        final Converter<ConverterContext> numberToNumber = Converters.numberToNumber();
+
+        final Converter<ConverterContext> converter = ConverterCollection.with(
+            Lists.of(
+                Converters.localDateToNumber(),
+                numberToNumber
+            )
+        ).converterFor(
+            Integer.class,
+            Long.class
+        );
+
+        this.checkEquals(
+            ConverterCollection.class,
+            converter.getClass()
+        );
+        this.checkEquals(
+            numberToNumber.toString(),
+            converter.toString()
+        );
+        this.convertAndCheck(
+            converter,
+            1,
+            Long.class,
+            1L
+        );
+    }
+
+    @Test
+    public void testConverterForOneMemberFailureMessageUnchanged() {
+        final Converter<ConverterContext> parser = new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return "1".equals(value) && Integer.class == type;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                return this.successfulConversion(
+                    1,
+                    type
+                );
+            }
+
+            @Override
+            public <T> Either<T, String> failConversion(final Object value,
+                                                        final Class<T> type) {
+                return Either.right("Parser failed");
+            }
+        };
+
+        final Converter<ConverterContext> collection = ConverterCollection.with(
+            Lists.of(
+                Converters.localDateToNumber(),
+                parser
+            )
+        );
+        final String message = "Failed to convert \"abc\" (java.lang.String) to java.lang.Integer";
+
+        this.convertFails(
+            collection,
+            "abc",
+            Integer.class,
+            this.createContext(),
+            message
+        );
+        this.convertFails(
+            collection.converterFor(
+                String.class,
+                Integer.class
+            ),
+            "abc",
+            Integer.class,
+            this.createContext(),
+            message
+        );
+    }
+
+    @Test
+    public void testConverterForSeveralMembers() {
+        final Converter<ConverterContext> numberToBoolean = Converters.numberToBoolean();
+        final Converter<ConverterContext> fake = Converters.fake(); // unknown capabilities
+
+        this.checkEquals(
+            ConverterCollection.with(
+                Lists.of(
+                    numberToBoolean,
+                    fake
+                )
+            ),
+            ConverterCollection.with(
+                Lists.of(
+                    numberToBoolean,
+                    Converters.localDateToNumber(),
+                    fake
+                )
+            ).converterFor(
+                Integer.class,
+                Boolean.class
+            )
+        );
+    }
+
+    @Test
+    public void testConverterForNoMembers() {
+        final Converter<ConverterContext> converter = ConverterCollection.with(
+            Lists.of(
+                Converters.numberToBoolean(),
+                Converters.numberToNumber()
+            )
+        );
+
+        assertSame(
+            converter,
+            converter.converterFor(
+                String.class,
+                Boolean.class
+            )
+        );
+    }
+
+    // capabilities.....................................................................................................
+
+    @Test
+    public void testCapabilities() {
+        final Converter<ConverterContext> numberToBoolean = Converters.numberToBoolean();
+        final Converter<ConverterContext> numberToNumber = Converters.numberToNumber();
+
+        this.checkEquals(
+            numberToBoolean.capabilities()
+                .or(numberToNumber.capabilities()),
+            ConverterCollection.with(
+                Lists.of(
+                    numberToBoolean,
+                    numberToNumber
+                )
+            ).capabilities()
+        );
+    }
+
+    @Test
+    public void testCapabilitiesUnknownMember() {
+        this.checkEquals(
+            ConverterCapabilities.with(
+                ConverterCapabilities.ANY,
+                ConverterCapabilities.ANY
+            ),
+            this.createConverter()
+                .capabilities()
+        );
+    }
+
+    // indexed..........................................................................................................
+
+    @Test
+    public void testIndexedWithNullConvertersFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterCollection.indexed(null)
+        );
+    }
+
+    @Test
+    public void testIndexedWithOneConverterUnwraps() {
+        final Converter<ConverterContext> only = Converters.objectToString();
+        assertSame(
+            only,
+            ConverterCollection.indexed(
+                Lists.of(only)
+            )
+        );
+    }
+
+    @Test
+    public void testIndexedConvertTriesMembersInOrder() {
+        final Converter<ConverterContext> one = new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return "1".equals(value) && String.class == type;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                return this.successfulConversion(
+                    "one",
+                    type
+                );
+            }
+        };
+
+        final Converter<ConverterContext> converter = ConverterCollection.indexed(
+            Lists.of(
+                one,
+                Converters.objectToString()
+            )
+        );
+
+        this.convertAndCheck(
+            converter,
+            "2",
+            String.class,
+            "2"
+        );
+        this.convertAndCheck(
+            converter,
+            "1",
+            String.class,
+            "one"
+        );
+    }
+
+    @Test
+    public void testIndexedConvertFailsTriesOthers() {
+        final CountingConverter first = new CountingConverter(Integer.class);
+        final Converter<ConverterContext> converter = ConverterCollection.indexed(
+            Lists.of(
+                first,
+                Converters.objectToString()
+            )
+        );
+
+        this.convertAndCheck(
+            converter,
+            "1",
+            Integer.class,
+            1
+        );
+
+        this.convertFails(
+            converter,
+            "Hello",
+            Integer.class
+        );
+
+        this.convertAndCheck(
+            converter,
+            "Hello",
+            String.class,
+            "Hello"
+        );
+    }
+
+    @Test
+    public void testIndexedConvertSameAsNotIndexed() {
+        final Converter<ConverterContext> converter = ConverterCollection.indexed(
+            Lists.of(
+                booleanToString(),
+                Converters.numberToNumber()
+            )
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.convertAndCheck(
+                converter,
+                Boolean.TRUE.toString(),
+                Boolean.class,
+                Boolean.TRUE
+            );
+            this.convertAndCheck(
+                converter,
+                1.0,
+                Long.class,
+                1L
+            );
+            this.convertFails(
+                converter,
+                "Cant convert to Void",
+                Void.class
+            );
+        }
+    }
+
+    @Test
+    public void testIndexedConvertNotSupportedNotRemembered() {
+        final int[] count = new int[1];
+
+        final Converter<ConverterContext> converter = ConverterCollection.indexed(
+            Lists.of(
+                notSupportedCounting(count),
+                Converters.numberToNumber()
+            )
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.convertFails(
+                converter,
+                "Unsupported",
+                Locale.class
+            );
+        }
+
+        this.checkEquals(
+            2,
+            count[0],
+            "count"
+        );
+    }
+
+    @Test
+    public void testIndexedConvertValueNotSupportedThenSupported() {
+        final Converter<ConverterContext> parser = new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return "1".equals(value) && Integer.class == type;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                return this.successfulConversion(
+                    1,
+                    type
+                );
+            }
+        };
+
+        final Converter<ConverterContext> converter = ConverterCollection.indexed(
+            Lists.of(
+                parser,
+                Converters.numberToNumber()
+            )
+        );
+
+        this.convertFails(
+            converter,
+            "abc",
+            Integer.class
+        );
+        this.checkEquals(
+            true,
+            converter.canConvert(
+                "1",
+                Integer.class,
+                this.createContext()
+            ),
+            "canConvert"
+        );
+        this.convertAndCheck(
+            converter,
+            "1",
+            Integer.class,
+            1
+        );
+    }
+
+    @Test
+    public void testConvertUnsupportedNotIndexedTriesAgain() {
+        final int[] count = new int[1];
+
+        final Converter<ConverterContext> converter = ConverterCollection.with(
+            Lists.of(
+                notSupportedCounting(count),
+                Converters.numberToNumber()
+            )
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.convertFails(
+                converter,
+                "Unsupported",
+                Locale.class
+            );
+        }
+
+        this.checkEquals(
+            2,
+            count[0],
+            "count"
+        );
+    }
+
+    @Test
+    public void testConvertNoMemberCapabilitiesRemembered() {
+        final Converter<ConverterContext> converter = ConverterCollection.with(
+            Lists.of(
+                Converters.numberToNumber(),
+                Converters.numberToBoolean()
+            )
+        );
+
+        for (int i = 0; i < 2; i++) {
+            this.convertFails(
+                converter,
+                "Unsupported",
+                Locale.class
+            );
+        }
+        this.convertAndCheck(
+            converter,
+            1,
+            Long.class,
+            1L
+        );
+    }
+
+    /**
+     * A {@link Converter} with unknown capabilities that never converts, counting each attempt.
+     */
+    private static Converter<ConverterContext> notSupportedCounting(final int[] count) {
+        return new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                count[0]++;
+                return false;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * A {@link Converter} that parses {@link String} to a single type counting each convert attempt.
+     */
+    private final static class CountingConverter implements Converter<ConverterContext> {
+
+        CountingConverter(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean canConvert(final Object value,
+                                  final Class<?> type,
+                                  final ConverterContext context) {
+            return value instanceof String && this.type == type;
+        }
+
+        @Override
+        public <T> Either<T, String> convert(final Object value,
+                                             final Class<T> type,
+                                             final ConverterContext context) {
+            this.count++;
+
+            Either<T, String> result;
+            if (this.canConvert(value, type, context)) {
+                try {
+                    result = this.successfulConversion(
+                        Integer.class == type ?
+                            Integer.parseInt((String) value) :
+                            Boolean.parseBoolean((String) value),
+                        type
+                    );
+                } catch (final NumberFormatException cause) {
+                    result = this.failConversion(
+                        value,
+                        type,
+                        cause
+                    );
+                }
+            } else {
+                result = this.failConversion(
+                    value,
+                    type
+                );
+            }
+            return result;
+        }
+
+        private final Class<?> type;
+
+        int count;
+
+        @Override
+        public String toString() {
+            return "String to " + this.type.getSimpleName();
+        }
+    }
+
+    @Test
+    public void testEqualsDifferentIndexed() {
+        this.checkNotEquals(
+            ConverterCollection.indexed(
+                Lists.of(
+                    Converters.numberToBoolean(),
+                    Converters.numberToNumber()
+                )
+            )
+        );
+    }
+
     @Override
     public ConverterCollection<ConverterContext> createConverter() {
         return Cast.to(
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.SortedSets;
+import walkingkooka.math.NumberList;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterCollectionToLazyListTest extends ConverterTestCase2<ConverterCollectionToLazyList<ConverterContext>> {
+
+    @Test
+    public void testWithNullElementTypeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterCollectionToLazyList.with(null)
+        );
+    }
+
+    @Test
+    public void testConvertNull() {
+        this.convertAndCheck(
+            null,
+            List.class
+        );
+    }
+
+    @Test
+    public void testConvertListToNumberListFails() {
+        this.convertFails(
+            Lists.of(1L),
+            NumberList.class
+        );
+    }
+
+    @Test
+    public void testConvertList() {
+        this.convertAndCheck(
+            Lists.of(1L, 2L, 3L),
+            List.class,
+            Lists.of(1, 2, 3)
+        );
+    }
+
+    @Test
+    public void testConvertSet() {
+        final Set<Long> set = SortedSets.tree();
+        set.add(3L);
+        set.add(1L);
+        set.add(2L);
+
+        this.convertAndCheck(
+            set,
+            List.class,
+            Lists.of(1, 2, 3)
+        );
+    }
+
+    @Test
+    public void testConvertsOnlyElementsRead() {
+        final List<?> list = this.createConverter()
+            .convert(
+                Lists.of(1L, 2L, 3L),
+                List.class,
+                this.createContext()
+            ).leftValue();
+
+        this.checkEquals(
+            0,
+            this.conversions,
+            "conversions before get"
+        );
+
+        this.checkEquals(
+            3,
+            list.get(2)
+        );
+        this.checkEquals(
+            3,
+            list.get(2)
+        );
+        this.checkEquals(
+            3,
+            list.size()
+        );
+
+        this.checkEquals(
+            1,
+            this.conversions,
+            "conversions after get"
+        );
+    }
+
+    @Test
+    public void testEqualsConvertsEveryElement() {
+        this.checkEquals(
+            Lists.of(1, 2, 3),
+            this.convertList()
+        );
+        this.checkEquals(
+            3,
+            this.conversions
+        );
+    }
+
+    @Test
+    public void testHashCodeConvertsEveryElement() {
+        this.checkEquals(
+            Lists.of(1, 2, 3).hashCode(),
+            this.convertList()
+                .hashCode()
+        );
+        this.checkEquals(
+            3,
+            this.conversions
+        );
+    }
+
+    @Test
+    public void testToStringConvertsEveryElement() {
+        this.checkEquals(
+            "[1, 2, 3]",
+            this.convertList()
+                .toString()
+        );
+        this.checkEquals(
+            3,
+            this.conversions
+        );
+    }
+
+    private List<?> convertList() {
+        return this.createConverter()
+            .convert(
+                Lists.of(1L, 2L, 3L),
+                List.class,
+                this.createContext()
+            ).leftValue();
+    }
+
+    @Test
+    public void testConvertSourceCopied() {
+        final List<Object> source = Lists.array();
+        source.add(1L);
+
+        final List<?> list = this.createConverter()
+            .convert(
+                source,
+                List.class,
+                this.createContext()
+            ).leftValue();
+
+        source.set(0, 2L);
+        source.add(3L);
+
+        this.checkEquals(
+            Lists.of(1),
+            list
+        );
+    }
+
+    @Test
+    public void testGetFailsWhenRead() {
+        final List<?> list = this.createConverter()
+            .convert(
+                Lists.of(1L, "abc"),
+                List.class,
+                this.createContext()
+            ).leftValue();
+
+        this.checkEquals(
+            1,
+            list.get(0)
+        );
+
+        assertThrows(
+            ConverterException.class,
+            () -> list.get(1)
+        );
+    }
+
+    @Test
+    public void testListReadOnly() {
+        final List<Object> list = Cast.to(
+            this.createConverter()
+                .convert(
+                    Lists.of(1L),
+                    List.class,
+                    this.createContext()
+                ).leftValue()
+        );
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> list.add(2)
+        );
+    }
+
+    @Override
+    public ConverterCollectionToLazyList<ConverterContext> createConverter() {
+        return ConverterCollectionToLazyList.with(Integer.class);
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return new FakeConverterContext() {
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> target) {
+                ConverterCollectionToLazyListTest.this.conversions++;
+
+                return Converters.numberToNumber()
+                    .convert(
+                        value,
+                        target,
+                        this
+                    );
+            }
+        };
+    }
+
+    private int conversions;
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "Collection to lazy List<Integer>"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterCollectionToLazyList<ConverterContext>> type() {
+        return Cast.to(ConverterCollectionToLazyList.class);
+    }
+}
@@ -17,6 +17,7 @@
 
 package walkingkooka.convert;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.convert.ConverterContextDelegatorTest.TestConverterContextDelegator;
 import walkingkooka.currency.CurrencyLocaleContextTesting;
 import walkingkooka.math.DecimalNumberContext;
@@ -33,6 +34,15 @@ public final class ConverterContextDelegatorTest implements ConverterContextTest
         return new TestConverterContextDelegator();
     }
 
+    @Test
+    public void testIsThreadSafe() {
+        this.checkEquals(
+            true,
+            this.createContext()
+                .isThreadSafe()
+        );
+    }
+
     @Override
     public int decimalNumberDigitCount() {
         return DecimalNumberContext.DEFAULT_NUMBER_DIGIT_COUNT;
@@ -73,7 +83,8 @@ public final class ConverterContextDelegatorTest implements ConverterContextTest
                 BINARY_TEXT_CONTEXT,
                 CURRENCY_LOCALE_CONTEXT,
                 DATE_TIME_CONTEXT,
-                DECIMAL_NUMBER_CONTEXT
+                DECIMAL_NUMBER_CONTEXT,
+                true // threadSafe
             );
         }
 
@@ -107,6 +107,15 @@ public final class ConverterCustomToStringTest extends ConverterTestCase2<Conver
         );
     }
 
+    @Test
+    public void testCapabilities() {
+        this.checkEquals(
+            WRAPPED.capabilities(),
+            this.createConverter()
+                .capabilities()
+        );
+    }
+
     @Override
     public ConverterCustomToString<ConverterContext> createConverter() {
         return Cast.to(ConverterCustomToString.wrap(WRAPPED, CUSTOM_TO_STRING));
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterDateTimeFormatterCacheKeyTest extends ConverterDateTimeFormatterTestCase<ConverterDateTimeFormatterCacheKey>
+    implements HashCodeEqualsDefinedTesting2<ConverterDateTimeFormatterCacheKey>,
+    ToStringTesting<ConverterDateTimeFormatterCacheKey> {
+
+    private final static Locale LOCALE = Locale.ENGLISH;
+    private final static int TWO_DIGIT_YEAR = 20;
+    private final static char POSITIVE = '+';
+    private final static char NEGATIVE = '-';
+    private final static char DECIMAL = '.';
+
+    @Test
+    public void testWithNullLocaleFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterDateTimeFormatterCacheKey.with(
+                null,
+                TWO_DIGIT_YEAR,
+                POSITIVE,
+                NEGATIVE,
+                DECIMAL
+            )
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentLocale() {
+        this.checkNotEquals(
+            ConverterDateTimeFormatterCacheKey.with(
+                Locale.GERMAN,
+                TWO_DIGIT_YEAR,
+                POSITIVE,
+                NEGATIVE,
+                DECIMAL
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentTwoDigitYear() {
+        this.checkNotEquals(
+            ConverterDateTimeFormatterCacheKey.with(
+                LOCALE,
+                TWO_DIGIT_YEAR + 1,
+                POSITIVE,
+                NEGATIVE,
+                DECIMAL
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentPositiveSign() {
+        this.checkNotEquals(
+            ConverterDateTimeFormatterCacheKey.with(
+                LOCALE,
+                TWO_DIGIT_YEAR,
+                'P',
+                NEGATIVE,
+                DECIMAL
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNegativeSign() {
+        this.checkNotEquals(
+            ConverterDateTimeFormatterCacheKey.with(
+                LOCALE,
+                TWO_DIGIT_YEAR,
+                POSITIVE,
+                'N',
+                DECIMAL
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentDecimalSeparator() {
+        this.checkNotEquals(
+            ConverterDateTimeFormatterCacheKey.with(
+                LOCALE,
+                TWO_DIGIT_YEAR,
+                POSITIVE,
+                NEGATIVE,
+                ','
+            )
+        );
+    }
+
+    @Override
+    public ConverterDateTimeFormatterCacheKey createObject() {
+        return ConverterDateTimeFormatterCacheKey.with(
+            LOCALE,
+            TWO_DIGIT_YEAR,
+            POSITIVE,
+            NEGATIVE,
+            DECIMAL
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "en 20 + - ."
+        );
+    }
+
+    @Override
+    public Class<ConverterDateTimeFormatterCacheKey> type() {
+        return ConverterDateTimeFormatterCacheKey.class;
+    }
+}
@@ -23,15 +23,108 @@ import walkingkooka.ToStringTesting;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class ConverterDateTimeFormatterCacheTest extends ConverterDateTimeFormatterTestCase<ConverterDateTimeFormatterCache>
     implements ToStringTesting<ConverterDateTimeFormatterCache> {
 
+    private final static ConverterDateTimeFormatterCacheKey KEY1 = key(Locale.ENGLISH);
+    private final static ConverterDateTimeFormatterCacheKey KEY2 = key(Locale.GERMAN);
+    private final static ConverterDateTimeFormatterCacheKey KEY3 = key(Locale.FRENCH);
+
+    private final static ConverterDateTimeFormatterCacheEntry ENTRY1 = ConverterDateTimeFormatterCacheEntry.with(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        null
+    );
+    private final static ConverterDateTimeFormatterCacheEntry ENTRY2 = ConverterDateTimeFormatterCacheEntry.with(
+        DateTimeFormatter.ISO_LOCAL_TIME,
+        null
+    );
+    private final static ConverterDateTimeFormatterCacheEntry ENTRY3 = ConverterDateTimeFormatterCacheEntry.with(
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+        null
+    );
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterDateTimeFormatterCache.with(0)
+        );
+    }
+
+    @Test
+    public void testGetMissing() {
+        this.checkEquals(
+            null,
+            ConverterDateTimeFormatterCache.with(2)
+                .get(KEY1)
+        );
+    }
+
+    @Test
+    public void testPutGet() {
+        final ConverterDateTimeFormatterCache cache = ConverterDateTimeFormatterCache.with(2);
+        cache.put(KEY1, ENTRY1);
+
+        assertSame(
+            ENTRY1,
+            cache.get(KEY1)
+        );
+    }
+
+    @Test
+    public void testPutSeveralLocales() {
+        final ConverterDateTimeFormatterCache cache = ConverterDateTimeFormatterCache.with(2);
+
+        cache.put(KEY1, ENTRY1);
+        cache.put(KEY2, ENTRY2);
+
+        assertSame(
+            ENTRY1,
+            cache.get(KEY1)
+        );
+        assertSame(
+            ENTRY2,
+            cache.get(KEY2)
+        );
+    }
+
+    @Test
+    public void testPutEvictsLeastRecentlyUsed() {
+        final ConverterDateTimeFormatterCache cache = ConverterDateTimeFormatterCache.with(2);
+
+        cache.put(KEY1, ENTRY1);
+        cache.put(KEY2, ENTRY2);
+        cache.get(KEY1);
+        cache.put(KEY3, ENTRY3);
+
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals(null, cache.get(KEY2), "evicted");
+        assertSame(ENTRY1, cache.get(KEY1));
+        assertSame(ENTRY3, cache.get(KEY3));
+    }
+
     @Test
     public void testToString() {
-        final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        final ConverterDateTimeFormatterCache cache = ConverterDateTimeFormatterCache.with(2);
+        cache.put(KEY1, ENTRY1);
+
+        this.toStringAndCheck(
+            cache,
+            "[en 20 + - .]"
+        );
+    }
 
-        this.toStringAndCheck(ConverterDateTimeFormatterCache.with(Locale.ENGLISH, 123, formatter),
-            "en 123 " + formatter);
+    private static ConverterDateTimeFormatterCacheKey key(final Locale locale) {
+        return ConverterDateTimeFormatterCacheKey.with(
+            locale,
+            20,
+            '+',
+            '-',
+            '.'
+        );
     }
 
     @Override
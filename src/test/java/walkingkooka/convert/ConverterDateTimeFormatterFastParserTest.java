@@ -0,0 +1,322 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+public final class ConverterDateTimeFormatterFastParserTest extends ConverterDateTimeFormatterTestCase<ConverterDateTimeFormatterFastParser>
+    implements ToStringTesting<ConverterDateTimeFormatterFastParser> {
+
+    // tryWith..........................................................................................................
+
+    @Test
+    public void testTryWithMonthName() {
+        this.tryWithAndCheck("dd MMM yyyy");
+    }
+
+    @Test
+    public void testTryWithTwoDigitYear() {
+        this.tryWithAndCheck("dd/MM/yy");
+    }
+
+    @Test
+    public void testTryWithWeekBasedYear() {
+        this.tryWithAndCheck("YYYY-MM-dd");
+    }
+
+    @Test
+    public void testTryWithAmPm() {
+        this.tryWithAndCheck("hh:mm a");
+    }
+
+    @Test
+    public void testTryWithStrictYearOfEra() {
+        this.tryWithAndCheck(
+            DateTimeFormatter.ofPattern("yyyy-MM-dd")
+                .withResolverStyle(ResolverStyle.STRICT)
+        );
+    }
+
+    private void tryWithAndCheck(final String pattern) {
+        this.tryWithAndCheck(
+            DateTimeFormatter.ofPattern(pattern)
+        );
+    }
+
+    private void tryWithAndCheck(final DateTimeFormatter formatter) {
+        this.checkEquals(
+            null,
+            ConverterDateTimeFormatterFastParser.tryWith(formatter),
+            formatter::toString
+        );
+    }
+
+    // parseLocalDate...................................................................................................
+
+    @Test
+    public void testParseLocalDate() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2000-12-31",
+            LocalDate.of(2000, 12, 31)
+        );
+    }
+
+    @Test
+    public void testParseLocalDateDayMonthYear() {
+        this.parseLocalDateAndCheck(
+            "dd/MM/yyyy",
+            "29/02/2004",
+            LocalDate.of(2004, 2, 29)
+        );
+    }
+
+    @Test
+    public void testParseLocalDateWithoutSeparators() {
+        this.parseLocalDateAndCheck(
+            "yyyyMMdd",
+            "19990102",
+            LocalDate.of(1999, 1, 2)
+        );
+    }
+
+    @Test
+    public void testParseLocalDateIsoLocalDate() {
+        this.checkEquals(
+            LocalDate.of(2000, 12, 31),
+            ConverterDateTimeFormatterFastParser.tryWith(DateTimeFormatter.ISO_LOCAL_DATE)
+                .parseLocalDate("2000-12-31")
+        );
+    }
+
+    @Test
+    public void testParseLocalDateStrictYear() {
+        this.checkEquals(
+            LocalDate.of(2000, 12, 31),
+            ConverterDateTimeFormatterFastParser.tryWith(
+                DateTimeFormatter.ofPattern("uuuu-MM-dd")
+                    .withResolverStyle(ResolverStyle.STRICT)
+            ).parseLocalDate("2000-12-31")
+        );
+    }
+
+    @Test
+    public void testParseLocalDateVariableWidthTwoDigits() {
+        this.parseLocalDateAndCheck(
+            "d/M/yyyy",
+            "05/12/2000",
+            LocalDate.of(2000, 12, 5)
+        );
+    }
+
+    @Test
+    public void testParseLocalDateVariableWidthOneDigit() {
+        this.parseLocalDateAndCheck(
+            "d/M/yyyy",
+            "5/12/2000",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateInvalidMonth() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2000-13-01",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateInvalidDay() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2001-02-29",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateDifferentLiteral() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2000/12/31",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateNotDigit() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2000-1A-31",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTrailingText() {
+        this.parseLocalDateAndCheck(
+            "yyyy-MM-dd",
+            "2000-12-31!",
+            null
+        );
+    }
+
+    @Test
+    public void testParseLocalDateMissingTime() {
+        this.checkEquals(
+            null,
+            this.parser("HH:mm")
+                .parseLocalDate("12:58")
+        );
+    }
+
+    private void parseLocalDateAndCheck(final String pattern,
+                                        final String text,
+                                        final LocalDate expected) {
+        this.checkEquals(
+            expected,
+            this.parser(pattern)
+                .parseLocalDate(text),
+            () -> pattern + " " + text
+        );
+    }
+
+    // parseLocalDateTime...............................................................................................
+
+    @Test
+    public void testParseLocalDateTime() {
+        this.checkEquals(
+            LocalDateTime.of(2000, 12, 31, 12, 58, 59, 123000000),
+            this.parser("yyyy-MM-dd'T'HH:mm:ss.SSS")
+                .parseLocalDateTime("2000-12-31T12:58:59.123")
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeIsoLocalDateTime() {
+        this.checkEquals(
+            LocalDateTime.of(2000, 12, 31, 12, 58, 59, 123456789),
+            ConverterDateTimeFormatterFastParser.tryWith(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                .parseLocalDateTime("2000-12-31T12:58:59.123456789")
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeIsoLocalDateTimeWithoutNanos() {
+        this.checkEquals(
+            null,
+            ConverterDateTimeFormatterFastParser.tryWith(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                .parseLocalDateTime("2000-12-31T12:58:59")
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeMissingDate() {
+        this.checkEquals(
+            null,
+            this.parser("HH:mm")
+                .parseLocalDateTime("12:58")
+        );
+    }
+
+    // parseLocalTime...................................................................................................
+
+    @Test
+    public void testParseLocalTime() {
+        this.checkEquals(
+            LocalTime.of(12, 58, 59),
+            this.parser("HH:mm:ss")
+                .parseLocalTime("12:58:59")
+        );
+    }
+
+    @Test
+    public void testParseLocalTimeInvalidHour() {
+        this.checkEquals(
+            null,
+            this.parser("HH:mm:ss")
+                .parseLocalTime("24:00:00")
+        );
+    }
+
+    @Test
+    public void testParseLocalTimeInvalidMinute() {
+        this.checkEquals(
+            null,
+            this.parser("HH:mm:ss")
+                .parseLocalTime("23:60:00")
+        );
+    }
+
+    @Test
+    public void testParseLocalTimeMatchesDateTimeFormatter() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSSSS");
+        final String text = "01:02:03.456789012";
+
+        this.checkEquals(
+            LocalTime.parse(
+                text,
+                formatter
+            ),
+            ConverterDateTimeFormatterFastParser.tryWith(formatter)
+                .parseLocalTime(text)
+        );
+    }
+
+    private ConverterDateTimeFormatterFastParser parser(final String pattern) {
+        final ConverterDateTimeFormatterFastParser parser = ConverterDateTimeFormatterFastParser.tryWith(
+            DateTimeFormatter.ofPattern(
+                pattern,
+                Locale.ENGLISH
+            )
+        );
+        this.checkNotEquals(
+            null,
+            parser,
+            pattern
+        );
+        return parser;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.parser("dd/MM/yyyy"),
+            "22/11/2345"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterDateTimeFormatterFastParser> type() {
+        return ConverterDateTimeFormatterFastParser.class;
+    }
+}
@@ -50,6 +50,52 @@ public final class ConverterDateTimeFormatterStringToLocalDateDateTimeFormatterT
             this.converted());
     }
 
+    @Test
+    public void testLocaleAlternatingCached() {
+        final ConverterDateTimeFormatterStringToLocalDateDateTimeFormatter<ConverterContext> converter = this.createConverter();
+
+        // createConverter fails if more than three formatters are created
+        for (int i = 0; i < 3; i++) {
+            this.convertAndCheck2(converter,
+                this.source(),
+                this.createContext(),
+                this.converted());
+
+            this.convertAndCheck2(converter,
+                "31 Dezember 2000",
+                this.createContext2(),
+                this.converted());
+        }
+
+        this.checkEquals(
+            2,
+            converter.cache.size(),
+            "cache size"
+        );
+    }
+
+    @Test
+    public void testConvertInvalidTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            "!invalid",
+            LocalDate.class,
+            this.createContext(),
+            "Text '!invalid' could not be parsed at index 0"
+        );
+    }
+
+    @Test
+    public void testConvertTrailingTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            this.source() + "!",
+            LocalDate.class,
+            this.createContext(),
+            "Text '31 December 2000!' could not be parsed, unparsed text found at index 16"
+        );
+    }
+
     @Override
     protected ConverterDateTimeFormatterStringToLocalDateDateTimeFormatter<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return ConverterDateTimeFormatterStringToLocalDateDateTimeFormatter.with(formatter);
@@ -52,6 +52,28 @@ public final class ConverterDateTimeFormatterStringToLocalDateTimeDateTimeFormat
             this.converted());
     }
 
+    @Test
+    public void testConvertInvalidTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            "!invalid",
+            LocalDateTime.class,
+            this.createContext(),
+            "Text '!invalid' could not be parsed at index 0"
+        );
+    }
+
+    @Test
+    public void testConvertTrailingTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            this.source() + "!",
+            LocalDateTime.class,
+            this.createContext(),
+            "Text '12 58 59 2000 December 31!' could not be parsed, unparsed text found at index 25"
+        );
+    }
+
     @Override
     protected ConverterDateTimeFormatterStringToLocalDateTimeDateTimeFormatter<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return ConverterDateTimeFormatterStringToLocalDateTimeDateTimeFormatter.with(formatter);
@@ -50,6 +50,28 @@ public final class ConverterDateTimeFormatterStringToLocalTimeDateTimeFormatterT
             this.converted());
     }
 
+    @Test
+    public void testConvertInvalidTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            "!invalid",
+            LocalTime.class,
+            this.createContext(),
+            "Text '!invalid' could not be parsed at index 0"
+        );
+    }
+
+    @Test
+    public void testConvertTrailingTextFails() {
+        this.convertFails(
+            this.createConverter(),
+            this.source() + "!",
+            LocalTime.class,
+            this.createContext(),
+            "Text 'PM 59 58 12!' could not be parsed, unparsed text found at index 11"
+        );
+    }
+
     @Override
     protected ConverterDateTimeFormatterStringToLocalTimeDateTimeFormatter<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return ConverterDateTimeFormatterStringToLocalTimeDateTimeFormatter.with(formatter);
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Currency;
+import java.util.Locale;
+
+public final class ConverterDecimalFormatEngineTest extends ConverterTestCase<ConverterDecimalFormatEngine> {
+
+    private final static Number[] NUMBERS = new Number[]{
+        (byte) 1,
+        (short) -12,
+        0,
+        123,
+        -1234567,
+        Long.MAX_VALUE,
+        Long.MIN_VALUE,
+        0.0,
+        -0.0,
+        0.5,
+        -0.001,
+        1.015,
+        2.5,
+        0.07,
+        1234567.891,
+        1e20,
+        1e-20,
+        1.25f,
+        BigInteger.TEN.pow(30),
+        new BigDecimal("-0.0001"),
+        new BigDecimal("12345.6789"),
+        new BigDecimal("1E+5")
+    };
+
+    @Test
+    public void testTryWithScientificUnsupported() {
+        this.checkEquals(
+            null,
+            ConverterDecimalFormatEngine.tryWith(
+                this.decimalFormat("0.00E0", Locale.UK)
+            )
+        );
+    }
+
+    @Test
+    public void testTryWithCurrencyGroupingUnsupported() {
+        this.checkEquals(
+            null,
+            ConverterDecimalFormatEngine.tryWith(
+                this.decimalFormat("\u00A4#,##0.00", Locale.UK)
+            )
+        );
+    }
+
+    @Test
+    public void testTryWithParseBigDecimalFalseUnsupported() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#.00", Locale.UK);
+        decimalFormat.setParseBigDecimal(false);
+
+        this.checkEquals(
+            null,
+            ConverterDecimalFormatEngine.tryWith(decimalFormat)
+        );
+    }
+
+    @Test
+    public void testFormatNaN() {
+        this.checkEquals(
+            null,
+            this.engine("#.00", Locale.UK)
+                .format(Double.NaN)
+        );
+    }
+
+    @Test
+    public void testFormatInfinity() {
+        this.checkEquals(
+            null,
+            this.engine("#.00", Locale.UK)
+                .format(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    public void testFormatApparentTie() {
+        this.checkEquals(
+            null,
+            this.engine("#.00", Locale.UK)
+                .format(1.015)
+        );
+    }
+
+    @Test
+    public void testFormatFixedFractionDigits() {
+        this.formatAndCheck("#.000", Locale.UK);
+    }
+
+    @Test
+    public void testFormatGrouping() {
+        this.formatAndCheck("#,##0.00", Locale.UK);
+    }
+
+    @Test
+    public void testFormatGroupingGermany() {
+        this.formatAndCheck("#,##0.00", Locale.GERMANY);
+    }
+
+    @Test
+    public void testFormatOptionalFractionDigits() {
+        this.formatAndCheck("#,##0.###", Locale.FRANCE);
+    }
+
+    @Test
+    public void testFormatMinimumIntegerDigits() {
+        this.formatAndCheck("000.0", Locale.UK);
+    }
+
+    @Test
+    public void testFormatInteger() {
+        this.formatAndCheck("#", Locale.UK);
+    }
+
+    @Test
+    public void testFormatPercent() {
+        this.formatAndCheck("0.00%", Locale.UK);
+    }
+
+    @Test
+    public void testFormatCurrency() {
+        this.formatAndCheck("\u00A40.00", Locale.UK);
+    }
+
+    @Test
+    public void testFormatPrefix() {
+        this.formatAndCheck("$ ###.00", Locale.UK);
+    }
+
+    @Test
+    public void testFormatNegativePattern() {
+        this.formatAndCheck("#,##0.00;(#,##0.00)", Locale.UK);
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final Locale locale) {
+        final DecimalFormat decimalFormat = this.decimalFormat(pattern, locale);
+        final ConverterDecimalFormatEngine engine = ConverterDecimalFormatEngine.tryWith(decimalFormat);
+
+        int count = 0;
+
+        for (final Number number : NUMBERS) {
+            final String formatted = engine.format(number);
+
+            // apparent ties are left to DecimalFormat
+            if (null != formatted) {
+                this.checkEquals(
+                    decimalFormat.format(number),
+                    formatted,
+                    () -> pattern + " " + number
+                );
+                count++;
+            }
+        }
+
+        this.checkNotEquals(
+            0,
+            count,
+            "nothing formatted"
+        );
+    }
+
+    @Test
+    public void testParseFixedFractionDigits() {
+        this.parseAndCheck("#.000", Locale.UK);
+    }
+
+    @Test
+    public void testParseGrouping() {
+        this.parseAndCheck("#,##0.00", Locale.UK);
+    }
+
+    @Test
+    public void testParseGroupingGermany() {
+        this.parseAndCheck("#,##0.00", Locale.GERMANY);
+    }
+
+    @Test
+    public void testParsePercent() {
+        this.parseAndCheck("0.00%", Locale.UK);
+    }
+
+    @Test
+    public void testParseCurrency() {
+        this.parseAndCheck("\u00A40.00", Locale.UK);
+    }
+
+    @Test
+    public void testParseNegativePattern() {
+        this.parseAndCheck("#,##0.00;(#,##0.00)", Locale.UK);
+    }
+
+    private void parseAndCheck(final String pattern,
+                               final Locale locale) {
+        final DecimalFormat decimalFormat = this.decimalFormat(pattern, locale);
+        final ConverterDecimalFormatEngine engine = ConverterDecimalFormatEngine.tryWith(decimalFormat);
+
+        int count = 0;
+
+        for (final Number number : NUMBERS) {
+            final String text = decimalFormat.format(number);
+            final BigDecimal parsed = engine.parse(text);
+
+            // too many digits are left to DecimalFormat
+            if (null != parsed) {
+                this.checkEquals(
+                    decimalFormat.parse(
+                        text,
+                        new ParsePosition(0)
+                    ),
+                    parsed,
+                    () -> pattern + " " + text
+                );
+                count++;
+            }
+        }
+
+        this.checkNotEquals(
+            0,
+            count,
+            "nothing parsed"
+        );
+    }
+
+    @Test
+    public void testParseTrailingTextUnsupported() {
+        this.parseUnsupportedAndCheck("12.5x");
+    }
+
+    @Test
+    public void testParseExponentUnsupported() {
+        this.parseUnsupportedAndCheck("1E3");
+    }
+
+    @Test
+    public void testParseMisplacedGroupingSeparatorUnsupported() {
+        this.parseUnsupportedAndCheck("1,,234");
+    }
+
+    @Test
+    public void testParseDecimalSeparatorWithoutFractionUnsupported() {
+        this.parseUnsupportedAndCheck("1.");
+    }
+
+    @Test
+    public void testParseEmptyUnsupported() {
+        this.parseUnsupportedAndCheck("");
+    }
+
+    @Test
+    public void testParseTooManyDigitsUnsupported() {
+        this.parseUnsupportedAndCheck("1234567890123456789012");
+    }
+
+    private void parseUnsupportedAndCheck(final String text) {
+        this.checkEquals(
+            null,
+            this.engine("#,##0.00", Locale.UK)
+                .parse(text),
+            () -> "parse " + text
+        );
+    }
+
+    private ConverterDecimalFormatEngine engine(final String pattern,
+                                                final Locale locale) {
+        return ConverterDecimalFormatEngine.tryWith(
+            this.decimalFormat(
+                pattern,
+                locale
+            )
+        );
+    }
+
+    private DecimalFormat decimalFormat(final String pattern,
+                                        final Locale locale) {
+        final DecimalFormat decimalFormat = new DecimalFormat(
+            pattern,
+            new DecimalFormatSymbols(locale)
+        );
+        decimalFormat.setCurrency(Currency.getInstance(locale));
+        decimalFormat.setParseBigDecimal(true);
+        return decimalFormat;
+    }
+
+    @Override
+    public Class<ConverterDecimalFormatEngine> type() {
+        return ConverterDecimalFormatEngine.class;
+    }
+}
@@ -27,6 +27,9 @@ import java.text.DecimalFormat;
 import java.util.Locale;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class ConverterDecimalFormatNumberToStringTest extends ConverterDecimalFormatTestCase<ConverterDecimalFormatNumberToString<ConverterContext>> {
 
     @Test
@@ -101,6 +104,62 @@ public final class ConverterDecimalFormatNumberToStringTest extends ConverterDec
             "$ 1234,50");
     }
 
+    @Test
+    public void testConvertDifferentContextsSameSymbolsSharesDecimalFormat() {
+        final ConverterDecimalFormatNumberToString<ConverterContext> converter = this.createConverter();
+
+        this.convertAndCheck(converter,
+            1.25,
+            String.class,
+            this.createContext(LOCALE),
+            "1.250");
+
+        this.convertAndCheck(converter,
+            2.5,
+            String.class,
+            this.createContext(LOCALE),
+            "2.500");
+
+        this.checkEquals(
+            1,
+            converter.pool.size(
+                converter.poolKey(
+                    this.createContext(LOCALE)
+                )
+            ),
+            "pooled"
+        );
+    }
+
+    @Test
+    public void testPoolKeySameSymbolsReused() {
+        final ConverterDecimalFormatNumberToString<ConverterContext> converter = this.createConverter();
+
+        assertSame(
+            converter.poolKey(
+                this.createContext(LOCALE)
+            ),
+            converter.poolKey(
+                this.createContext(LOCALE)
+            )
+        );
+    }
+
+    @Test
+    public void testPoolKeyDifferentSymbols() {
+        final ConverterDecimalFormatNumberToString<ConverterContext> converter = this.createConverter();
+
+        final ConverterDecimalFormatPoolKey key = converter.poolKey(
+            this.createContext(LOCALE)
+        );
+        assertNotEquals(
+            key,
+            converter.poolKey(
+                this.createContext(Locale.GERMANY)
+            )
+        );
+    }
+
     // ConverterTesting..................................................................................................
 
     @Override
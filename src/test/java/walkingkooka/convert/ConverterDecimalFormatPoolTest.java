@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.currency.CurrencyContextTesting;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.locale.LocaleContexts;
+import walkingkooka.math.DecimalNumberContext;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.math.DecimalNumberSymbols;
+import walkingkooka.math.HasMathContextTesting;
+import walkingkooka.text.BinaryTextContextTesting;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterDecimalFormatPoolTest extends ConverterTestCase<ConverterDecimalFormatPool>
+    implements BinaryTextContextTesting,
+    CurrencyContextTesting,
+    HasMathContextTesting,
+    ToStringTesting<ConverterDecimalFormatPool> {
+
+    @Test
+    public void testWithInvalidMaxKeysFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterDecimalFormatPool.with(0, 1)
+        );
+    }
+
+    @Test
+    public void testWithInvalidMaxPerKeyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterDecimalFormatPool.with(1, 0)
+        );
+    }
+
+    @Test
+    public void testCheckoutEmpty() {
+        this.checkEquals(
+            null,
+            ConverterDecimalFormatPool.with(1, 1)
+                .checkout(this.key(Locale.UK))
+        );
+    }
+
+    @Test
+    public void testCheckinCheckout() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(1, 1);
+        final ConverterDecimalFormatPoolKey key = this.key(Locale.UK);
+        final DecimalFormat format = new DecimalFormat();
+
+        pool.checkin(key, format);
+        assertSame(
+            format,
+            pool.checkout(key)
+        );
+        this.checkEquals(
+            null,
+            pool.checkout(key),
+            "checked out twice"
+        );
+    }
+
+    @Test
+    public void testCheckoutSameSymbolsDifferentContext() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(1, 1);
+        final DecimalFormat format = new DecimalFormat();
+
+        pool.checkin(this.key(Locale.UK), format);
+        assertSame(
+            format,
+            pool.checkout(this.key(Locale.UK))
+        );
+    }
+
+    @Test
+    public void testCheckoutSameSymbolsDifferentDecimalFormatFactory() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(2, 1);
+
+        pool.checkin(this.key(Locale.UK), new DecimalFormat());
+        this.checkEquals(
+            null,
+            pool.checkout(
+                this.key(
+                    Locale.UK,
+                    (c) -> new DecimalFormat()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testCheckinMaxPerKey() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(1, 2);
+        final ConverterDecimalFormatPoolKey key = this.key(Locale.UK);
+
+        pool.checkin(key, new DecimalFormat());
+        pool.checkin(key, new DecimalFormat());
+        pool.checkin(key, new DecimalFormat());
+
+        this.checkEquals(
+            2,
+            pool.size(key)
+        );
+    }
+
+    @Test
+    public void testCheckinEvictsLeastRecentlyUsedKey() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(1, 1);
+        final ConverterDecimalFormatPoolKey uk = this.key(Locale.UK);
+        final ConverterDecimalFormatPoolKey germany = this.key(Locale.GERMANY);
+
+        pool.checkin(uk, new DecimalFormat());
+        pool.checkin(germany, new DecimalFormat());
+
+        this.checkEquals(0, pool.size(uk), "evicted");
+        this.checkEquals(1, pool.size(germany), "germany");
+    }
+
+    private final static Function<DecimalNumberContext, DecimalFormat> DECIMAL_FORMAT = (c) -> new DecimalFormat();
+
+    private ConverterDecimalFormatPoolKey key(final Locale locale) {
+        return this.key(
+            locale,
+            DECIMAL_FORMAT
+        );
+    }
+
+    private ConverterDecimalFormatPoolKey key(final Locale locale,
+                                              final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
+        return ConverterDecimalFormatPoolKey.with(
+            ConverterContexts.basic(
+                false, // canNumbersHaveGroupSeparator
+                0, // dateOffset,
+                ',', // valueSeparator
+                Converters.fake(),
+                BinaryNumberConverterFunctions.fake(),
+                BINARY_TEXT_CONTEXT,
+                CURRENCY_CONTEXT.setLocaleContext(
+                    LocaleContexts.jre(locale)
+                ),
+                DateTimeContexts.fake(),
+                DecimalNumberContexts.basic(
+                    DecimalNumberContext.DEFAULT_NUMBER_DIGIT_COUNT,
+                    DecimalNumberSymbols.fromDecimalFormatSymbols(
+                        '+',
+                        new DecimalFormatSymbols(locale)
+                    ),
+                    locale,
+                    MATH_CONTEXT
+                )
+            ),
+            decimalFormat
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final ConverterDecimalFormatPool pool = ConverterDecimalFormatPool.with(1, 1);
+        final ConverterDecimalFormatPoolKey key = this.key(Locale.UK);
+        pool.checkin(key, new DecimalFormat());
+
+        this.toStringAndCheck(
+            pool,
+            "[" + key + "]"
+        );
+    }
+
+    @Override
+    public Class<ConverterDecimalFormatPool> type() {
+        return ConverterDecimalFormatPool.class;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterFailureTest implements ClassTesting<ConverterFailure>,
+    ToStringTesting<ConverterFailure> {
+
+    @Test
+    public void testEmpty() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+        this.checkEquals(
+            null,
+            failure.message()
+        );
+    }
+
+    @Test
+    public void testFail() {
+        final ConverterFailure failure = ConverterFailure.empty();
+        failure.fail(
+            "abc",
+            Long.class
+        );
+
+        this.checkEquals(
+            true,
+            failure.isFailed()
+        );
+        this.checkEquals(
+            FailConversion.handle(
+                "abc",
+                Long.class
+            ).rightValue(),
+            failure.message()
+        );
+    }
+
+    @Test
+    public void testFailWithMessage() {
+        final ConverterFailure failure = ConverterFailure.empty();
+        failure.fail(
+            "abc",
+            Long.class,
+            "Custom message 123"
+        );
+
+        this.checkEquals(
+            true,
+            failure.isFailed()
+        );
+        this.checkEquals(
+            "Custom message 123",
+            failure.message()
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final ConverterFailure failure = ConverterFailure.empty();
+        failure.fail(
+            "abc",
+            Long.class
+        );
+        failure.clear();
+
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+        this.checkEquals(
+            null,
+            failure.message()
+        );
+    }
+
+    // primitives.......................................................................................................
+
+    @Test
+    public void testLongValue() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            123L,
+            failure.longValue(
+                "123",
+                Either.left(123L)
+            )
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+    }
+
+    @Test
+    public void testLongValueNull() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            failure.longValue(
+                null,
+                Either.left(null)
+            )
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed()
+        );
+    }
+
+    @Test
+    public void testLongValueNotSupported() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            failure.longValue(
+                "abc",
+                FailConversion.notSupported()
+            )
+        );
+        this.checkEquals(
+            FailConversion.handle(
+                "abc",
+                Long.class
+            ).rightValue(),
+            failure.message()
+        );
+    }
+
+    @Test
+    public void testLongValueFailureMessage() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            failure.longValue(
+                "abc",
+                Either.right("Custom message 123")
+            )
+        );
+        this.checkEquals(
+            "Custom message 123",
+            failure.message()
+        );
+    }
+
+    @Test
+    public void testBooleanValue() {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            true,
+            failure.booleanValue(
+                "true",
+                Either.left(true)
+            )
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToStringEmpty() {
+        this.toStringAndCheck(
+            ConverterFailure.empty(),
+            ""
+        );
+    }
+
+    @Test
+    public void testToStringFailed() {
+        final ConverterFailure failure = ConverterFailure.empty();
+        failure.fail(
+            "abc",
+            Long.class,
+            "Custom message 123"
+        );
+
+        this.toStringAndCheck(
+            failure,
+            "Custom message 123"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterFailure> type() {
+        return ConverterFailure.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterMeteredTest extends ConverterTestCase2<ConverterMetered<ConverterContext>> {
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterMetered.with(
+                null,
+                ConverterMetrics.empty()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullMetricsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterMetered.with(
+                Converters.numberToNumber(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithMeteredRewraps() {
+        final Converter<ConverterContext> converter = Converters.numberToNumber();
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        this.checkEquals(
+            converter,
+            ConverterMetered.with(
+                ConverterMetered.with(
+                    converter,
+                    ConverterMetrics.empty()
+                ),
+                metrics
+            ).converter
+        );
+    }
+
+    @Test
+    public void testConvertRecords() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterMetered<ConverterContext> converter = ConverterMetered.with(
+            Converters.numberToNumber(),
+            metrics
+        );
+
+        this.convertAndCheck(
+            converter,
+            1,
+            Long.class,
+            1L
+        );
+        this.convertAndCheck(
+            converter,
+            2,
+            Long.class,
+            2L
+        );
+        this.convertFails(
+            converter,
+            "3",
+            Long.class
+        );
+        this.convertAndCheck(
+            converter,
+            4L,
+            Integer.class,
+            4
+        );
+
+        final List<ConverterMetricsSnapshot> snapshots = metrics.snapshot();
+        this.checkEquals(
+            "Number to Number Integer 1 1 0 0 0, Number to Number Long 3 2 1 0 0",
+            summary(snapshots)
+        );
+    }
+
+    @Test
+    public void testTryConvertNotSupportedRecordsUnsupported() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterMetered<ConverterContext> converter = ConverterMetered.with(
+            Converters.numberToNumber(),
+            metrics
+        );
+
+        this.checkEquals(
+            true,
+            converter.isNotSupported(
+                converter.tryConvert(
+                    "1",
+                    Long.class,
+                    this.createContext()
+                )
+            )
+        );
+
+        this.checkEquals(
+            "Number to Number Long 0 0 0 1 0",
+            summary(metrics.snapshot())
+        );
+    }
+
+    @Test
+    public void testConvertPrimitiveRecords() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterMetered<ConverterContext> converter = ConverterMetered.with(
+            Converters.numberToNumber(),
+            metrics
+        );
+        final ConverterContext context = this.createContext();
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            1L,
+            converter.convertLong(
+                1,
+                context,
+                failure
+            )
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed()
+        );
+
+        converter.convertLong(
+            "2",
+            context,
+            failure
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed()
+        );
+
+        this.checkEquals(
+            "Number to Number Long 2 1 1 0 0",
+            summary(metrics.snapshot())
+        );
+    }
+
+    @Test
+    public void testConvertAllRecordsBatch() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterMetered<ConverterContext> converter = ConverterMetered.with(
+            Converters.numberToNumber(),
+            metrics
+        );
+
+        final List<?> values = Lists.of(
+            1,
+            "2",
+            3
+        );
+        final Long[] results = new Long[values.size()];
+
+        this.checkEquals(
+            1,
+            converter.convertAll(
+                values,
+                Long.class,
+                this.createContext(),
+                results,
+                new BitSet()
+            )
+        );
+
+        this.checkEquals(
+            "Number to Number Long 3 2 1 0 1",
+            summary(metrics.snapshot())
+        );
+    }
+
+    @Test
+    public void testConverterForRecords() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> converter = ConverterMetered.with(
+            Converters.collection(
+                Lists.of(
+                    Converters.localDateToNumber(),
+                    Converters.numberToNumber()
+                )
+            ),
+            metrics
+        ).converterFor(
+            Integer.class,
+            Long.class
+        );
+
+        this.checkEquals(
+            ConverterMetered.class,
+            converter.getClass()
+        );
+        this.convertAndCheck(
+            converter,
+            1,
+            Long.class,
+            1L
+        );
+
+        this.checkEquals(
+            "Number to Number Long 1 1 0 0 0",
+            summary(metrics.snapshot())
+        );
+    }
+
+    @Test
+    public void testConverterForSame() {
+        final ConverterMetered<ConverterContext> converter = this.createConverter();
+
+        assertSame(
+            converter,
+            converter.converterFor(
+                Integer.class,
+                Long.class
+            )
+        );
+    }
+
+    @Test
+    public void testTreeRecordsEachNode() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> converter = ConverterMetered.tree(
+            Converters.collection(
+                Lists.of(
+                    Converters.numberToBoolean(),
+                    Converters.customToString(
+                        Converters.chain(
+                            Converters.booleanToNumber(),
+                            Long.class,
+                            Converters.numberToNumber()
+                        ),
+                        "custom"
+                    )
+                )
+            ),
+            metrics
+        );
+
+        this.convertAndCheck(
+            converter,
+            true,
+            Integer.class,
+            1
+        );
+
+        this.checkEquals(
+            "Boolean to Number Long 1 1 0 0 0, " +
+                "Boolean to Number to Number Integer 1 1 0 0 0, " +
+                "Number to Boolean | custom Integer 1 1 0 0 0, " +
+                "Number to Number Integer 1 1 0 0 0, " +
+                "custom Integer 1 1 0 0 0",
+            summary(metrics.snapshot())
+        );
+    }
+
+    private static String summary(final List<ConverterMetricsSnapshot> snapshots) {
+        return snapshots.stream()
+            .map(s -> s.name() + " " + s.type().getSimpleName() + " " + s.calls() + " " + s.successes() + " " + s.failures() + " " + s.unsupported() + " " + s.batches())
+            .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public ConverterMetered<ConverterContext> createConverter() {
+        return ConverterMetered.with(
+            Converters.numberToNumber(),
+            ConverterMetrics.empty()
+        );
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "Number to Number"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetered<ConverterContext>> type() {
+        return Cast.to(ConverterMetered.class);
+    }
+}
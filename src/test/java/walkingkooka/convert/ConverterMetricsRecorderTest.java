@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterMetricsRecorderTest implements ClassTesting2<ConverterMetricsRecorder>,
+    ToStringTesting<ConverterMetricsRecorder> {
+
+    @Test
+    public void testBucketSmall() {
+        for (int i = 0; i < ConverterMetricsRecorder.SUB_BUCKETS; i++) {
+            this.bucketAndCheck(
+                i,
+                i
+            );
+        }
+    }
+
+    @Test
+    public void testBucketNegative() {
+        this.bucketAndCheck(
+            -1,
+            0
+        );
+    }
+
+    @Test
+    public void testBucketPowersOfTwo() {
+        this.bucketAndCheck(4, 4);
+        this.bucketAndCheck(7, 7);
+        this.bucketAndCheck(8, 8);
+        this.bucketAndCheck(9, 8);
+        this.bucketAndCheck(10, 9);
+        this.bucketAndCheck(16, 12);
+    }
+
+    @Test
+    public void testBucketMaxValue() {
+        this.bucketAndCheck(
+            Long.MAX_VALUE,
+            ConverterMetricsRecorder.BUCKET_COUNT - 1
+        );
+    }
+
+    @Test
+    public void testBucketBoundsContinuous() {
+        for (int i = 0; i < ConverterMetricsRecorder.BUCKET_COUNT - 1; i++) {
+            final long highest = ConverterMetricsRecorder.highestNanos(i);
+
+            this.checkEquals(
+                highest + 1,
+                ConverterMetricsRecorder.lowestNanos(i + 1),
+                "bucket " + i
+            );
+            this.bucketAndCheck(
+                ConverterMetricsRecorder.lowestNanos(i),
+                i
+            );
+            this.bucketAndCheck(
+                highest,
+                i
+            );
+        }
+    }
+
+    private void bucketAndCheck(final long nanos,
+                                final int bucket) {
+        this.checkEquals(
+            bucket,
+            ConverterMetricsRecorder.bucket(nanos),
+            () -> "bucket " + nanos
+        );
+    }
+
+    @Test
+    public void testRecordAndSnapshot() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "Number to Number",
+            Long.class
+        );
+        recorder.record(true, 10);
+        recorder.record(true, 20);
+        recorder.record(false, 30);
+
+        final ConverterMetricsSnapshot snapshot = recorder.snapshot();
+        this.checkEquals(
+            3L,
+            snapshot.calls(),
+            "calls"
+        );
+        this.checkEquals(
+            2L,
+            snapshot.successes(),
+            "successes"
+        );
+        this.checkEquals(
+            1L,
+            snapshot.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            60L,
+            snapshot.totalNanos(),
+            "totalNanos"
+        );
+    }
+
+    @Test
+    public void testRecordUnsupported() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "Number to Number",
+            Long.class
+        );
+        recorder.record(true, 10);
+        recorder.recordUnsupported();
+
+        final ConverterMetricsSnapshot snapshot = recorder.snapshot();
+        this.checkEquals(
+            1L,
+            snapshot.calls(),
+            "calls"
+        );
+        this.checkEquals(
+            1L,
+            snapshot.unsupported(),
+            "unsupported"
+        );
+        this.checkEquals(
+            10L,
+            snapshot.totalNanos(),
+            "totalNanos"
+        );
+    }
+
+    @Test
+    public void testRecordBatch() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "Number to Number",
+            Long.class
+        );
+        recorder.recordBatch(3, 1, 30);
+
+        final ConverterMetricsSnapshot snapshot = recorder.snapshot();
+        this.checkEquals(
+            1L,
+            snapshot.batches(),
+            "batches"
+        );
+        this.checkEquals(
+            3L,
+            snapshot.calls(),
+            "calls"
+        );
+        this.checkEquals(
+            2L,
+            snapshot.successes(),
+            "successes"
+        );
+        this.checkEquals(
+            1L,
+            snapshot.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            10L,
+            snapshot.meanNanos(),
+            "meanNanos"
+        );
+        this.checkEquals(
+            11L,
+            snapshot.percentileNanos(100),
+            "p100"
+        );
+    }
+
+    @Test
+    public void testRecordBatchEmpty() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "Number to Number",
+            Long.class
+        );
+        recorder.recordBatch(0, 0, 5);
+
+        final ConverterMetricsSnapshot snapshot = recorder.snapshot();
+        this.checkEquals(
+            1L,
+            snapshot.batches(),
+            "batches"
+        );
+        this.checkEquals(
+            0L,
+            snapshot.calls(),
+            "calls"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "Number to Number",
+            Long.class
+        );
+        recorder.record(true, 100);
+
+        this.toStringAndCheck(
+            recorder,
+            "Number to Number to Long calls=1 successes=1 failures=0 unsupported=0 batches=0 mean=100ns p99=111ns"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetricsRecorder> type() {
+        return ConverterMetricsRecorder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterMetricsSnapshotTest implements ClassTesting2<ConverterMetricsSnapshot>,
+    HashCodeEqualsDefinedTesting2<ConverterMetricsSnapshot>,
+    ToStringTesting<ConverterMetricsSnapshot> {
+
+    private final static String NAME = "Number to Number";
+
+    @Test
+    public void testMeanNanosNoCalls() {
+        this.checkEquals(
+            0L,
+            this.snapshot()
+                .meanNanos()
+        );
+    }
+
+    @Test
+    public void testMeanNanos() {
+        this.checkEquals(
+            20L,
+            this.snapshot(10, 20, 30)
+                .meanNanos()
+        );
+    }
+
+    @Test
+    public void testPercentileNanosInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.snapshot()
+                .percentileNanos(101)
+        );
+    }
+
+    @Test
+    public void testPercentileNanosNoCalls() {
+        this.checkEquals(
+            0L,
+            this.snapshot()
+                .percentileNanos(50)
+        );
+    }
+
+    @Test
+    public void testPercentileNanos() {
+        final ConverterMetricsSnapshot snapshot = this.snapshot(1, 2, 3, 100);
+
+        this.checkEquals(
+            1L,
+            snapshot.percentileNanos(0),
+            "p0"
+        );
+        this.checkEquals(
+            2L,
+            snapshot.percentileNanos(50),
+            "p50"
+        );
+        this.checkEquals(
+            111L,
+            snapshot.percentileNanos(99),
+            "p99"
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentName() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            "different",
+            Long.class
+        );
+
+        this.checkNotEquals(
+            recorder.snapshot()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentCalls() {
+        this.checkNotEquals(
+            this.snapshot(1)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentUnsupported() {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            NAME,
+            Long.class
+        );
+        recorder.recordUnsupported();
+
+        this.checkNotEquals(
+            recorder.snapshot()
+        );
+    }
+
+    private ConverterMetricsSnapshot snapshot(final long... nanos) {
+        final ConverterMetricsRecorder recorder = ConverterMetricsRecorder.with(
+            NAME,
+            Long.class
+        );
+        for (final long n : nanos) {
+            recorder.record(
+                true,
+                n
+            );
+        }
+        return recorder.snapshot();
+    }
+
+    @Override
+    public ConverterMetricsSnapshot createObject() {
+        return this.snapshot();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.snapshot(10, 20),
+            "Number to Number to Long calls=2 successes=2 failures=0 unsupported=0 batches=0 mean=15ns p99=23ns"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetricsSnapshot> type() {
+        return ConverterMetricsSnapshot.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterMetricsTest implements ClassTesting2<ConverterMetrics> {
+
+    @Test
+    public void testSnapshotEmpty() {
+        this.checkEquals(
+            0,
+            ConverterMetrics.empty()
+                .snapshot()
+                .size()
+        );
+    }
+
+    @Test
+    public void testRecorderSame() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        assertSame(
+            metrics.recorder("Number to Number", Long.class),
+            metrics.recorder("Number to Number", Long.class)
+        );
+    }
+
+    @Test
+    public void testRecorderDifferentType() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        assertNotSame(
+            metrics.recorder("Number to Number", Long.class),
+            metrics.recorder("Number to Number", Integer.class)
+        );
+    }
+
+    @Test
+    public void testSnapshotSorted() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        metrics.recorder("b", Long.class)
+            .record(true, 1);
+        metrics.recorder("a", String.class)
+            .record(false, 2);
+        metrics.recorder("b", Integer.class)
+            .record(true, 3);
+
+        final List<ConverterMetricsSnapshot> snapshots = metrics.snapshot();
+        this.checkEquals(
+            3,
+            snapshots.size()
+        );
+        this.snapshotAndCheck(snapshots.get(0), "a", String.class);
+        this.snapshotAndCheck(snapshots.get(1), "b", Integer.class);
+        this.snapshotAndCheck(snapshots.get(2), "b", Long.class);
+    }
+
+    private void snapshotAndCheck(final ConverterMetricsSnapshot snapshot,
+                                  final String name,
+                                  final Class<?> type) {
+        this.checkEquals(
+            name,
+            snapshot.name(),
+            "name"
+        );
+        this.checkEquals(
+            type,
+            snapshot.type(),
+            "type"
+        );
+    }
+
+    @Test
+    public void testSnapshotReadOnly() {
+        final List<ConverterMetricsSnapshot> snapshots = ConverterMetrics.empty()
+            .snapshot();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> snapshots.add(null)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetrics> type() {
+        return ConverterMetrics.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
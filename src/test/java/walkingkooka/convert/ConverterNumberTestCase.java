@@ -19,6 +19,8 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public abstract class ConverterNumberTestCase<C extends ConverterNumber<T, ConverterContext>, T> extends ConverterTestCase2<C> {
@@ -52,6 +54,13 @@ public abstract class ConverterNumberTestCase<C extends ConverterNumber<T, Conve
         this.convertFails2(Double.MIN_VALUE);
     }
 
+    @Test
+    public void testConvertUnknownNumberTypeFails() {
+        this.convertFails2(
+            new AtomicLong(1)
+        );
+    }
+
     @Test
     public final void testConvertNull() {
         this.convertAndCheck(
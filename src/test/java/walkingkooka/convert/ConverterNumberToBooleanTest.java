@@ -22,6 +22,7 @@ import walkingkooka.Cast;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class ConverterNumberToBooleanTest extends ConverterNumberTestCase<ConverterNumberToBoolean<ConverterContext>, Boolean> {
 
@@ -138,6 +139,24 @@ public final class ConverterNumberToBooleanTest extends ConverterNumberTestCase<
         this.convertAndCheckFalse(0L);
     }
 
+    @Test
+    public void testConvertUnknownNumberTypeFailsMessage() {
+        final Number number = new AtomicLong(1);
+
+        this.checkEquals(
+            FailConversion.handle(
+                number,
+                Boolean.class
+            ),
+            this.createConverter()
+                .convert(
+                    number,
+                    Boolean.class,
+                    this.createContext()
+                )
+        );
+    }
+
     // String......
 
     @Test
@@ -148,6 +167,71 @@ public final class ConverterNumberToBooleanTest extends ConverterNumberTestCase<
         );
     }
 
+    // primitives.......................................................................................................
+
+    @Test
+    public void testConvertBoolean() {
+        this.convertBooleanAndCheck(1, true);
+        this.convertBooleanAndCheck(0, false);
+        this.convertBooleanAndCheck(-1L, true);
+        this.convertBooleanAndCheck((short) 0, false);
+        this.convertBooleanAndCheck((byte) 1, true);
+        this.convertBooleanAndCheck(0.5, true);
+        this.convertBooleanAndCheck(0.0f, false);
+        this.convertBooleanAndCheck(Double.NaN, false);
+        this.convertBooleanAndCheck(Double.POSITIVE_INFINITY, false);
+        this.convertBooleanAndCheck(BigDecimal.ONE, true);
+        this.convertBooleanAndCheck(BigInteger.ZERO, false);
+    }
+
+    @Test
+    public void testConvertBooleanFails() {
+        this.convertBooleanFails(new AtomicLong(1));
+        this.convertBooleanFails("1");
+        this.convertBooleanFails(null);
+    }
+
+    private void convertBooleanAndCheck(final Object value,
+                                    final boolean expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertBoolean(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertBoolean " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertBooleanFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            false,
+            this.createConverter()
+                .convertBoolean(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertBoolean " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertBoolean " + value
+        );
+    }
+
     // helper............................................................................................................
 
     private void convertAndCheckTrue(final Number number) {
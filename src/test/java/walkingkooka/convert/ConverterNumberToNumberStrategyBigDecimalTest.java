@@ -17,22 +17,37 @@
 
 package walkingkooka.convert;
 
+import org.junit.jupiter.api.Test;
+
 import java.math.BigDecimal;
 
-public final class ConverterNumberToNumberNumberTypeVisitorBigDecimalTest extends ConverterNumberToNumberNumberTypeVisitorTestCase<ConverterNumberToNumberNumberTypeVisitorBigDecimal, BigDecimal> {
+public final class ConverterNumberToNumberStrategyBigDecimalTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyBigDecimal, BigDecimal> {
+
+    @Test
+    public void testConvertUnsignedByte() {
+        this.convertAndCheck(
+            (byte) -1,
+            BigDecimal.valueOf(255)
+        );
+    }
 
     @Override
-    public ConverterNumberToNumberNumberTypeVisitorBigDecimal createVisitor() {
-        return new ConverterNumberToNumberNumberTypeVisitorBigDecimal();
+    ConverterNumberToNumberStrategyBigDecimal createStrategy() {
+        return ConverterNumberToNumberStrategyBigDecimal.INSTANCE;
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorBigDecimal> type() {
-        return ConverterNumberToNumberNumberTypeVisitorBigDecimal.class;
+    BigDecimal number(final int value) {
+        return BigDecimal.valueOf(value);
     }
 
     @Override
     Class<BigDecimal> targetType() {
         return BigDecimal.class;
     }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyBigDecimal> type() {
+        return ConverterNumberToNumberStrategyBigDecimal.class;
+    }
 }
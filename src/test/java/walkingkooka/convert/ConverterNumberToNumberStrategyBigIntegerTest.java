@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterNumberToNumberStrategyBigIntegerTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyBigInteger, BigInteger> {
+
+    @Test
+    public void testConvertDoubleWithFraction() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> this.createStrategy()
+                .convert(1.5)
+        );
+    }
+
+    @Override
+    ConverterNumberToNumberStrategyBigInteger createStrategy() {
+        return ConverterNumberToNumberStrategyBigInteger.INSTANCE;
+    }
+
+    @Override
+    BigInteger number(final int value) {
+        return BigInteger.valueOf(value);
+    }
+
+    @Override
+    Class<BigInteger> targetType() {
+        return BigInteger.class;
+    }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyBigInteger> type() {
+        return ConverterNumberToNumberStrategyBigInteger.class;
+    }
+}
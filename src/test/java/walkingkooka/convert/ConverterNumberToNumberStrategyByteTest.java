@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+
+
+public final class ConverterNumberToNumberStrategyByteTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyByte, Byte> {
+
+    @Test
+    public void testConvertIntegerOutOfRange() {
+        this.convertAndCheck(
+            256,
+            null
+        );
+    }
+
+    @Test
+    public void testConvertNegativeByte() {
+        this.convertAndCheck(
+            (byte) -1,
+            (byte) -1
+        );
+    }
+
+    @Override
+    ConverterNumberToNumberStrategyByte createStrategy() {
+        return ConverterNumberToNumberStrategyByte.INSTANCE;
+    }
+
+    @Override
+    Byte number(final int value) {
+        return (byte) value;
+    }
+
+    @Override
+    Class<Byte> targetType() {
+        return Byte.class;
+    }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyByte> type() {
+        return ConverterNumberToNumberStrategyByte.class;
+    }
+}
@@ -17,20 +17,36 @@
 
 package walkingkooka.convert;
 
-public final class ConverterNumberToNumberNumberTypeVisitorDoubleTest extends ConverterNumberToNumberNumberTypeVisitorTestCase<ConverterNumberToNumberNumberTypeVisitorDouble, Double> {
+import org.junit.jupiter.api.Test;
+
+
+public final class ConverterNumberToNumberStrategyDoubleTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyDouble, Double> {
+
+    @Test
+    public void testConvertLongPrecisionLoss() {
+        this.convertAndCheck(
+            Long.MAX_VALUE - 1,
+            null
+        );
+    }
 
     @Override
-    public ConverterNumberToNumberNumberTypeVisitorDouble createVisitor() {
-        return new ConverterNumberToNumberNumberTypeVisitorDouble();
+    ConverterNumberToNumberStrategyDouble createStrategy() {
+        return ConverterNumberToNumberStrategyDouble.INSTANCE;
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorDouble> type() {
-        return ConverterNumberToNumberNumberTypeVisitorDouble.class;
+    Double number(final int value) {
+        return (double) value;
     }
 
     @Override
     Class<Double> targetType() {
         return Double.class;
     }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyDouble> type() {
+        return ConverterNumberToNumberStrategyDouble.class;
+    }
 }
@@ -17,20 +17,25 @@
 
 package walkingkooka.convert;
 
-public final class ConverterNumberToNumberNumberTypeVisitorFloatTest extends ConverterNumberToNumberNumberTypeVisitorTestCase<ConverterNumberToNumberNumberTypeVisitorFloat, Float> {
+public final class ConverterNumberToNumberStrategyFloatTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyFloat, Float> {
 
     @Override
-    public ConverterNumberToNumberNumberTypeVisitorFloat createVisitor() {
-        return new ConverterNumberToNumberNumberTypeVisitorFloat();
+    ConverterNumberToNumberStrategyFloat createStrategy() {
+        return ConverterNumberToNumberStrategyFloat.INSTANCE;
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorFloat> type() {
-        return ConverterNumberToNumberNumberTypeVisitorFloat.class;
+    Float number(final int value) {
+        return (float) value;
     }
 
     @Override
     Class<Float> targetType() {
         return Float.class;
     }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyFloat> type() {
+        return ConverterNumberToNumberStrategyFloat.class;
+    }
 }
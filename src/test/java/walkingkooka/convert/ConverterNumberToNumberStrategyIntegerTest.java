@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+
+
+public final class ConverterNumberToNumberStrategyIntegerTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyInteger, Integer> {
+
+    @Test
+    public void testConvertLongOutOfRange() {
+        this.convertAndCheck(
+            Long.MAX_VALUE,
+            null
+        );
+    }
+
+    @Test
+    public void testConvertUnsignedByte() {
+        this.convertAndCheck(
+            (byte) -1,
+            255
+        );
+    }
+
+    @Test
+    public void testConvertDoubleNan() {
+        this.convertAndCheck(
+            Double.NaN,
+            null
+        );
+    }
+
+    @Override
+    ConverterNumberToNumberStrategyInteger createStrategy() {
+        return ConverterNumberToNumberStrategyInteger.INSTANCE;
+    }
+
+    @Override
+    Integer number(final int value) {
+        return value;
+    }
+
+    @Override
+    Class<Integer> targetType() {
+        return Integer.class;
+    }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyInteger> type() {
+        return ConverterNumberToNumberStrategyInteger.class;
+    }
+}
@@ -17,20 +17,25 @@
 
 package walkingkooka.convert;
 
-public final class ConverterNumberToNumberNumberTypeVisitorLongTest extends ConverterNumberToNumberNumberTypeVisitorTestCase<ConverterNumberToNumberNumberTypeVisitorLong, Long> {
+public final class ConverterNumberToNumberStrategyLongTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyLong, Long> {
 
     @Override
-    public ConverterNumberToNumberNumberTypeVisitorLong createVisitor() {
-        return new ConverterNumberToNumberNumberTypeVisitorLong();
+    ConverterNumberToNumberStrategyLong createStrategy() {
+        return ConverterNumberToNumberStrategyLong.INSTANCE;
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorLong> type() {
-        return ConverterNumberToNumberNumberTypeVisitorLong.class;
+    Long number(final int value) {
+        return (long) value;
     }
 
     @Override
     Class<Long> targetType() {
         return Long.class;
     }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyLong> type() {
+        return ConverterNumberToNumberStrategyLong.class;
+    }
 }
@@ -17,20 +17,36 @@
 
 package walkingkooka.convert;
 
-public final class ConverterNumberToNumberNumberTypeVisitorShortTest extends ConverterNumberToNumberNumberTypeVisitorTestCase<ConverterNumberToNumberNumberTypeVisitorShort, Short> {
+import org.junit.jupiter.api.Test;
+
+
+public final class ConverterNumberToNumberStrategyShortTest extends ConverterNumberToNumberStrategyTestCase<ConverterNumberToNumberStrategyShort, Short> {
+
+    @Test
+    public void testConvertIntegerOutOfRange() {
+        this.convertAndCheck(
+            Short.MAX_VALUE + 1,
+            null
+        );
+    }
 
     @Override
-    public ConverterNumberToNumberNumberTypeVisitorShort createVisitor() {
-        return new ConverterNumberToNumberNumberTypeVisitorShort();
+    ConverterNumberToNumberStrategyShort createStrategy() {
+        return ConverterNumberToNumberStrategyShort.INSTANCE;
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorShort> type() {
-        return ConverterNumberToNumberNumberTypeVisitorShort.class;
+    Short number(final int value) {
+        return (short) value;
     }
 
     @Override
     Class<Short> targetType() {
         return Short.class;
     }
+
+    @Override
+    public Class<ConverterNumberToNumberStrategyShort> type() {
+        return ConverterNumberToNumberStrategyShort.class;
+    }
 }
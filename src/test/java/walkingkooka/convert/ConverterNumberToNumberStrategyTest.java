@@ -17,19 +17,24 @@
 
 package walkingkooka.convert;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 
-public final class ConverterNumberToNumberNumberTypeVisitorNumberTest implements ClassTesting2<ConverterNumberToNumberNumberTypeVisitorNumber<?>> {
+public final class ConverterNumberToNumberStrategyTest implements ClassTesting2<ConverterNumberToNumberStrategy<?>> {
 
-    ConverterNumberToNumberNumberTypeVisitorNumberTest() {
-        super();
+    @Test
+    public void testStrategyUnknownType() {
+        this.checkEquals(
+            null,
+            ConverterNumberToNumberStrategy.strategy(Number.class)
+        );
     }
 
     @Override
-    public Class<ConverterNumberToNumberNumberTypeVisitorNumber<?>> type() {
-        return Cast.to(ConverterNumberToNumberNumberTypeVisitorNumber.class);
+    public Class<ConverterNumberToNumberStrategy<?>> type() {
+        return Cast.to(ConverterNumberToNumberStrategy.class);
     }
 
     @Override
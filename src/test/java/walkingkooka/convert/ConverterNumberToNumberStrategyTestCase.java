@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.TypeNameTesting;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public abstract class ConverterNumberToNumberStrategyTestCase<S extends ConverterNumberToNumberStrategy<N>, N extends Number> implements ClassTesting2<S>,
+    ToStringTesting<S>,
+    TypeNameTesting<S> {
+
+    ConverterNumberToNumberStrategyTestCase() {
+        super();
+    }
+
+    @Test
+    public final void testStrategy() {
+        assertSame(
+            this.createStrategy(),
+            ConverterNumberToNumberStrategy.strategy(this.targetType())
+        );
+    }
+
+    @Test
+    public final void testConvertInteger() {
+        this.convertAndCheck(
+            12,
+            this.number(12)
+        );
+    }
+
+    @Test
+    public final void testConvertLong() {
+        this.convertAndCheck(
+            34L,
+            this.number(34)
+        );
+    }
+
+    @Test
+    public final void testConvertSameType() {
+        final N number = this.number(56);
+
+        this.convertAndCheck(
+            number,
+            number
+        );
+    }
+
+    @Test
+    public final void testConvertUnknownNumberType() {
+        this.convertAndCheck(
+            new AtomicLong(1),
+            null
+        );
+    }
+
+    final void convertAndCheck(final Number number,
+                               final N expected) {
+        this.checkEquals(
+            expected,
+            this.createStrategy()
+                .convert(number),
+            () -> this.createStrategy() + " " + number
+        );
+    }
+
+    abstract S createStrategy();
+
+    abstract N number(final int value);
+
+    abstract Class<N> targetType();
+
+    // toString.........................................................................................................
+
+    @Test
+    public final void testToString() {
+        this.toStringAndCheck(
+            this.createStrategy(),
+            "Number->" + this.targetType().getSimpleName()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public final String typeNamePrefix() {
+        return ConverterNumberToNumberStrategy.class.getSimpleName();
+    }
+
+    @Override
+    public final String typeNameSuffix() {
+        return this.targetType().getSimpleName();
+    }
+
+    @Override
+    public final JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -19,6 +19,7 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.Either;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -332,6 +333,23 @@ public final class ConverterNumberToNumberTest extends ConverterTestCase2<Conver
         this.convertToByteFails(BIG_DECIMAL_DOUBLE_MAX2);
     }
 
+    @Test
+    public void testTryConvertDoubleToByteOutOfRangeFailure() {
+        final ConverterNumberToNumber<ConverterContext> converter = this.createConverter();
+
+        this.checkEquals(
+            FailConversion.handle(
+                1e300,
+                Byte.class
+            ),
+            converter.tryConvert(
+                1e300,
+                Byte.class,
+                this.createContext()
+            )
+        );
+    }
+
     @Test
     public void testConvertBigDecimalToByteFails2() {
         this.convertToByteFails(BigDecimal.valueOf(0.5));
@@ -1121,6 +1139,236 @@ public final class ConverterNumberToNumberTest extends ConverterTestCase2<Conver
         this.convertFails(number, Short.class);
     }
 
+    // primitives.......................................................................................................
+
+    @Test
+    public void testConvertDouble() {
+        this.convertDoubleAndCheck(1.5, 1.5);
+        this.convertDoubleAndCheck(1.5f, 1.5);
+        this.convertDoubleAndCheck(123, 123.0);
+        this.convertDoubleAndCheck(123L, 123.0);
+        this.convertDoubleAndCheck((short) 123, 123.0);
+        this.convertDoubleAndCheck((byte) 123, 123.0);
+        this.convertDoubleAndCheck(BigDecimal.valueOf(1.5), 1.5);
+        this.convertDoubleAndCheck(BigInteger.valueOf(123), 123.0);
+    }
+
+    @Test
+    public void testConvertDoubleFails() {
+        this.convertDoubleFails(Long.MAX_VALUE - 1);
+        this.convertDoubleFails("123");
+        this.convertDoubleFails(null);
+    }
+
+    @Test
+    public void testConvertInt() {
+        this.convertIntAndCheck(123, 123);
+        this.convertIntAndCheck((short) 123, 123);
+        this.convertIntAndCheck((byte) 123, 123);
+        this.convertIntAndCheck(123L, 123);
+        this.convertIntAndCheck(123.5, 123);
+        this.convertIntAndCheck(123.5f, 123);
+        this.convertIntAndCheck(BigDecimal.valueOf(123), 123);
+        this.convertIntAndCheck(BigInteger.valueOf(123), 123);
+    }
+
+    @Test
+    public void testConvertIntFails() {
+        this.convertIntFails(Long.MAX_VALUE);
+        this.convertIntFails(Double.NaN);
+        this.convertIntFails(1e10);
+        this.convertIntFails(BigDecimal.valueOf(1.5));
+        this.convertIntFails("123");
+    }
+
+    @Test
+    public void testConvertLong() {
+        this.convertLongAndCheck(123L, 123L);
+        this.convertLongAndCheck(123, 123L);
+        this.convertLongAndCheck((short) 123, 123L);
+        this.convertLongAndCheck((byte) 123, 123L);
+        this.convertLongAndCheck(123.5, 123L);
+        this.convertLongAndCheck(123.5f, 123L);
+        this.convertLongAndCheck(BigDecimal.valueOf(123), 123L);
+        this.convertLongAndCheck(BigInteger.valueOf(123), 123L);
+    }
+
+    @Test
+    public void testConvertLongFails() {
+        this.convertLongFails(Double.POSITIVE_INFINITY);
+        this.convertLongFails(Double.NaN);
+        this.convertLongFails(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+        this.convertLongFails("123");
+    }
+
+    @Test
+    public void testConvertLongSameAsConvert() {
+        final ConverterContext context = this.createContext();
+
+        for (final Number number : new Number[]{
+            Integer.MIN_VALUE,
+            -1,
+            0,
+            1,
+            Integer.MAX_VALUE,
+            Long.MIN_VALUE,
+            Long.MAX_VALUE,
+            -1.5,
+            1.5,
+            1e18,
+            9.3e18,
+            -9.3e18,
+            (float) 1e18
+        }) {
+            final ConverterFailure failure = ConverterFailure.empty();
+            final long converted = this.createConverter()
+                .convertLong(
+                    number,
+                    context,
+                    failure
+                );
+
+            this.checkEquals(
+                this.createConverter()
+                    .convert(
+                        number,
+                        Long.class,
+                        context
+                    ),
+                failure.isFailed() ?
+                    FailConversion.handle(
+                        number,
+                        Long.class
+                    ) :
+                    Either.left(converted),
+                () -> "convertLong " + number
+            );
+        }
+    }
+
+    private void convertDoubleAndCheck(final Object value,
+                                   final double expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertDouble(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertDouble " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertDoubleFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0.0,
+            this.createConverter()
+                .convertDouble(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertDouble " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertDouble " + value
+        );
+    }
+
+    private void convertIntAndCheck(final Object value,
+                                final int expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertInt(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertInt " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertIntFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0,
+            this.createConverter()
+                .convertInt(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertInt " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertInt " + value
+        );
+    }
+
+    private void convertLongAndCheck(final Object value,
+                                 final long expected) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            () -> failure.message()
+        );
+    }
+
+    private void convertLongFails(final Object value) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        this.checkEquals(
+            0L,
+            this.createConverter()
+                .convertLong(
+                    value,
+                    this.createContext(),
+                    failure
+                ),
+            () -> "convertLong " + value
+        );
+        this.checkEquals(
+            true,
+            failure.isFailed(),
+            () -> "convertLong " + value
+        );
+    }
+
     // helper............................................................................................................
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConverterNumberTypesTest implements ClassTesting2<ConverterNumberTypes> {
+
+    @Test
+    public void testNumberTypeNumber() {
+        this.numberTypeAndCheck(BigDecimal.ONE, ConverterNumberTypes.BIG_DECIMAL);
+        this.numberTypeAndCheck(BigInteger.ONE, ConverterNumberTypes.BIG_INTEGER);
+        this.numberTypeAndCheck((byte) 1, ConverterNumberTypes.BYTE);
+        this.numberTypeAndCheck(1.0, ConverterNumberTypes.DOUBLE);
+        this.numberTypeAndCheck(1.0f, ConverterNumberTypes.FLOAT);
+        this.numberTypeAndCheck(1, ConverterNumberTypes.INTEGER);
+        this.numberTypeAndCheck(1L, ConverterNumberTypes.LONG);
+        this.numberTypeAndCheck((short) 1, ConverterNumberTypes.SHORT);
+    }
+
+    @Test
+    public void testNumberTypeNumberUnknown() {
+        this.numberTypeAndCheck(
+            new AtomicLong(1),
+            ConverterNumberTypes.UNKNOWN
+        );
+    }
+
+    private void numberTypeAndCheck(final Number number,
+                                    final int expected) {
+        this.checkEquals(
+            expected,
+            ConverterNumberTypes.numberType(number),
+            () -> number.getClass().getName()
+        );
+    }
+
+    @Test
+    public void testNumberTypeClass() {
+        this.numberTypeAndCheck(BigDecimal.class, ConverterNumberTypes.BIG_DECIMAL);
+        this.numberTypeAndCheck(BigInteger.class, ConverterNumberTypes.BIG_INTEGER);
+        this.numberTypeAndCheck(Byte.class, ConverterNumberTypes.BYTE);
+        this.numberTypeAndCheck(Double.class, ConverterNumberTypes.DOUBLE);
+        this.numberTypeAndCheck(Float.class, ConverterNumberTypes.FLOAT);
+        this.numberTypeAndCheck(Integer.class, ConverterNumberTypes.INTEGER);
+        this.numberTypeAndCheck(Long.class, ConverterNumberTypes.LONG);
+        this.numberTypeAndCheck(Short.class, ConverterNumberTypes.SHORT);
+    }
+
+    @Test
+    public void testNumberTypeClassUnknown() {
+        this.numberTypeAndCheck(
+            Number.class,
+            ConverterNumberTypes.UNKNOWN
+        );
+    }
+
+    private void numberTypeAndCheck(final Class<?> type,
+                                    final int expected) {
+        this.checkEquals(
+            expected,
+            ConverterNumberTypes.numberType(type),
+            type::getName
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterNumberTypes> type() {
+        return ConverterNumberTypes.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterOptimizerTest implements ClassTesting2<ConverterOptimizer> {
+
+    private final static Converter<ConverterContext> SIMPLE = Converters.simple();
+
+    private final static Converter<ConverterContext> NUMBER_TO_NUMBER = Converters.numberToNumber();
+
+    private final static Converter<ConverterContext> NUMBER_TO_BOOLEAN = Converters.numberToBoolean();
+
+    private final static Converter<ConverterContext> BOOLEAN_TO_NUMBER = Converters.booleanToNumber();
+
+    @Test
+    public void testOptimizeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterOptimizer.optimize(null)
+        );
+    }
+
+    @Test
+    public void testOptimizeLeaf() {
+        assertSame(
+            SIMPLE,
+            ConverterOptimizer.optimize(SIMPLE)
+        );
+    }
+
+    @Test
+    public void testOptimizeFlattensNestedCollections() {
+        this.optimizeAndCheck(
+            Converters.collection(
+                Lists.of(
+                    SIMPLE,
+                    Converters.collection(
+                        Lists.of(
+                            NUMBER_TO_NUMBER,
+                            NUMBER_TO_BOOLEAN
+                        )
+                    )
+                )
+            ),
+            Converters.collection(
+                Lists.of(
+                    SIMPLE,
+                    NUMBER_TO_NUMBER,
+                    NUMBER_TO_BOOLEAN
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testOptimizeRemovesDuplicatesAndNever() {
+        final Converter<ConverterContext> converter = Converters.collection(
+            Lists.of(
+                SIMPLE,
+                Converters.never(),
+                NUMBER_TO_NUMBER,
+                Converters.collection(
+                    Lists.of(
+                        SIMPLE,
+                        NUMBER_TO_BOOLEAN
+                    )
+                )
+            )
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            ConverterCustomToString.wrap(
+                Converters.collection(
+                    Lists.of(
+                        SIMPLE,
+                        NUMBER_TO_NUMBER,
+                        NUMBER_TO_BOOLEAN
+                    )
+                ),
+                converter.toString()
+            )
+        );
+    }
+
+    @Test
+    public void testOptimizeOnlyNever() {
+        final Converter<ConverterContext> converter = Converters.collection(
+            Lists.of(
+                Converters.never(),
+                Converters.never()
+            )
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            ConverterCustomToString.wrap(
+                Converters.never(),
+                converter.toString()
+            )
+        );
+    }
+
+    @Test
+    public void testOptimizeKeepsCustomToStringMembers() {
+        final Converter<ConverterContext> converter = Converters.collection(
+            Lists.of(
+                Converters.customToString(
+                    SIMPLE,
+                    "custom"
+                ),
+                NUMBER_TO_BOOLEAN
+            )
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            converter
+        );
+    }
+
+    @Test
+    public void testOptimizeKeepsCustomToStringNestedCollection() {
+        final Converter<ConverterContext> converter = Converters.collection(
+            Lists.of(
+                SIMPLE,
+                Converters.customToString(
+                    Converters.collection(
+                        Lists.of(
+                            NUMBER_TO_NUMBER,
+                            Converters.never()
+                        )
+                    ),
+                    "numbers"
+                )
+            )
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            Converters.collection(
+                Lists.of(
+                    SIMPLE,
+                    Converters.customToString(
+                        NUMBER_TO_NUMBER,
+                        "numbers"
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testOptimizeChainStages() {
+        final Converter<ConverterContext> converter = Converters.chain(
+            Converters.customToString(
+                BOOLEAN_TO_NUMBER,
+                "custom"
+            ),
+            Long.class,
+            Converters.collection(
+                Lists.of(
+                    NUMBER_TO_BOOLEAN,
+                    Converters.never()
+                )
+            )
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            ConverterCustomToString.wrap(
+                Converters.chain(
+                    Converters.customToString(
+                        BOOLEAN_TO_NUMBER,
+                        "custom"
+                    ),
+                    Long.class,
+                    NUMBER_TO_BOOLEAN
+                ),
+                converter.toString()
+            )
+        );
+    }
+
+    @Test
+    public void testOptimizeChainRemovesNumberToNumberHop() {
+        final Converter<ConverterContext> converter = Converters.chain(
+            NUMBER_TO_NUMBER,
+            Number.class,
+            NUMBER_TO_BOOLEAN
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            ConverterCustomToString.wrap(
+                NUMBER_TO_BOOLEAN,
+                converter.toString()
+            )
+        );
+
+        final Converter<ConverterContext> optimized = ConverterOptimizer.optimize(converter);
+        final ConverterContext context = ConverterContexts.fake();
+        for (final Object value : Lists.of(0, 1L, 2.5)) {
+            this.checkEquals(
+                converter.convert(
+                    value,
+                    Boolean.class,
+                    context
+                ),
+                optimized.convert(
+                    value,
+                    Boolean.class,
+                    context
+                ),
+                () -> "convert " + value
+            );
+        }
+    }
+
+    @Test
+    public void testOptimizeChainKeepsNumberToNumberHop() {
+        final Converter<ConverterContext> converter = Converters.chain(
+            NUMBER_TO_NUMBER,
+            Long.class,
+            NUMBER_TO_BOOLEAN
+        );
+
+        this.optimizeAndCheck(
+            converter,
+            converter
+        );
+    }
+
+    // compile..........................................................................................................
+
+    @Test
+    public void testCompileNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterOptimizer.compile(null)
+        );
+    }
+
+    @Test
+    public void testCompileLeaf() {
+        assertSame(
+            SIMPLE,
+            ConverterOptimizer.compile(SIMPLE)
+        );
+    }
+
+    @Test
+    public void testCompileFlattensNamedNestedCollections() {
+        final Converter<ConverterContext> converter = this.compileOriginal();
+
+        this.checkEquals(
+            ConverterCustomToString.wrap(
+                ConverterCollection.indexed(
+                    Lists.of(
+                        NUMBER_TO_BOOLEAN,
+                        NUMBER_TO_NUMBER,
+                        Converters.objectToString()
+                    )
+                ),
+                converter.toString()
+            ),
+            ConverterOptimizer.compile(converter)
+        );
+    }
+
+    @Test
+    public void testCompileSameResults() {
+        final Converter<ConverterContext> original = this.compileOriginal();
+        final Converter<ConverterContext> compiled = ConverterOptimizer.compile(original);
+        final ConverterContext context = ConverterContexts.fake();
+
+        for (final Object value : new Object[]{null, 1, 2.5, "Hello", true}) {
+            for (final Class<?> type : new Class<?>[]{Boolean.class, Integer.class, BigDecimal.class, String.class, Void.class}) {
+                this.checkEquals(
+                    original.convert(
+                        value,
+                        type,
+                        context
+                    ),
+                    compiled.convert(
+                        value,
+                        type,
+                        context
+                    ),
+                    () -> value + " to " + type.getName()
+                );
+            }
+        }
+    }
+
+    private Converter<ConverterContext> compileOriginal() {
+        return Converters.collection(
+            Lists.of(
+                NUMBER_TO_BOOLEAN,
+                Converters.collection(
+                    Lists.of(
+                        NUMBER_TO_NUMBER,
+                        Converters.objectToString()
+                    )
+                ).setToString("Nested")
+            )
+        );
+    }
+
+    private void optimizeAndCheck(final Converter<ConverterContext> converter,
+                                  final Converter<ConverterContext> expected) {
+        final Converter<ConverterContext> optimized = ConverterOptimizer.optimize(converter);
+
+        this.checkEquals(
+            expected,
+            optimized,
+            converter::toString
+        );
+        this.checkEquals(
+            converter.toString(),
+            optimized.toString(),
+            "toString"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterOptimizer> type() {
+        return ConverterOptimizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
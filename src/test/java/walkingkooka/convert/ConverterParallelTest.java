@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterParallelTest extends ConverterTestCase2<ConverterParallel<ConverterContext>> {
+
+    private final static int THRESHOLD = 7;
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterParallel.with(
+                null,
+                THRESHOLD
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroThresholdFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterParallel.with(
+                Converters.numberToNumber(),
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testWithParallelSameThreshold() {
+        final ConverterParallel<ConverterContext> converter = this.createConverter();
+        assertSame(
+            converter,
+            ConverterParallel.with(
+                converter,
+                THRESHOLD
+            )
+        );
+    }
+
+    @Test
+    public void testWithParallelDifferentThreshold() {
+        final ConverterParallel<ConverterContext> converter = ConverterParallel.with(
+            this.createConverter(),
+            THRESHOLD + 1
+        );
+        this.checkEquals(
+            THRESHOLD + 1,
+            converter.threshold
+        );
+        this.checkEquals(
+            ConverterNumberToNumber.instance(),
+            converter.converter
+        );
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCheck(
+            123,
+            Long.class,
+            123L
+        );
+    }
+
+    @Test
+    public void testConvertFails() {
+        this.convertFails(
+            "abc",
+            Long.class
+        );
+    }
+
+    // batch............................................................................................................
+
+    @Test
+    public void testConvertAllLessThanThreshold() {
+        this.convertAllAndCheck(
+            THRESHOLD - 1,
+            this.createContext()
+        );
+    }
+
+    @Test
+    public void testConvertAllSplit() {
+        this.convertAllAndCheck(
+            THRESHOLD * 100 + 3,
+            this.createContext()
+        );
+    }
+
+    @Test
+    public void testConvertAllNotThreadSafeContext() {
+        this.convertAllAndCheck(
+            THRESHOLD * 100 + 3,
+            ConverterContexts.fake()
+        );
+    }
+
+    private void convertAllAndCheck(final int count,
+                                    final ConverterContext context) {
+        // every fifth value fails
+        final List<Object> values = IntStream.range(0, count)
+            .mapToObj(i -> 0 == i % 5 ? "fail" + i : (Object) (i + 0.5))
+            .collect(Collectors.toList());
+
+        final Long[] results = new Long[count];
+        final BitSet failures = new BitSet();
+        failures.set(count - 1); // should be cleared
+
+        final int failed = this.createConverter()
+            .convertAll(
+                values,
+                Long.class,
+                context,
+                results,
+                failures
+            );
+
+        final Long[] expectedResults = new Long[count];
+        final BitSet expectedFailures = new BitSet();
+        ConverterNumberToNumber.instance()
+            .convertAll(
+                values,
+                Long.class,
+                context,
+                expectedResults,
+                expectedFailures
+            );
+
+        this.checkEquals(
+            expectedFailures.cardinality(),
+            failed,
+            "failed"
+        );
+        this.checkEquals(
+            Arrays.asList(expectedResults),
+            Arrays.asList(results),
+            "results"
+        );
+        this.checkEquals(
+            expectedFailures,
+            failures,
+            "failures"
+        );
+    }
+
+    @Override
+    public ConverterParallel<ConverterContext> createConverter() {
+        return ConverterParallel.with(
+            Converters.numberToNumber(),
+            THRESHOLD
+        );
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return new FakeConverterContext() {
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            Converters.numberToNumber()
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterParallel<ConverterContext>> type() {
+        return Cast.to(ConverterParallel.class);
+    }
+}
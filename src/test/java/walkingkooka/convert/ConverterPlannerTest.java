@@ -0,0 +1,388 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterPlannerTest extends ConverterTestCase2<ConverterPlanner<ConverterContext>> {
+
+    private final static Converter<ConverterContext> STRING_TO_INTEGER = converter(
+        String.class,
+        Integer.class,
+        Integer::parseInt
+    );
+
+    private final static Converter<ConverterContext> INTEGER_TO_BOOLEAN = converter(
+        Integer.class,
+        Boolean.class,
+        (i) -> 0 != i
+    );
+
+    private final static Converter<ConverterContext> BOOLEAN_TO_CHARACTER = converter(
+        Boolean.class,
+        Character.class,
+        (b) -> b ? 'T' : 'F'
+    );
+
+    @Test
+    public void testWithNullConvertersFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterPlanner.with(
+                null,
+                ConverterPlanner.MAX_HOPS
+            )
+        );
+    }
+
+    @Test
+    public void testWithEmptyConvertersFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterPlanner.with(
+                Lists.empty(),
+                ConverterPlanner.MAX_HOPS
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidMaxHopsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterPlanner.with(
+                Lists.of(STRING_TO_INTEGER),
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testConvertDirect() {
+        this.convertAndCheck(
+            "12",
+            Integer.class,
+            12
+        );
+    }
+
+    @Test
+    public void testConvertTwoHops() {
+        this.convertAndCheck(
+            "1",
+            Boolean.class,
+            true
+        );
+    }
+
+    @Test
+    public void testConvertThreeHops() {
+        this.convertAndCheck(
+            "0",
+            Character.class,
+            'F'
+        );
+    }
+
+    @Test
+    public void testConvertBeyondMaxHopsFails() {
+        this.convertFails(
+            ConverterPlanner.with(
+                this.members(),
+                2
+            ),
+            "0",
+            Character.class
+        );
+    }
+
+    @Test
+    public void testConvertNoPathFails() {
+        this.convertFails(
+            true,
+            Integer.class
+        );
+    }
+
+    @Test
+    public void testConvertPlannedFails() {
+        this.convertFails(
+            "not a number",
+            Boolean.class
+        );
+    }
+
+    @Test
+    public void testConvertDirectFailsPlanNotTried() {
+        final Converter<ConverterContext> stringToBoolean = converter(
+            String.class,
+            Boolean.class,
+            (s) -> {
+                if (false == "true".equals(s) && false == "false".equals(s)) {
+                    throw new NumberFormatException("Invalid boolean " + s);
+                }
+                return Boolean.parseBoolean(s);
+            }
+        );
+
+        this.convertFails(
+            ConverterPlanner.with(
+                Lists.of(
+                    stringToBoolean,
+                    INTEGER_TO_BOOLEAN,
+                    STRING_TO_INTEGER
+                ),
+                ConverterPlanner.MAX_HOPS
+            ),
+            "1",
+            Boolean.class,
+            this.createContext(),
+            "Invalid boolean 1"
+        );
+    }
+
+    @Test
+    public void testConvertNumberToNumberOutOfRangePlanNotTried() {
+        this.convertFails(
+            ConverterPlanner.with(
+                Lists.of(
+                    converter(
+                        Number.class,
+                        String.class,
+                        Object::toString
+                    ),
+                    Converters.numberToNumber(),
+                    converter(
+                        String.class,
+                        Byte.class,
+                        (s) -> (byte) 0
+                    )
+                ),
+                ConverterPlanner.MAX_HOPS
+            ),
+            1e300,
+            Byte.class,
+            this.createContext(),
+            "Failed to convert 1.0E300 (java.lang.Double) to java.lang.Byte"
+        );
+    }
+
+    @Test
+    public void testConvertDirectNotSupportedPlanTried() {
+        final Converter<ConverterContext> stringToBoolean = new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return "true".equals(value) && Boolean.class == type;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                return this.successfulConversion(
+                    true,
+                    type
+                );
+            }
+
+            @Override
+            public ConverterCapabilities capabilities() {
+                return ConverterCapabilities.with(
+                    ConverterCapabilities.types(String.class),
+                    ConverterCapabilities.types(Boolean.class)
+                );
+            }
+        };
+
+        this.convertAndCheck(
+            ConverterPlanner.with(
+                Lists.of(
+                    stringToBoolean,
+                    INTEGER_TO_BOOLEAN,
+                    STRING_TO_INTEGER
+                ),
+                ConverterPlanner.MAX_HOPS
+            ),
+            "0",
+            Boolean.class,
+            false
+        );
+    }
+
+    @Test
+    public void testPlanRemembered() {
+        final ConverterPlanner<ConverterContext> converter = this.createConverter();
+
+        final Optional<Converter<ConverterContext>> plan = converter.plan(
+            String.class,
+            Boolean.class
+        );
+        this.checkEquals(
+            true,
+            plan.isPresent(),
+            "plan"
+        );
+        assertSame(
+            plan,
+            converter.plan(
+                String.class,
+                Boolean.class
+            )
+        );
+    }
+
+    @Test
+    public void testPlanChain() {
+        this.checkEquals(
+            Optional.of(
+                ConverterChain.with(
+                    ConverterChain.with(
+                        STRING_TO_INTEGER,
+                        Integer.class,
+                        INTEGER_TO_BOOLEAN
+                    ),
+                    Boolean.class,
+                    BOOLEAN_TO_CHARACTER
+                )
+            ),
+            this.createConverter()
+                .plan(
+                    String.class,
+                    Character.class
+                )
+        );
+    }
+
+    @Test
+    public void testPlanNone() {
+        this.checkEquals(
+            Optional.empty(),
+            this.createConverter()
+                .plan(
+                    Character.class,
+                    String.class
+                )
+        );
+    }
+
+    @Test
+    public void testPlanIgnoresDirect() {
+        this.checkEquals(
+            Optional.empty(),
+            this.createConverter()
+                .plan(
+                    String.class,
+                    Integer.class
+                )
+        );
+    }
+
+    @Override
+    public ConverterPlanner<ConverterContext> createConverter() {
+        return ConverterPlanner.with(
+            this.members(),
+            ConverterPlanner.MAX_HOPS
+        );
+    }
+
+    private List<Converter<ConverterContext>> members() {
+        return Lists.of(
+            BOOLEAN_TO_CHARACTER,
+            INTEGER_TO_BOOLEAN,
+            STRING_TO_INTEGER
+        );
+    }
+
+    private static <S, D> Converter<ConverterContext> converter(final Class<S> sourceType,
+                                                                final Class<D> targetType,
+                                                                final Function<S, D> function) {
+        return new ShortCircuitingConverter<>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return sourceType.isInstance(value) && targetType == type;
+            }
+
+            @Override
+            public <T> Either<T, String> doConvert(final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context) {
+                Either<T, String> result;
+                try {
+                    result = this.successfulConversion(
+                        function.apply(
+                            sourceType.cast(value)
+                        ),
+                        type
+                    );
+                } catch (final NumberFormatException cause) {
+                    result = Either.right(cause.getMessage());
+                }
+                return result;
+            }
+
+            @Override
+            public ConverterCapabilities capabilities() {
+                return ConverterCapabilities.with(
+                    ConverterCapabilities.types(sourceType),
+                    ConverterCapabilities.types(targetType)
+                );
+            }
+
+            @Override
+            public String toString() {
+                return sourceType.getSimpleName() + " to " + targetType.getSimpleName();
+            }
+        };
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverter(),
+            "Boolean to Character | Integer to Boolean | String to Integer"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterPlanner<ConverterContext>> type() {
+        return Cast.to(ConverterPlanner.class);
+    }
+}
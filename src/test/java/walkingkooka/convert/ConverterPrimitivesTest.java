@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterPrimitivesTest implements ClassTesting2<ConverterPrimitives> {
+
+    @Test
+    public void testType() {
+        this.typeAndCheck(ConverterPrimitives.BOOLEAN, Boolean.class);
+        this.typeAndCheck(ConverterPrimitives.DOUBLE, Double.class);
+        this.typeAndCheck(ConverterPrimitives.INT, Integer.class);
+        this.typeAndCheck(ConverterPrimitives.LONG, Long.class);
+    }
+
+    private void typeAndCheck(final int primitive,
+                              final Class<?> expected) {
+        this.checkEquals(
+            expected,
+            ConverterPrimitives.type(primitive)
+        );
+    }
+
+    @Test
+    public void testTypeUnknownFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterPrimitives.type(-1)
+        );
+    }
+
+    @Test
+    public void testConvertBoolean() {
+        this.checkEquals(
+            true,
+            ConverterPrimitives.toBoolean(
+                this.convert(
+                    1,
+                    ConverterPrimitives.BOOLEAN
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testConvertDouble() {
+        this.checkEquals(
+            1.5,
+            ConverterPrimitives.toDouble(
+                this.convert(
+                    1.5,
+                    ConverterPrimitives.DOUBLE
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testConvertInt() {
+        this.checkEquals(
+            -2,
+            ConverterPrimitives.toInt(
+                this.convert(
+                    -2L,
+                    ConverterPrimitives.INT
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testConvertLong() {
+        this.checkEquals(
+            Long.MAX_VALUE,
+            this.convert(
+                Long.MAX_VALUE,
+                ConverterPrimitives.LONG
+            )
+        );
+    }
+
+    private long convert(final Number value,
+                         final int primitive) {
+        final ConverterFailure failure = ConverterFailure.empty();
+
+        final long converted = ConverterPrimitives.convert(
+            primitive == ConverterPrimitives.BOOLEAN ?
+                Converters.numberToBoolean() :
+                Converters.numberToNumber(),
+            value,
+            ConverterContexts.fake(),
+            failure,
+            primitive
+        );
+
+        this.checkEquals(
+            false,
+            failure.isFailed(),
+            "failed"
+        );
+        return converted;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterPrimitives> type() {
+        return ConverterPrimitives.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
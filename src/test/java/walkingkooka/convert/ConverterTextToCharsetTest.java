@@ -41,6 +41,60 @@ public final class ConverterTextToCharsetTest extends ConverterTextToTestCase<Co
         );
     }
 
+    @Test
+    public void testConvertEmptyStringToCharsetFails() {
+        this.convertFails(
+            "",
+            Charset.class
+        );
+    }
+
+    @Test
+    public void testConvertUnsupportedStringToCharsetFails() {
+        this.convertFails(
+            "Unsupported-Charset-123",
+            Charset.class
+        );
+    }
+
+    @Test
+    public void testIsParsableIllegalName() {
+        this.isParsableAndCheck(
+            "-UTF-8",
+            false
+        );
+    }
+
+    @Test
+    public void testIsParsableUnsupported() {
+        this.isParsableAndCheck(
+            "Unsupported-Charset-123",
+            false
+        );
+    }
+
+    @Test
+    public void testIsParsable() {
+        this.isParsableAndCheck(
+            "UTF-8",
+            true
+        );
+    }
+
+    private void isParsableAndCheck(final String text,
+                                    final boolean expected) {
+        this.checkEquals(
+            expected,
+            this.createConverter()
+                .isParsable(
+                    text,
+                    Charset.class,
+                    this.createContext()
+                ),
+            () -> "isParsable " + text
+        );
+    }
+
     @Test
     public void testConvertStringUTF8ToCharset() {
         this.convertAndCheck(
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterTextToCollectionElementTest implements ClassTesting2<ConverterTextToCollectionElement>,
+    ToStringTesting<ConverterTextToCollectionElement> {
+
+    @Test
+    public void testEmpty() {
+        final ConverterTextToCollectionElement element = ConverterTextToCollectionElement.with("abc");
+
+        this.checkEquals(
+            true,
+            element.isEmpty()
+        );
+        this.checkEquals(
+            true,
+            element.isBlank()
+        );
+        this.checkEquals(
+            "",
+            element.trimmedText()
+        );
+    }
+
+    @Test
+    public void testContiguous() {
+        final ConverterTextToCollectionElement element = this.append(
+            " abc ,def",
+            0, 1, 2, 3, 4
+        );
+
+        this.checkEquals(
+            false,
+            element.isEmpty()
+        );
+        this.checkEquals(
+            false,
+            element.isBlank()
+        );
+        this.checkEquals(
+            "abc",
+            element.trimmedText()
+        );
+    }
+
+    @Test
+    public void testBlank() {
+        final ConverterTextToCollectionElement element = this.append(
+            " \t x",
+            0, 1, 2
+        );
+
+        this.checkEquals(
+            false,
+            element.isEmpty()
+        );
+        this.checkEquals(
+            true,
+            element.isBlank()
+        );
+        this.checkEquals(
+            "",
+            element.trimmedText()
+        );
+    }
+
+    @Test
+    public void testNotContiguous() {
+        this.checkEquals(
+            "ab\"cd",
+            this.append(
+                "a\"b\\\"cd\" ",
+                0, 2, 4, 5, 6
+            ).trimmedText()
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final ConverterTextToCollectionElement element = this.append(
+            "a\"b,cd",
+            0, 2
+        );
+        this.checkEquals(
+            "ab",
+            element.trimmedText()
+        );
+
+        element.clear();
+        this.checkEquals(
+            true,
+            element.isEmpty()
+        );
+
+        element.append(4);
+        element.append(5);
+
+        this.checkEquals(
+            "cd",
+            element.trimmedText()
+        );
+    }
+
+    private ConverterTextToCollectionElement append(final CharSequence text,
+                                                    final int... positions) {
+        final ConverterTextToCollectionElement element = ConverterTextToCollectionElement.with(text);
+        for (final int position : positions) {
+            element.append(position);
+        }
+        return element;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.append(
+                "abc, def",
+                0, 1, 2
+            ),
+            "abc"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterTextToCollectionElement> type() {
+        return ConverterTextToCollectionElement.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.SortedSets;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterTextToCollectionSetElementsTest implements ClassTesting2<ConverterTextToCollectionSetElements<?>> {
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterTextToCollectionSetElements.empty()
+                .add(null)
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        this.addAndCheck();
+    }
+
+    @Test
+    public void testSorted() {
+        this.addAndCheck(
+            "c", "a", "b"
+        );
+    }
+
+    @Test
+    public void testDuplicatesRemoved() {
+        this.addAndCheck(
+            "b", "a", "b", "c", "a", "a", "d", "e", "f", "g", "h", "i", "b"
+        );
+    }
+
+    @Test
+    public void testAddDuplicateReturnsTrue() {
+        final ConverterTextToCollectionSetElements<String> elements = ConverterTextToCollectionSetElements.empty();
+        elements.add("a");
+
+        this.checkEquals(
+            true,
+            elements.add("a")
+        );
+        this.checkEquals(
+            2,
+            elements.size()
+        );
+        this.checkEquals(
+            Lists.of("a", "a"),
+            new ArrayList<>(elements)
+        );
+    }
+
+    @Test
+    public void testDuplicatesRemovedUsingCompareTo() {
+        final ConverterTextToCollectionSetElements<BigDecimal> elements = ConverterTextToCollectionSetElements.empty();
+        elements.add(new BigDecimal("1.0"));
+        elements.add(new BigDecimal("2"));
+        elements.add(new BigDecimal("1.00"));
+
+        this.checkEquals(
+            Lists.of(
+                new BigDecimal("1.0"),
+                new BigDecimal("2")
+            ),
+            new ArrayList<>(elements.toSet())
+        );
+    }
+
+    @Test
+    public void testToSetReadOnly() {
+        final ConverterTextToCollectionSetElements<String> elements = ConverterTextToCollectionSetElements.empty();
+        elements.add("a");
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> elements.toSet()
+                .add("b")
+        );
+    }
+
+    private void addAndCheck(final String... elements) {
+        final ConverterTextToCollectionSetElements<String> collection = ConverterTextToCollectionSetElements.empty();
+        final Set<String> expected = SortedSets.tree();
+
+        for (final String element : elements) {
+            collection.add(element);
+            expected.add(element);
+        }
+
+        final Set<String> set = collection.toSet();
+        this.checkEquals(
+            new ArrayList<>(expected),
+            new ArrayList<>(set)
+        );
+        this.checkEquals(
+            expected,
+            set
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterTextToCollectionSetElements<?>> type() {
+        return Cast.to(ConverterTextToCollectionSetElements.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterTextToCollectionTokenizerTest implements ClassTesting2<ConverterTextToCollectionTokenizer> {
+
+    @Test
+    public void testEmpty() {
+        this.tokenizeAndCheck(
+            "",
+            false,
+            ""
+        );
+    }
+
+    @Test
+    public void testEmptySkipEmptyLast() {
+        this.tokenizeAndCheck(
+            "",
+            true
+        );
+    }
+
+    @Test
+    public void testSeveral() {
+        this.tokenizeAndCheck(
+            " a ,b,  c",
+            false,
+            "a",
+            "b",
+            "c"
+        );
+    }
+
+    @Test
+    public void testQuotes() {
+        this.tokenizeAndCheck(
+            "\"a,b\" , \"\\\"c\"",
+            false,
+            "a",
+            "b",
+            "\"c"
+        );
+    }
+
+    @Test
+    public void testCharacterAfterQuotesFails() {
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> this.tokenize(
+                "\"a\"b",
+                false,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testUnclosedQuotesFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.tokenize(
+                "\"a",
+                false,
+                1
+            )
+        );
+    }
+
+    private void tokenizeAndCheck(final String text,
+                                  final boolean skipEmptyLast,
+                                  final String... expected) {
+        for (int chunk = 1; chunk <= text.length() + 1; chunk++) {
+            final int c = chunk;
+            this.checkEquals(
+                Lists.of(expected),
+                this.tokenize(
+                    text,
+                    skipEmptyLast,
+                    chunk
+                ),
+                () -> "chunk " + c
+            );
+        }
+    }
+
+    /**
+     * Tokenizes the text, giving each chunk as a new {@link String} so partial elements must be copied.
+     */
+    private List<String> tokenize(final String text,
+                                  final boolean skipEmptyLast,
+                                  final int chunk) {
+        final List<String> elements = Lists.array();
+        final ConverterTextToCollectionTokenizer tokenizer = ConverterTextToCollectionTokenizer.with(
+            ',',
+            skipEmptyLast,
+            elements::add
+        );
+
+        final int length = text.length();
+        for (int i = 0; i < length; i += chunk) {
+            final int to = Math.min(length, i + chunk);
+            tokenizer.accept(
+                new String(text.substring(i, to)),
+                0,
+                to - i
+            );
+        }
+        tokenizer.end();
+
+        return elements;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterTextToCollectionTokenizer> type() {
+        return ConverterTextToCollectionTokenizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterTextToListIteratorTest implements ClassTesting2<ConverterTextToListIterator<?>>,
+    ToStringTesting<ConverterTextToListIterator<?>> {
+
+    @Test
+    public void testWithNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterTextToListIterator.with(
+                null,
+                String.class,
+                this.context()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullElementTypeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterTextToListIterator.with(
+                "",
+                null,
+                this.context()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterTextToListIterator.with(
+                "",
+                String.class,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testTextEmptyString() {
+        this.iterateAndCheck(
+            "",
+            String.class
+        );
+    }
+
+    @Test
+    public void testTextStrings() {
+        this.iterateAndCheck(
+            "a*\" b*c \"* d ",
+            String.class,
+            "a",
+            "b*c",
+            "d"
+        );
+    }
+
+    @Test
+    public void testTextStringsTrailingSeparator() {
+        this.iterateAndCheck(
+            "a*b*",
+            String.class,
+            "a",
+            "b"
+        );
+    }
+
+    @Test
+    public void testTextIntegers() {
+        this.iterateAndCheck(
+            "1*2* 3 ",
+            Integer.class,
+            1,
+            2,
+            3
+        );
+    }
+
+    @Test
+    public void testTextUnclosedQuotesFails() {
+        final Iterator<String> iterator = ConverterTextToListIterator.with(
+            "a*\"b",
+            String.class,
+            this.context()
+        );
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> {
+                while (iterator.hasNext()) {
+                    iterator.next();
+                }
+            }
+        );
+        this.checkEquals(
+            "Unclosed quotes",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testNextWhenEmptyFails() {
+        final Iterator<String> iterator = ConverterTextToListIterator.with(
+            "",
+            String.class,
+            this.context()
+        );
+
+        assertThrows(
+            NoSuchElementException.class,
+            iterator::next
+        );
+    }
+
+    @Test
+    public void testManyChunks() {
+        // quoted elements cross chunk boundaries
+        final List<String> expected = IntStream.range(0, ConverterTextToListIterator.CHUNK)
+            .mapToObj(i -> "element" + i)
+            .collect(Collectors.toList());
+        final String text = expected.stream()
+            .map(e -> "\"" + e + "\"")
+            .collect(Collectors.joining("*"));
+
+        this.checkEquals(
+            expected,
+            this.collect(
+                ConverterTextToListIterator.with(
+                    text,
+                    String.class,
+                    this.context()
+                )
+            ),
+            "text"
+        );
+
+        this.checkEquals(
+            expected,
+            this.collect(
+                ConverterTextToListIterator.with(
+                    CharBuffer.wrap(text),
+                    String.class,
+                    this.context()
+                )
+            ),
+            "CharBuffer"
+        );
+    }
+
+    private <E> void iterateAndCheck(final String text,
+                                     final Class<E> elementType,
+                                     final E... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            this.collect(
+                Converters.textToListIterator(
+                    text,
+                    elementType,
+                    this.context()
+                )
+            )
+        );
+    }
+
+    private <E> List<E> collect(final Iterator<E> iterator) {
+        final List<E> list = Lists.array();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    private ConverterContext context() {
+        return new FakeConverterContext() {
+
+            @Override
+            public char valueSeparator() {
+                return '*';
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> target) {
+                return this.successfulConversion(
+                    String.class == target ?
+                        value :
+                        Integer.parseInt((String) value),
+                    target
+                );
+            }
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ConverterTextToListIterator.with(
+                "1*2",
+                Integer.class,
+                this.context()
+            ),
+            "TEXT to Integer elements"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterTextToListIterator<?>> type() {
+        return Cast.to(ConverterTextToListIterator.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
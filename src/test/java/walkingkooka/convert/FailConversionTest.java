@@ -64,6 +64,26 @@ public final class FailConversionTest implements ClassTesting<FailConversion> {
         );
     }
 
+    @Test
+    public void testNotSupportedIsNotSupported() {
+        this.checkEquals(
+            true,
+            FailConversion.isNotSupported(
+                FailConversion.notSupported()
+            )
+        );
+    }
+
+    @Test
+    public void testIsNotSupportedWithFailure() {
+        this.checkEquals(
+            false,
+            FailConversion.isNotSupported(
+                FailConversion.handle(1, String.class)
+            )
+        );
+    }
+
     // ClassTesting.....................................................................................................
 
     @Override
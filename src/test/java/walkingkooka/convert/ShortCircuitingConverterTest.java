@@ -48,6 +48,35 @@ public final class ShortCircuitingConverterTest implements ConverterTesting2<Tes
         );
     }
 
+    @Test
+    public void testTryConvertWhenCanConvertFalseNotSupported() {
+        final TestShortCircuitingConverter converter = this.createConverter();
+
+        this.checkEquals(
+            true,
+            converter.isNotSupported(
+                converter.tryConvert(
+                    "1",
+                    Void.class,
+                    this.createContext()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testTryConvert() {
+        this.checkEquals(
+            Either.left(12),
+            this.createConverter()
+                .tryConvert(
+                    "12",
+                    Integer.class,
+                    this.createContext()
+                )
+        );
+    }
+
     @Override
     public void testCheckToStringOverridden() {
         throw new UnsupportedOperationException();
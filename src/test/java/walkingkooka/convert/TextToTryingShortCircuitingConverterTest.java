@@ -78,6 +78,74 @@ public final class TextToTryingShortCircuitingConverterTest implements Converter
         );
     }
 
+    @Test
+    public void testConvertConvertsToStringOnce() {
+        final int[] count = new int[1];
+
+        this.convertAndCheck(
+            this.createConverter(),
+            "1",
+            Integer.class,
+            new FakeConverterContext() {
+
+                @Override
+                public boolean canConvert(final Object value,
+                                          final Class<?> type) {
+                    return true;
+                }
+
+                @Override
+                public <T> Either<T, String> convert(final Object value,
+                                                     final Class<T> target) {
+                    count[0]++;
+                    return this.successfulConversion(
+                        value,
+                        target
+                    );
+                }
+            },
+            1
+        );
+
+        this.checkEquals(
+            1,
+            count[0],
+            "context convert count"
+        );
+    }
+
+    @Test
+    public void testTryConvertNotTargetType() {
+        final TestTextToTryingShortCircuitingConverter converter = this.createConverter();
+
+        this.checkEquals(
+            true,
+            converter.isNotSupported(
+                converter.tryConvert(
+                    "1",
+                    String.class,
+                    this.createContext()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testTryConvertNotText() {
+        final TestTextToTryingShortCircuitingConverter converter = this.createConverter();
+
+        this.checkEquals(
+            true,
+            converter.isNotSupported(
+                converter.tryConvert(
+                    1,
+                    Integer.class,
+                    this.createContext()
+                )
+            )
+        );
+    }
+
     @Override
     public void testCheckToStringOverridden() {
         throw new UnsupportedOperationException();